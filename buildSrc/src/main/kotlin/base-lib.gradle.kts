@@ -26,14 +26,23 @@ sourceSets {
         java.srcDir("test")
         resources.srcDir("testResources")
     }
+    create("jmh") {
+        java.srcDir("jmh")
+    }
 }
 
 configurations["manualImplementation"].extendsFrom(configurations["implementation"])
 configurations["manualRuntimeOnly"].extendsFrom(configurations["runtimeOnly"])
 configurations["manualCompileOnly"].extendsFrom(configurations["compileOnly"])
+configurations["jmhImplementation"].extendsFrom(configurations["implementation"])
+configurations["jmhRuntimeOnly"].extendsFrom(configurations["runtimeOnly"])
 
 dependencies {
+    "testImplementation"("junit:junit:4.13.2")
     "manualImplementation"(sourceSets["main"].output)
+    "jmhImplementation"(sourceSets["main"].output)
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
 }
 
 tasks {
@@ -51,6 +60,21 @@ tasks {
     jar {
         manifest.attributes["Implementation-Version"] = project.version
     }
+    test {
+        jvmArgs("-Djava.awt.headless=true")
+    }
+}
+
+tasks.register<JavaExec>("jmh") {
+    description = "Runs the JMH benchmarks, pass -Pjmh.includes=<regex> to select a subset"
+    group = "verification"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    jvmArgs("-Djava.awt.headless=true")
+    val includes = project.findProperty("jmh.includes")
+    if (includes != null) {
+        args(includes.toString())
+    }
 }
 
 tasks.clean {
@@ -0,0 +1,26 @@
+package org.jdesktop.swingx.benchmark;
+
+import org.jdesktop.swingx.JXTable;
+
+import javax.swing.table.TableModel;
+
+/**
+ * Factory methods for the JXTable fixtures shared by the benchmarks.
+ */
+final class BenchmarkTables {
+
+    /**
+     * Creates a table showing the given model with a fixed size, as
+     * if it were realized in a viewport. Rollover is disabled, it
+     * queries the mouse position which is not supported in headless mode.
+     */
+    static JXTable createTable(TableModel model) {
+        JXTable table = new JXTable(model);
+        table.setRolloverEnabled(false);
+        table.setSize(table.getColumnCount() * 100, 800);
+        return table;
+    }
+
+    private BenchmarkTables() {
+    }
+}
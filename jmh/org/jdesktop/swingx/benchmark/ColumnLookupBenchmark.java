@@ -0,0 +1,64 @@
+package org.jdesktop.swingx.benchmark;
+
+import org.jdesktop.swingx.table.DefaultTableColumnModelExt;
+import org.jdesktop.swingx.table.TableColumnExt;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures looking up columns of a wide column model by identifier and by x
+ * position, as done on every mouse move and repaint.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColumnLookupBenchmark {
+
+    @Param({"100", "5000"})
+    public int columnCount;
+
+    private DefaultTableColumnModelExt columnModel;
+    private Object[] identifiers;
+    private int lookup;
+
+    @Setup
+    public void setUp() {
+        columnModel = new DefaultTableColumnModelExt();
+        identifiers = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            TableColumnExt column = new TableColumnExt(i);
+            identifiers[i] = "column " + i;
+            column.setIdentifier(identifiers[i]);
+            column.setWidth(40 + i % 60);
+            columnModel.addColumn(column);
+        }
+        // a few hidden columns
+        for (int i = 0; i < columnCount; i += 10) {
+            columnModel.getColumnExt(identifiers[i]).setVisible(false);
+        }
+    }
+
+    @Benchmark
+    public TableColumnExt getColumnExtByIdentifier() {
+        return columnModel.getColumnExt(identifiers[lookup++ % columnCount]);
+    }
+
+    @Benchmark
+    public int getColumnIndexAtX() {
+        return columnModel.getColumnIndexAtX((lookup++ * 7919) % columnModel.getTotalColumnWidth());
+    }
+}
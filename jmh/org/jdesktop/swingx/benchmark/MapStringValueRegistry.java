@@ -0,0 +1,54 @@
+package org.jdesktop.swingx.benchmark;
+
+import org.jdesktop.swingx.renderer.StringValue;
+import org.jdesktop.swingx.renderer.StringValues;
+import org.jdesktop.swingx.sort.StringValueProvider;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The map-based lookup of the former <code>StringValueRegistry</code>, kept as
+ * baseline for <code>StringValueRegistryBenchmark</code>: every query does up to
+ * three lookups with boxed column keys.
+ */
+final class MapStringValueRegistry implements StringValueProvider {
+
+    private final Map<Class<?>, StringValue> perClass = new HashMap<>();
+    private final Map<Integer, StringValue> perColumn = new HashMap<>();
+    private final Map<Integer, Class<?>> classPerColumn = new HashMap<>();
+
+    @Override
+    public StringValue getStringValue(int row, int column) {
+        StringValue sv = perColumn.get(column);
+        if (sv == null) {
+            Class<?> clazz = classPerColumn.get(column);
+            sv = getStringValueByClass(clazz != null ? clazz : Object.class);
+        }
+        if (sv == null) {
+            sv = getStringValueByClass(Object.class);
+        }
+        return sv != null ? sv : StringValues.TO_STRING;
+    }
+
+    void setStringValue(StringValue sv, int column) {
+        perColumn.put(column, sv);
+    }
+
+    void setStringValue(StringValue sv, Class<?> clazz) {
+        perClass.put(clazz, sv);
+    }
+
+    void setColumnClass(Class<?> clazz, int column) {
+        classPerColumn.put(column, clazz);
+    }
+
+    private StringValue getStringValueByClass(Class<?> clazz) {
+        if (clazz == null)
+            return null;
+        StringValue sv = perClass.get(clazz);
+        if (sv != null)
+            return sv;
+        return getStringValueByClass(clazz.getSuperclass());
+    }
+}
@@ -0,0 +1,110 @@
+package org.jdesktop.swingx.benchmark;
+
+import org.jdesktop.swingx.JXTable;
+import org.jdesktop.swingx.sort.TableSortController;
+import org.jdesktop.swingx.table.ColumnarTableModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.swing.RowSorter.SortKey;
+import javax.swing.SortOrder;
+import javax.swing.table.DefaultTableModel;
+import javax.swing.table.TableModel;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a grid of doubles in a <code>ColumnarTableModel</code> with the same grid
+ * of boxed values in a <code>DefaultTableModel</code>: rendering one screen of cells
+ * and sorting by a column. Run with <code>-prof gc</code> to compare the allocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class NumericGridBenchmark {
+
+    private static final int VISIBLE_ROWS = 50;
+    private static final int COLUMN_COUNT = 20;
+
+    @Param({"100000"})
+    public int rowCount;
+
+    @Param({"false", "true"})
+    public boolean columnar;
+
+    private JXTable table;
+    private TableSortController<TableModel> sorter;
+    private List<SortKey> ascending;
+    private List<SortKey> descending;
+    private boolean sortAscending;
+
+    @Setup
+    public void setUp() {
+        String[] names = new String[COLUMN_COUNT];
+        Class<?>[] types = new Class<?>[COLUMN_COUNT];
+        Arrays.fill(types, double.class);
+        for (int column = 0; column < COLUMN_COUNT; column++) {
+            names[column] = "Column " + column;
+        }
+        Random random = new Random(42);
+        TableModel model;
+        if (columnar) {
+            ColumnarTableModel columnarModel = new ColumnarTableModel(names, types, rowCount);
+            for (int row = 0; row < rowCount; row++) {
+                for (int column = 0; column < COLUMN_COUNT; column++) {
+                    columnarModel.setDoubleAt(random.nextDouble() * 1000, row, column);
+                }
+            }
+            model = columnarModel;
+        } else {
+            DefaultTableModel defaultModel = new DefaultTableModel(names, rowCount) {
+                @Override
+                public Class<?> getColumnClass(int column) {
+                    return Double.class;
+                }
+            };
+            for (int row = 0; row < rowCount; row++) {
+                for (int column = 0; column < COLUMN_COUNT; column++) {
+                    defaultModel.setValueAt(random.nextDouble() * 1000, row, column);
+                }
+            }
+            model = defaultModel;
+        }
+        table = BenchmarkTables.createTable(model);
+        sorter = new TableSortController<>(model);
+        ascending = Collections.singletonList(new SortKey(3, SortOrder.ASCENDING));
+        descending = Collections.singletonList(new SortKey(3, SortOrder.DESCENDING));
+    }
+
+    @Benchmark
+    public void prepareVisibleCells(Blackhole blackhole) {
+        for (int row = 0; row < VISIBLE_ROWS; row++) {
+            for (int column = 0; column < COLUMN_COUNT; column++) {
+                blackhole.consume(table.prepareRenderer(table.getCellRenderer(row, column), row, column));
+            }
+        }
+    }
+
+    @Benchmark
+    public int sortByColumn() {
+        sortAscending = !sortAscending;
+        sorter.setSortKeys(sortAscending ? ascending : descending);
+        return sorter.convertRowIndexToModel(0);
+    }
+}
@@ -0,0 +1,55 @@
+package org.jdesktop.swingx.benchmark;
+
+import org.jdesktop.swingx.JXTable;
+import org.jdesktop.swingx.table.ColumnFactory;
+import org.jdesktop.swingx.table.PackStrategies;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures <code>ColumnFactory.packColumn</code> over a text column, measuring
+ * all rows or a sample.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class PackColumnBenchmark {
+
+    @Param({"10000", "100000"})
+    public int rowCount;
+
+    @Param({"false", "true"})
+    public boolean sampling;
+
+    private JXTable table;
+    private ColumnFactory factory;
+
+    @Setup
+    public void setUp() {
+        table = BenchmarkTables.createTable(new SyntheticTableModel(rowCount));
+        factory = new ColumnFactory();
+        if (sampling) {
+            factory.setPackStrategy(PackStrategies.sampling(50, 20));
+        }
+    }
+
+    @Benchmark
+    public int packTextColumn() {
+        factory.packColumn(table, table.getColumnExt(5), -1, -1);
+        return table.getColumnExt(5).getPreferredWidth();
+    }
+}
@@ -0,0 +1,73 @@
+package org.jdesktop.swingx.benchmark;
+
+import org.jdesktop.swingx.JXTable;
+import org.jdesktop.swingx.decorator.ColorHighlighter;
+import org.jdesktop.swingx.decorator.HighlightPredicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures painting one screen of a striped JXTable into an image. The striping
+ * is either painted as row bands or, with a predicate which isn't row-only, by
+ * highlighting every cell. The text cells are painted by the renderer's ui delegate
+ * or, with flyweight rendering, from cached glyph layouts.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class PaintTableBenchmark {
+
+    @Param({"none", "bands", "cells"})
+    public String striping;
+
+    @Param({"false", "true"})
+    public boolean flyweight;
+
+    private JXTable table;
+    private BufferedImage image;
+    private Graphics2D graphics;
+
+    @Setup
+    public void setUp() {
+        table = BenchmarkTables.createTable(new SyntheticTableModel(10_000));
+        Color stripe = new Color(230, 240, 255);
+        if ("bands".equals(striping)) {
+            table.addHighlighter(new ColorHighlighter(HighlightPredicate.ODD, stripe, null));
+        } else if ("cells".equals(striping)) {
+            table.addHighlighter(new ColorHighlighter((renderer, adapter) -> adapter.row % 2 != 0, stripe, null));
+        }
+        table.setFlyweightRendering(flyweight);
+        table.doLayout();
+        image = new BufferedImage(table.getWidth(), table.getHeight(), BufferedImage.TYPE_INT_RGB);
+        graphics = image.createGraphics();
+    }
+
+    @TearDown
+    public void tearDown() {
+        graphics.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage paintVisibleRows() {
+        table.paint(graphics);
+        return image;
+    }
+}
@@ -0,0 +1,90 @@
+package org.jdesktop.swingx.benchmark;
+
+import org.jdesktop.swingx.JXTable;
+import org.jdesktop.swingx.decorator.ColorHighlighter;
+import org.jdesktop.swingx.decorator.HighlightPredicate;
+import org.jdesktop.swingx.decorator.Highlighter;
+import org.jdesktop.swingx.decorator.HighlighterFactory;
+import org.jdesktop.swingx.decorator.PatternPredicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.awt.Color;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures <code>JXTable.prepareRenderer</code> for one screen of cells
+ * with a varying number of table and column highlighters.
+ * <p>
+ * Run with <code>-prof gc</code> to check the allocation: the rendering path itself
+ * allocates nothing in steady state, <code>gc.alloc.rate.norm</code> is about the
+ * Strings formatted for the number and date columns and the values the synthetic
+ * model creates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class PrepareRendererBenchmark {
+
+    private static final int VISIBLE_ROWS = 50;
+
+    @Param({"0", "4", "16"})
+    public int highlighterCount;
+
+    @Param({"false", "true"})
+    public boolean columnHighlighters;
+
+    private JXTable table;
+
+    @Setup
+    public void setUp() {
+        table = BenchmarkTables.createTable(new SyntheticTableModel(10_000));
+        Highlighter[] highlighters = new Highlighter[highlighterCount];
+        for (int i = 0; i < highlighters.length; i++) {
+            highlighters[i] = createHighlighter(i);
+        }
+        table.setHighlighters(highlighters);
+        if (columnHighlighters) {
+            for (int column = 0; column < table.getColumnCount(); column++) {
+                table.getColumnExt(column).addHighlighter(
+                    new ColorHighlighter(HighlightPredicate.EVEN, new Color(0, 0, 255, 32), null));
+            }
+        }
+    }
+
+    private static Highlighter createHighlighter(int index) {
+        switch (index % 4) {
+        case 0:
+            return HighlighterFactory.createSimpleStriping();
+        case 1:
+            return new ColorHighlighter(new PatternPredicate("partial", 5), null, Color.BLUE);
+        case 2:
+            return new ColorHighlighter(HighlightPredicate.ROLLOVER_ROW, Color.YELLOW, null);
+        default:
+            return new ColorHighlighter(new HighlightPredicate.ColumnHighlightPredicate(index % 6), Color.LIGHT_GRAY, null);
+        }
+    }
+
+    @Benchmark
+    public void prepareVisibleCells(Blackhole blackhole) {
+        int columns = table.getColumnCount();
+        for (int row = 0; row < VISIBLE_ROWS; row++) {
+            for (int column = 0; column < columns; column++) {
+                blackhole.consume(table.prepareRenderer(table.getCellRenderer(row, column), row, column));
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.jdesktop.swingx.benchmark;
+
+import org.jdesktop.swingx.sort.CellStringCache;
+import org.jdesktop.swingx.sort.RowFilters;
+import org.jdesktop.swingx.sort.StringValueRegistry;
+import org.jdesktop.swingx.sort.TableSortController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures filtering a <code>TableSortController</code> with
+ * <code>RowFilters.regexFilter</code>, once restricted to the text column and
+ * once over all columns (which includes formatting of non-string values).
+ * With <code>stringCache</code>, the strings are converted once during warmup
+ * and then looked up in a <code>CellStringCache</code>. With <code>parallel</code>,
+ * the filter is evaluated on the common ForkJoinPool.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true", "-Xmx4g"})
+public class RowFilterBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int rowCount;
+
+    @Param({"true", "false"})
+    public boolean singleColumn;
+
+    @Param({"false", "true"})
+    public boolean stringCache;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private TableSortController<SyntheticTableModel> controller;
+
+    @Setup
+    public void setUp() {
+        controller = new TableSortController<>(new SyntheticTableModel(rowCount));
+        if (stringCache) {
+            StringValueRegistry registry = new StringValueRegistry();
+            registry.setStringCache(new CellStringCache());
+            controller.setStringValueProvider(registry);
+        }
+        controller.setSortPool(parallel ? ForkJoinPool.commonPool() : null);
+        if (singleColumn) {
+            controller.setRowFilter(RowFilters.regexFilter("partial", 5));
+        } else {
+            controller.setRowFilter(RowFilters.regexFilter("partial"));
+        }
+    }
+
+    @Benchmark
+    public int filter() {
+        controller.sort();
+        return controller.getViewRowCount();
+    }
+}
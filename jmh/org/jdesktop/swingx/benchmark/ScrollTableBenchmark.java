@@ -0,0 +1,72 @@
+package org.jdesktop.swingx.benchmark;
+
+import org.jdesktop.swingx.JXTable;
+import org.jdesktop.swingx.decorator.HighlightPredicate;
+import org.jdesktop.swingx.decorator.PainterHighlighter;
+import org.jdesktop.swingx.painter.MattePainter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures painting the visible region of a JXTable with a painter highlighter while
+ * scrolling back and forth over the same rows, with and without the tile cache.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ScrollTableBenchmark {
+
+    private static final int VIEWPORT_HEIGHT = 800;
+    private static final int SCROLL_STEPS = 20;
+
+    @Param({"false", "true"})
+    public boolean tiles;
+
+    private JXTable table;
+    private BufferedImage image;
+    private int step;
+
+    @Setup
+    public void setUp() {
+        table = BenchmarkTables.createTable(new SyntheticTableModel(10_000));
+        table.addHighlighter(new PainterHighlighter(HighlightPredicate.ALWAYS,
+            new MattePainter(new GradientPaint(0, 0, Color.WHITE, 50, 0, Color.LIGHT_GRAY))));
+        table.setTileCacheEnabled(tiles);
+        // sized as the view of a viewport, showing part of the rows
+        table.setSize(table.getWidth(), table.getRowCount() * table.getRowHeight());
+        table.doLayout();
+        image = new BufferedImage(table.getWidth(), VIEWPORT_HEIGHT, BufferedImage.TYPE_INT_RGB);
+    }
+
+    @Benchmark
+    public BufferedImage paintScrolledViewport() {
+        int y = (step++ % SCROLL_STEPS) * table.getRowHeight() * 3;
+        Graphics2D g = image.createGraphics();
+        try {
+            g.translate(0, -y);
+            g.setClip(0, y, table.getWidth(), VIEWPORT_HEIGHT);
+            table.paint(g);
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+}
@@ -0,0 +1,80 @@
+package org.jdesktop.swingx.benchmark;
+
+import org.jdesktop.swingx.renderer.StringValues;
+import org.jdesktop.swingx.sort.StringValueProvider;
+import org.jdesktop.swingx.sort.StringValueRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the StringValue lookup per cell of <code>StringValueRegistry</code>
+ * with the former map-based lookup. The registry is configured like a
+ * <code>JXTable</code> over <code>SyntheticTableModel</code>: per-class
+ * StringValues, column classes and a per-column StringValue for the first
+ * column. Each invocation queries all cells of a block of rows.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class StringValueRegistryBenchmark {
+
+    @Param({"array", "map"})
+    public String lookup;
+
+    private static final int ROWS = 1000;
+
+    private StringValueProvider provider;
+    private int columnCount;
+
+    @Setup
+    public void setUp() {
+        SyntheticTableModel model = new SyntheticTableModel(ROWS);
+        columnCount = model.getColumnCount();
+        if ("map".equals(lookup)) {
+            MapStringValueRegistry registry = new MapStringValueRegistry();
+            registry.setStringValue(StringValues.TO_STRING, Object.class);
+            registry.setStringValue(StringValues.NUMBER_TO_STRING, Number.class);
+            registry.setStringValue(StringValues.DATE_TO_STRING, Date.class);
+            for (int i = 0; i < columnCount; i++) {
+                registry.setColumnClass(model.getColumnClass(i), i);
+            }
+            registry.setStringValue(StringValues.TO_STRING, 0);
+            provider = registry;
+        } else {
+            StringValueRegistry registry = new StringValueRegistry();
+            registry.setStringValue(StringValues.TO_STRING, Object.class);
+            registry.setStringValue(StringValues.NUMBER_TO_STRING, Number.class);
+            registry.setStringValue(StringValues.DATE_TO_STRING, Date.class);
+            for (int i = 0; i < columnCount; i++) {
+                registry.setColumnClass(model.getColumnClass(i), i);
+            }
+            registry.setStringValue(StringValues.TO_STRING, 0);
+            provider = registry;
+        }
+    }
+
+    @Benchmark
+    public void lookupAllCells(Blackhole bh) {
+        for (int row = 0; row < ROWS; row++) {
+            for (int column = 0; column < columnCount; column++) {
+                bh.consume(provider.getStringValue(row, column));
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package org.jdesktop.swingx.benchmark;
+
+import javax.swing.table.AbstractTableModel;
+import java.math.BigDecimal;
+import java.util.Date;
+
+/**
+ * Fixed-size, read-only TableModel with deterministic synthetic content, used
+ * as fixture by the benchmarks. Values are derived from the row index, so that
+ * the model has a tiny memory footprint even for millions of rows while
+ * sorting, filtering and searching see a realistic value distribution.
+ * <p>
+ * Columns:
+ * <ol>
+ * <li> Integer: the row index
+ * <li> String: a symbol out of a fixed set of {@link #SYMBOL_COUNT}
+ * <li> Double: a price
+ * <li> Date: a timestamp
+ * <li> BigDecimal: a signed amount
+ * <li> String: a free text out of a fixed set of {@link #TEXT_COUNT}
+ * </ol>
+ */
+public class SyntheticTableModel extends AbstractTableModel {
+
+    public static final int SYMBOL_COUNT = 4096;
+    public static final int TEXT_COUNT = 1024;
+
+    private static final String[] COLUMN_NAMES = {"Id", "Symbol", "Price", "Time", "Amount", "Text"};
+    private static final Class<?>[] COLUMN_CLASSES = {Integer.class, String.class, Double.class, Date.class, BigDecimal.class, String.class};
+    private static final long BASE_TIME = 1_600_000_000_000L;
+
+    private static final String[] SYMBOLS = new String[SYMBOL_COUNT];
+    private static final String[] TEXTS = new String[TEXT_COUNT];
+
+    static {
+        for (int i = 0; i < SYMBOLS.length; i++) {
+            int h = scramble(i);
+            SYMBOLS[i] = "" + (char) ('A' + (h & 0xF)) + (char) ('A' + (h >>> 4 & 0xF)) + (char) ('A' + (h >>> 8 & 0xF)) + i;
+        }
+        for (int i = 0; i < TEXTS.length; i++) {
+            TEXTS[i] = "order " + scramble(i) % 100_000 + " filled at venue " + (char) ('a' + i % 26) + (i % 7 == 0 ? " (partial)" : "");
+        }
+    }
+
+    private final int rowCount;
+
+    public SyntheticTableModel(int rowCount) {
+        this.rowCount = rowCount;
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMN_NAMES.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMN_NAMES[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return COLUMN_CLASSES[column];
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        int h = scramble(row);
+        switch (column) {
+        case 0:
+            return row;
+        case 1:
+            return SYMBOLS[h & SYMBOL_COUNT - 1];
+        case 2:
+            return (h & 0xFFFFF) / 100.0;
+        case 3:
+            return new Date(BASE_TIME + (h & 0x7FFFFFF) * 1000L);
+        case 4:
+            return BigDecimal.valueOf(h % 10_000_000, 2);
+        case 5:
+            return TEXTS[(h >>> 12) & TEXT_COUNT - 1];
+        default:
+            throw new IndexOutOfBoundsException("column: " + column);
+        }
+    }
+
+    /**
+     * Returns a well-distributed, deterministic hash of the given index.
+     */
+    static int scramble(int index) {
+        int h = index * 0x9E3779B9;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        return h & Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,47 @@
+package org.jdesktop.swingx.benchmark;
+
+import org.jdesktop.swingx.JXTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Measures a <code>TableSearchable</code> search which doesn't find a match,
+ * that is visits every cell of the table.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class TableSearchBenchmark {
+
+    @Param({"10000", "100000"})
+    public int rowCount;
+
+    private JXTable table;
+    private Pattern pattern;
+
+    @Setup
+    public void setUp() {
+        table = BenchmarkTables.createTable(new SyntheticTableModel(rowCount));
+        pattern = Pattern.compile("no such content");
+    }
+
+    @Benchmark
+    public int searchMiss() {
+        return table.getSearchable().search(pattern, -1);
+    }
+}
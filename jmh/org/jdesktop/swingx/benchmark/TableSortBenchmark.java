@@ -0,0 +1,64 @@
+package org.jdesktop.swingx.benchmark;
+
+import org.jdesktop.swingx.sort.TableSortController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.swing.RowSorter.SortKey;
+import javax.swing.SortOrder;
+import java.util.Collections;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a full sort of <code>TableSortController</code> by a single column.
+ * Column 1 is sorted by the Collator (String), 2 by compareTo (Double).
+ * With <code>precomputeSortKeys</code>, the Collator column is sorted by
+ * precomputed CollationKeys. With <code>parallel</code>, the sort runs on
+ * the common ForkJoinPool.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true", "-Xmx4g"})
+public class TableSortBenchmark {
+
+    @Param({"100000", "1000000", "5000000"})
+    public int rowCount;
+
+    @Param({"1", "2"})
+    public int column;
+
+    @Param({"false", "true"})
+    public boolean precomputeSortKeys;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private TableSortController<SyntheticTableModel> controller;
+
+    @Setup
+    public void setUp() {
+        controller = new TableSortController<>(new SyntheticTableModel(rowCount));
+        controller.setPrecomputeSortKeys(precomputeSortKeys);
+        controller.setSortPool(parallel ? ForkJoinPool.commonPool() : null);
+        controller.setSortKeys(Collections.singletonList(new SortKey(column, SortOrder.ASCENDING)));
+    }
+
+    @Benchmark
+    public int sort() {
+        controller.sort();
+        return controller.convertRowIndexToModel(0);
+    }
+}
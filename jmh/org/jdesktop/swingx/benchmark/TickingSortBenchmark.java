@@ -0,0 +1,93 @@
+package org.jdesktop.swingx.benchmark;
+
+import org.jdesktop.swingx.sort.TableSortController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.swing.RowSorter.SortKey;
+import javax.swing.SortOrder;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a <code>TableSortController</code> sorted by price which is notified
+ * about price updates of a batch of consecutive rows, as from ticking market data.
+ * Small batches move the updated rows, large batches re-sort starting from the
+ * current order.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true", "-Xmx4g"})
+public class TickingSortBenchmark {
+
+    @Param({"200000"})
+    public int rowCount;
+
+    @Param({"1", "100", "50000"})
+    public int batchSize;
+
+    private TickingTableModel model;
+    private TableSortController<TickingTableModel> controller;
+    private int nextRow;
+
+    @Setup
+    public void setUp() {
+        model = new TickingTableModel(rowCount);
+        controller = new TableSortController<>(model);
+        controller.setSortsOnUpdates(true);
+        controller.setSortKeys(Collections.singletonList(new SortKey(2, SortOrder.ASCENDING)));
+    }
+
+    @Benchmark
+    public int tick() {
+        int firstRow = nextRow;
+        int lastRow = Math.min(firstRow + batchSize, rowCount) - 1;
+        for (int row = firstRow; row <= lastRow; row++) {
+            model.tick(row);
+        }
+        controller.rowsUpdated(firstRow, lastRow);
+        nextRow = lastRow + 1 < rowCount ? lastRow + 1 : 0;
+        return controller.convertRowIndexToView(firstRow);
+    }
+
+    /**
+     * SyntheticTableModel with mutable prices.
+     */
+    static class TickingTableModel extends SyntheticTableModel {
+
+        private final double[] prices;
+        private int tickCount;
+
+        TickingTableModel(int rowCount) {
+            super(rowCount);
+            prices = new double[rowCount];
+            for (int row = 0; row < rowCount; row++) {
+                prices[row] = (Double) super.getValueAt(row, 2);
+            }
+        }
+
+        /**
+         * Moves the price of the given row by a small deterministic amount.
+         */
+        void tick(int row) {
+            prices[row] += (scramble(tickCount++) % 201 - 100) / 100.0;
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            return column == 2 ? prices[row] : super.getValueAt(row, column);
+        }
+    }
+}
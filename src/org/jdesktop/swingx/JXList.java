@@ -31,6 +31,7 @@ import org.jdesktop.swingx.plaf.XListAddon;
 import org.jdesktop.swingx.plaf.basic.core.BasicXListUI;
 import org.jdesktop.swingx.renderer.AbstractRenderer;
 import org.jdesktop.swingx.renderer.DefaultListRenderer;
+import org.jdesktop.swingx.renderer.FlyweightAware;
 import org.jdesktop.swingx.renderer.StringValue;
 import org.jdesktop.swingx.rollover.ListRolloverController;
 import org.jdesktop.swingx.rollover.ListRolloverProducer;
@@ -58,9 +59,13 @@ import javax.swing.SwingUtilities;
 import javax.swing.event.ChangeListener;
 import javax.swing.plaf.ListUI;
 import javax.swing.text.Position.Bias;
+import java.awt.Color;
 import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.event.ActionEvent;
+import java.awt.event.MouseEvent;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -208,6 +213,13 @@ public class JXList<E> extends JList<E> {
      */
     protected ComponentAdapter dataAdapter;
 
+    /**
+     * flag to indicate that the renderer is prepared for a tooltip rather than painting.
+     *
+     * @see ComponentAdapter#isPreparingToolTip()
+     */
+    boolean preparingToolTip;
+
     /**
      * Mouse/Motion/Listener keeping track of mouse moved in cell coordinates.
      */
@@ -224,6 +236,16 @@ public class JXList<E> extends JList<E> {
      */
     private transient DelegatingRenderer delegatingRenderer;
 
+    /**
+     * The striping highlighters painted as row bands, lazily created.
+     */
+    private transient RowBands rowBands;
+
+    /**
+     * flag to indicate whether plain text cells are painted from cached glyph layouts.
+     */
+    private boolean flyweightRendering;
+
     private Searchable searchable;
 
     private Comparator<?> comparator;
@@ -997,6 +1019,24 @@ public class JXList<E> extends JList<E> {
 
     // ---------------------------- uniform data model
 
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Overridden to flag the renderer as prepared for a tooltip, so that tooltip
+     * decorations are applied to the cell under the mouse only.
+     *
+     * @see ComponentAdapter#isPreparingToolTip()
+     */
+    @Override
+    public String getToolTipText(MouseEvent event) {
+        preparingToolTip = true;
+        try {
+            return super.getToolTipText(event);
+        } finally {
+            preparingToolTip = false;
+        }
+    }
+
     /**
      * @return the unconfigured ComponentAdapter.
      */
@@ -1057,6 +1097,22 @@ public class JXList<E> extends JList<E> {
             return list.isFocusOwner() && row == list.getLeadSelectionIndex();
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isPreparingToolTip() {
+            return list.preparingToolTip;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isPaintedAsRowBand(Highlighter highlighter) {
+            return list.rowBands != null && list.rowBands.isBanded(highlighter);
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -1199,6 +1255,101 @@ public class JXList<E> extends JList<E> {
         firePropertyChange("highlighters", old, getHighlighters());
     }
 
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Overridden to paint the background of striping highlighters once per visible
+     * cell of a vertical list before the cells, instead of highlighting each cell.
+     *
+     * @see org.jdesktop.swingx.decorator.ColorHighlighter#isRowBand()
+     */
+    @Override
+    protected void paintComponent(Graphics g) {
+        RowBands bands = getRowBands();
+        if (getLayoutOrientation() != VERTICAL || !bands.start(ui, compoundHighlighter)) {
+            super.paintComponent(g);
+            return;
+        }
+        Graphics scratch = g.create();
+        try {
+            paintRowBands(scratch, bands);
+            ui.paint(scratch, this);
+        } finally {
+            bands.stop();
+            scratch.dispose();
+        }
+    }
+
+    /**
+     * Paints the list's background and the row bands in the clip.
+     *
+     * @param g     the graphics to paint to
+     * @param bands the row bands
+     */
+    private void paintRowBands(Graphics g, RowBands bands) {
+        Color background = getBackground();
+        if (isOpaque()) {
+            g.setColor(background);
+            g.fillRect(0, 0, getWidth(), getHeight());
+        }
+        if (getElementCount() == 0)
+            return;
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+        int first = locationToIndex(new Point(clip.x, clip.y));
+        int last = locationToIndex(new Point(clip.x, clip.y + clip.height - 1));
+        if (first < 0 || last < 0)
+            return;
+        for (int index = first; index <= last; index++) {
+            Color band = bands.getBackground(index, background);
+            Rectangle cell = band.equals(background) ? null : getCellBounds(index, index);
+            if (cell != null) {
+                g.setColor(band);
+                g.fillRect(cell.x, cell.y, cell.width, cell.height);
+            }
+        }
+    }
+
+    /**
+     * @return the row bands, lazily created.
+     */
+    private RowBands getRowBands() {
+        if (rowBands == null) {
+            rowBands = new RowBands();
+        }
+        return rowBands;
+    }
+
+    /**
+     * Enables/disables flyweight rendering. If enabled, rendering components which
+     * support it paint cells showing plain text only, that is with no icon, html,
+     * painter or clipped text, straight from a cached glyph layout instead of
+     * going through their ui delegate. All other cells are painted as usual. The
+     * default value is false.
+     *
+     * @param flyweight boolean to indicate whether plain text cells should be
+     *                  painted from cached glyph layouts.
+     * @see FlyweightAware
+     */
+    public void setFlyweightRendering(boolean flyweight) {
+        boolean old = isFlyweightRendering();
+        this.flyweightRendering = flyweight;
+        firePropertyChange("flyweightRendering", old, isFlyweightRendering());
+    }
+
+    /**
+     * Returns a boolean indicating whether plain text cells are painted from
+     * cached glyph layouts.
+     *
+     * @return a boolean indicating whether flyweight rendering is enabled.
+     * @see #setFlyweightRendering(boolean)
+     */
+    public boolean isFlyweightRendering() {
+        return flyweightRendering;
+    }
+
     /**
      * Returns the CompoundHighlighter assigned to the table, null if none.
      * PENDING: open up for subclasses again?.
@@ -1451,7 +1602,15 @@ public class JXList<E> extends JList<E> {
                                                       boolean isSelected, boolean cellHasFocus) {
             Component comp = delegateRenderer.getListCellRendererComponent(list, value, index, isSelected, cellHasFocus);
             if (compoundHighlighter != null && index >= 0 && index < getElementCount()) {
-                comp = compoundHighlighter.highlight(comp, getComponentAdapter(index));
+                ComponentAdapter adapter = getComponentAdapter(index);
+                // striping is painted as row bands, if any
+                RowBands bands = getRowBands();
+                bands.startCell(comp, adapter, JXList.this);
+                comp = compoundHighlighter.highlight(comp, adapter);
+                bands.endCell(comp);
+            }
+            if (comp instanceof FlyweightAware) {
+                ((FlyweightAware) comp).setFlyweightPainting(flyweightRendering);
             }
             return comp;
         }
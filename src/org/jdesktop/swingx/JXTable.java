@@ -38,6 +38,7 @@ import org.jdesktop.swingx.plaf.UIManagerExt;
 import org.jdesktop.swingx.renderer.AbstractRenderer;
 import org.jdesktop.swingx.renderer.CheckBoxProvider;
 import org.jdesktop.swingx.renderer.DefaultTableRenderer;
+import org.jdesktop.swingx.renderer.FlyweightAware;
 import org.jdesktop.swingx.renderer.HyperlinkProvider;
 import org.jdesktop.swingx.renderer.IconValues;
 import org.jdesktop.swingx.renderer.MappedValue;
@@ -51,16 +52,23 @@ import org.jdesktop.swingx.search.SearchFactory;
 import org.jdesktop.swingx.search.Searchable;
 import org.jdesktop.swingx.search.TableSearchable;
 import org.jdesktop.swingx.sort.DefaultSortController;
+import org.jdesktop.swingx.sort.PagedSortController;
 import org.jdesktop.swingx.sort.SortController;
 import org.jdesktop.swingx.sort.SortUtils;
+import org.jdesktop.swingx.sort.CellStringCache;
 import org.jdesktop.swingx.sort.StringValueRegistry;
 import org.jdesktop.swingx.sort.TableSortController;
 import org.jdesktop.swingx.table.ColumnControlButton;
 import org.jdesktop.swingx.table.ColumnFactory;
+import org.jdesktop.swingx.table.ColumnWidthTracker;
 import org.jdesktop.swingx.table.DefaultTableColumnModelExt;
 import org.jdesktop.swingx.table.NumberEditorExt;
+import org.jdesktop.swingx.table.PagedTableModel;
+import org.jdesktop.swingx.table.PrimitiveTableModel;
+import org.jdesktop.swingx.table.RowHeightIndex;
 import org.jdesktop.swingx.table.TableColumnExt;
 import org.jdesktop.swingx.table.TableColumnModelExt;
+import org.jdesktop.swingx.table.TableTileCache;
 
 import javax.swing.*;
 import javax.swing.RowSorter.SortKey;
@@ -71,6 +79,7 @@ import javax.swing.event.ListSelectionEvent;
 import javax.swing.event.RowSorterEvent;
 import javax.swing.event.TableColumnModelEvent;
 import javax.swing.event.TableModelEvent;
+import javax.swing.table.DefaultTableCellRenderer;
 import javax.swing.table.JTableHeader;
 import javax.swing.table.TableCellEditor;
 import javax.swing.table.TableCellRenderer;
@@ -82,12 +91,19 @@ import java.awt.Component;
 import java.awt.ComponentOrientation;
 import java.awt.Container;
 import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
 import java.awt.KeyboardFocusManager;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.Window;
 import java.awt.event.ActionEvent;
+import java.awt.event.MouseEvent;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
 import java.awt.print.PrinterException;
+import java.awt.print.PrinterGraphics;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.lang.reflect.Constructor;
@@ -397,6 +413,38 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
      */
     protected ComponentAdapter dataAdapter;
 
+    /**
+     * The version of the model data and its string representation, incremented on
+     * every change.
+     *
+     * @see ComponentAdapter#getModelVersion()
+     */
+    private long modelVersion;
+
+    /**
+     * The count of row updates recorded for the model versions following the
+     * earliest version they're recorded since.
+     */
+    private static final int ROW_UPDATES = 32;
+
+    /**
+     * The model rows updated by the latest changes of the model version, first and
+     * last row by version modulo ROW_UPDATES, lazily created.
+     */
+    private int[] rowUpdates;
+
+    /**
+     * The earliest model version since which all changes are recorded row updates.
+     */
+    private long rowUpdatesVersion;
+
+    /**
+     * flag to indicate that the renderer is prepared for a tooltip rather than painting.
+     *
+     * @see ComponentAdapter#isPreparingToolTip()
+     */
+    boolean preparingToolTip;
+
     /**
      * Listens for changes from the highlighters.
      */
@@ -474,6 +522,17 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
      */
     protected boolean isXTableRowHeightSet;
 
+    /**
+     * the heights set by setRowHeight(int, int) in model coordinates, 0 for rows
+     * with the default height, null if all rows have the default height.
+     */
+    private int[] modelRowHeights;
+
+    /**
+     * the positions of the view rows, null if to be rebuilt.
+     */
+    private RowHeightIndex rowHeightIndex;
+
     /**
      * property to control search behaviour.
      */
@@ -507,7 +566,31 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
      */
     private transient StringValueRegistry stringValueRegistry;
 
+    /**
+     * flag to indicate whether the string representation of cells is cached.
+     */
+    private boolean stringCacheEnabled;
+
     private SortOrder[] sortOrderCycle;
+    /**
+     * Trackers keeping the preferred width of autoPack columns fitted to their content.
+     */
+    private transient Map<TableColumnExt, ColumnWidthTracker> columnWidthTrackers;
+
+    /**
+     * The striping highlighters painted as row bands, lazily created.
+     */
+    private transient RowBands rowBands;
+
+    /**
+     * flag to indicate whether plain text cells are painted from cached glyph layouts.
+     */
+    private boolean flyweightRendering;
+
+    /**
+     * The cache of rendered tiles, null if disabled.
+     */
+    private transient TableTileCache tileCache;
 
     /**
      * Instantiates a JXTable with a default table model, no data.
@@ -1137,6 +1220,7 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
      * @see #updateLocaleActionState(String, Locale)
      */
     protected void updateLocaleState(Locale locale) {
+        clearStringCache();
         updateLocaleActionState(HORIZONTALSCROLL_ACTION_COMMAND, locale);
         updateLocaleActionState(PACKALL_ACTION_COMMAND, locale);
         updateLocaleActionState(PACKSELECTED_ACTION_COMMAND, locale);
@@ -1504,7 +1588,13 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
      */
     @Override
     public void tableChanged(TableModelEvent e) {
+        modelChanged(e);
         preprocessModelChange(e);
+        updateStringCache(e);
+        updateModelRowHeights(e);
+        if (isStructureChanged(e)) {
+            invalidateColumnWidthTrackers();
+        }
         super.tableChanged(e);
         if (isStructureChanged(e) && getAutoCreateColumnsFromModel()) {
             initializeColumnWidths();
@@ -1513,6 +1603,11 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
         if (isStructureChanged(e)) {
             updateStringValueRegistryColumnClasses();
         }
+        updateColumnWidthTrackers(e);
+        if (!isUpdate(e)) {
+            // the sorter may not have changed the mapping
+            rowHeightIndex = null;
+        }
         postprocessModelChange(e);
     }
 
@@ -1526,6 +1621,7 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
      */
     @Override
     public void sorterChanged(RowSorterEvent e) {
+        rowHeightIndex = null;
         super.sorterChanged(e);
         postprocessSorterChanged(e);
     }
@@ -1598,6 +1694,7 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
         if (getAutoCreateRowSorter()) {
             setRowSorter(createDefaultRowSorter());
         }
+        validateColumnWidthTrackers();
     }
 
     /**
@@ -1610,6 +1707,7 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
         super.setColumnModel(columnModel);
         configureSorterProperties();
         initPerColumnStringValues();
+        initColumnWidthTrackers();
     }
 
     /**
@@ -1651,6 +1749,7 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
      */
     @Override
     public void setRowSorter(RowSorter<? extends TableModel> sorter) {
+        rowHeightIndex = null;
         super.setRowSorter(sorter);
         configureSorterProperties();
     }
@@ -1692,9 +1791,14 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
      * PENDING JW: review method signature - better expose the need for the
      * model by adding a parameter?
      *
+     * Here: a PagedSortController for a PagedTableModel, which sorts and filters
+     * by its source, a TableSortController otherwise.
+     *
      * @return the default RowSorter.
      */
     protected RowSorter<? extends TableModel> createDefaultRowSorter() {
+        if (getModel() instanceof PagedTableModel)
+            return new PagedSortController((PagedTableModel) getModel());
         return new TableSortController<>(getModel());
     }
 
@@ -2137,15 +2241,37 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
     @Override
     public void columnAdded(TableColumnModelEvent e) {
         super.columnAdded(e);
+        invalidateHighlighterColumnScopes();
         // PENDING JW: check for visibility event?
         TableColumn column = getColumn(e.getToIndex());
         updateStringValueForColumn(column, column.getCellRenderer());
+        if (column instanceof TableColumnExt && ((TableColumnExt) column).isAutoPack()) {
+            updateColumnWidthTrackerAfterColumnChanged((TableColumnExt) column, true);
+        }
         if (ignoreAddColumn)
             return;
         updateSortableAfterColumnChanged(column, column instanceof TableColumnExt ? ((TableColumnExt) column).isSortable() : true);
         updateComparatorAfterColumnChanged(column, column instanceof TableColumnExt ? ((TableColumnExt) column).getComparator() : null);
     }
 
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Overridden to drop the width trackers of autoPack columns which are no longer
+     * visible, that is removed or hidden. They are re-created when the column is added
+     * or shown again.
+     */
+    @Override
+    public void columnRemoved(TableColumnModelEvent e) {
+        super.columnRemoved(e);
+        // the columns tested by predicates changed
+        modelChanged(null);
+        invalidateHighlighterColumnScopes();
+        if (columnWidthTrackers != null && !columnWidthTrackers.isEmpty()) {
+            columnWidthTrackers.keySet().retainAll(getColumns());
+        }
+    }
+
     // ----------------- enhanced column support: delegation to TableColumnModel
 
     /**
@@ -2370,6 +2496,10 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
             updateComparatorAfterColumnChanged((TableColumn) event.getSource(), (Comparator<?>) event.getNewValue());
         } else if ("cellRenderer".equals(event.getPropertyName())) {
             updateStringValueForColumn((TableColumn) event.getSource(), (TableCellRenderer) event.getNewValue());
+        } else if ("identifier".equals(event.getPropertyName())) {
+            invalidateHighlighterColumnScopes();
+        } else if ("autoPack".equals(event.getPropertyName())) {
+            updateColumnWidthTrackerAfterColumnChanged((TableColumnExt) event.getSource(), ((Boolean) event.getNewValue()).booleanValue());
         } else if (event.getPropertyName().startsWith("highlighter")) {
             if (event.getSource() instanceof TableColumnExt && getRowCount() > 0) {
                 TableColumnExt column = (TableColumnExt) event.getSource();
@@ -2431,6 +2561,93 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
         }
     }
 
+    /**
+     * Installs or removes the tracker keeping the column's preferred width fitted to its
+     * content. This method is called on autoPack property change notification from the
+     * ext column model and after adding or showing an autoPack column. Hidden columns
+     * have no tracker. <p>
+     *
+     * @param column   the <code>TableColumnExt</code> which sent the change
+     *                 notifcation
+     * @param autoPack the new value of the column's autoPack property
+     */
+    private void updateColumnWidthTrackerAfterColumnChanged(TableColumnExt column, boolean autoPack) {
+        if (!autoPack) {
+            if (columnWidthTrackers != null) {
+                columnWidthTrackers.remove(column);
+            }
+            return;
+        }
+        if (columnWidthTrackers == null) {
+            columnWidthTrackers = new HashMap<>();
+        }
+        if (columnWidthTrackers.containsKey(column) || !column.isVisible())
+            return;
+        columnWidthTrackers.put(column, getColumnFactory().createColumnWidthTracker(this, column));
+        validateColumnWidthTrackers();
+    }
+
+    /**
+     * Re-creates the trackers for all visible autoPack columns. This is called after
+     * setting the column model.
+     */
+    private void initColumnWidthTrackers() {
+        if (columnWidthTrackers != null) {
+            columnWidthTrackers.clear();
+        }
+        for (TableColumn column : getColumns()) {
+            if (column instanceof TableColumnExt && ((TableColumnExt) column).isAutoPack()) {
+                updateColumnWidthTrackerAfterColumnChanged((TableColumnExt) column, true);
+            }
+        }
+    }
+
+    /**
+     * Marks the widths measured by all trackers of autoPack columns as outdated.
+     */
+    private void invalidateColumnWidthTrackers() {
+        if (columnWidthTrackers == null)
+            return;
+        for (ColumnWidthTracker tracker : columnWidthTrackers.values()) {
+            tracker.invalidate();
+        }
+    }
+
+    /**
+     * Measures all rows for the trackers of autoPack columns with outdated widths.
+     * Does nothing while the table is updating its model, that is while the RowSorter
+     * might not yet be in synch.
+     */
+    private void validateColumnWidthTrackers() {
+        if (columnWidthTrackers == null || ignoreAddColumn || getModel() == null)
+            return;
+        for (ColumnWidthTracker tracker : columnWidthTrackers.values()) {
+            if (!tracker.isValid()) {
+                tracker.measureAll();
+            }
+        }
+    }
+
+    /**
+     * Updates the trackers of autoPack columns after the model changed. Called after
+     * processing the event.
+     *
+     * @param e the TableModelEvent received from the model
+     */
+    private void updateColumnWidthTrackers(TableModelEvent e) {
+        if (columnWidthTrackers == null || columnWidthTrackers.isEmpty())
+            return;
+        if (isStructureChanged(e)) {
+            // trackers of columns added during the structure change are already valid
+            columnWidthTrackers.keySet().retainAll(getColumns());
+            validateColumnWidthTrackers();
+            return;
+        }
+        for (ColumnWidthTracker tracker : columnWidthTrackers.values()) {
+            tracker.tableChanged(e);
+        }
+    }
+
     // -------------------------- ColumnFactory
 
     /**
@@ -2897,6 +3114,24 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
 
     // ----------------------------------- uniform data model access
 
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Overridden to flag the renderer as prepared for a tooltip, so that tooltip
+     * decorations are applied to the cell under the mouse only.
+     *
+     * @see ComponentAdapter#isPreparingToolTip()
+     */
+    @Override
+    public String getToolTipText(MouseEvent event) {
+        preparingToolTip = true;
+        try {
+            return super.getToolTipText(event);
+        } finally {
+            preparingToolTip = false;
+        }
+    }
+
     /**
      * @return the unconfigured ComponentAdapter.
      */
@@ -2971,6 +3206,11 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
                     "invalid column index, must be positive and less than " + getColumnCount() + " was: " + modelColumn
                 );
             }
+            // visible columns first, without copying the column list
+            int viewColumn = table.convertColumnIndexToView(modelColumn);
+            if (viewColumn >= 0) {
+                return table.getColumnModel().getColumn(viewColumn);
+            }
             List<TableColumn> columns = table.getColumns(true);
             for (TableColumn column : columns) {
                 if (column.getModelIndex() == modelColumn) {
@@ -3035,6 +3275,42 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
             return table.getModel().getValueAt(row, column);
         }
 
+        /**
+         * {@inheritDoc}
+         * <p>
+         * Overridden to return the type of the primitive columns of a PrimitiveTableModel.
+         */
+        @Override
+        public Class<?> getPrimitiveType() {
+            TableModel model = table.getModel();
+            return model instanceof PrimitiveTableModel
+                ? ((PrimitiveTableModel) model).getPrimitiveType(convertColumnIndexToModel(column)) : null;
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * Overridden to read the primitive columns of a PrimitiveTableModel without boxing.
+         */
+        @Override
+        public long getLongValue() {
+            if (getPrimitiveType() == null)
+                return super.getLongValue();
+            return ((PrimitiveTableModel) table.getModel()).getLongAt(convertRowIndexToModel(row), convertColumnIndexToModel(column));
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * Overridden to read the primitive columns of a PrimitiveTableModel without boxing.
+         */
+        @Override
+        public double getDoubleValue() {
+            if (getPrimitiveType() == null)
+                return super.getDoubleValue();
+            return ((PrimitiveTableModel) table.getModel()).getDoubleAt(convertRowIndexToModel(row), convertColumnIndexToModel(column));
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -3051,6 +3327,28 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
             return getColumnByModelIndex(column) != null;
         }
 
+        /**
+         * {@inheritDoc}
+         * <p>
+         * Implemented to return the table's count of model changes and changes of the
+         * string representation of columns.
+         */
+        @Override
+        public long getModelVersion() {
+            return table.modelVersion;
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * Implemented to return the rows of the table's latest TableModelEvents, if
+         * all changes since the version were updates of rows.
+         */
+        @Override
+        public int getUpdatedRows(long version, int[] rows) {
+            return table.getUpdatedRows(version, rows);
+        }
+
         // -------------------------- accessing view state/values
 
         /**
@@ -3061,8 +3359,7 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
          */
         @Override
         public String getStringAt(int row, int column) {
-            StringValue sv = table.getStringValueRegistry().getStringValue(row, column);
-            return sv.getString(getValueAt(row, column));
+            return table.getStringValueRegistry().getString(row, column, getValueAt(row, column));
         }
 
         /**
@@ -3099,6 +3396,22 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
             return table.isFocusOwner() && rowIsLead && colIsLead;
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isPreparingToolTip() {
+            return table.preparingToolTip;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isPaintedAsRowBand(Highlighter highlighter) {
+            return table.rowBands != null && table.rowBands.isBanded(highlighter);
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -3216,6 +3529,24 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
         return compoundHighlighter;
     }
 
+    /**
+     * Drops the highlighters of the table and of the columns in scope per column
+     * after a change of the columns.
+     *
+     * @see CompoundHighlighter#invalidateColumnScopes()
+     * @see TableColumnExt#invalidateHighlighterColumnScopes()
+     */
+    private void invalidateHighlighterColumnScopes() {
+        if (compoundHighlighter != null) {
+            compoundHighlighter.invalidateColumnScopes();
+        }
+        for (TableColumn column : getColumns(true)) {
+            if (column instanceof TableColumnExt) {
+                ((TableColumnExt) column).invalidateHighlighterColumnScopes();
+            }
+        }
+    }
+
     /**
      * Returns the <code>ChangeListener</code> to use with highlighters. Lazily
      * creates the listener.
@@ -3267,6 +3598,182 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
         return new StringValueRegistry();
     }
 
+    /**
+     * Enables/disables caching of the string representation of cells. If enabled,
+     * the strings are converted once and then shared by everybody using the
+     * table's string representation: sorting, filtering, searching, highlighting
+     * and getStringAt. The default value is false.<p>
+     * <p>
+     * The cache is kept in synch with the model by way of the TableModelEvents
+     * and with the registered StringValues. Client code which changes the state
+     * of a StringValue in a way which changes its string representation must clear
+     * the cache explicitly.
+     *
+     * @param enabled boolean to indicate whether the string representation
+     *                should be cached.
+     * @see #getStringCache()
+     */
+    public void setStringCacheEnabled(boolean enabled) {
+        boolean old = isStringCacheEnabled();
+        this.stringCacheEnabled = enabled;
+        getStringValueRegistry().setStringCache(enabled ? new CellStringCache() : null);
+        firePropertyChange("stringCacheEnabled", old, isStringCacheEnabled());
+    }
+
+    /**
+     * Returns a boolean indicating whether the string representation of
+     * cells is cached.
+     *
+     * @return a boolean indicating whether the string representation of
+     * cells is cached.
+     * @see #setStringCacheEnabled(boolean)
+     */
+    public boolean isStringCacheEnabled() {
+        return stringCacheEnabled;
+    }
+
+    /**
+     * Enables/disables flyweight rendering. If enabled, rendering components which
+     * support it paint cells showing plain text only, that is with no icon, html,
+     * painter or clipped text, straight from a cached glyph layout instead of
+     * going through their ui delegate. All other cells are painted as usual. The
+     * default value is false.<p>
+     * <p>
+     * Flyweight rendering pays off for dense grids of short texts. Texts in complex
+     * scripts are always painted as usual.
+     *
+     * @param flyweight boolean to indicate whether plain text cells should be
+     *                  painted from cached glyph layouts.
+     * @see FlyweightAware
+     */
+    public void setFlyweightRendering(boolean flyweight) {
+        boolean old = isFlyweightRendering();
+        this.flyweightRendering = flyweight;
+        firePropertyChange("flyweightRendering", old, isFlyweightRendering());
+    }
+
+    /**
+     * Returns a boolean indicating whether plain text cells are painted from
+     * cached glyph layouts.
+     *
+     * @return a boolean indicating whether flyweight rendering is enabled.
+     * @see #setFlyweightRendering(boolean)
+     */
+    public boolean isFlyweightRendering() {
+        return flyweightRendering;
+    }
+
+    /**
+     * Enables/disables the tile cache. If enabled, the table is painted from image
+     * tiles of its rendered regions, which are rendered once and then kept until the
+     * table repaints them. Scrolling back and forth over unchanged cells then copies
+     * the cached tiles instead of rendering the cells again. The default value is
+     * false.<p>
+     * <p>
+     * Every repaint of the table invalidates the tiles it intersects, so the
+     * table's own changes, like those of the model, the column model, the
+     * selection and the highlighters, are always painted. Client code which changes
+     * the appearance of cells without a repaint of the table, like a
+     * <code>HighlightPredicate</code> testing state outside of the table, must
+     * repaint the table explicitly.<p>
+     * <p>
+     * Only opaque tables painted to an unscaled, non-printing graphics are
+     * painted from tiles.
+     *
+     * @param enabled boolean to indicate whether the table should be painted from
+     *                cached tiles.
+     * @see #getTileCache()
+     * @see #createTileCache()
+     */
+    public void setTileCacheEnabled(boolean enabled) {
+        boolean old = isTileCacheEnabled();
+        if (enabled == old)
+            return;
+        tileCache = enabled ? createTileCache() : null;
+        firePropertyChange("tileCacheEnabled", old, isTileCacheEnabled());
+    }
+
+    /**
+     * Returns a boolean indicating whether the table is painted from cached tiles.
+     *
+     * @return a boolean indicating whether the tile cache is enabled.
+     * @see #setTileCacheEnabled(boolean)
+     */
+    public boolean isTileCacheEnabled() {
+        return tileCache != null;
+    }
+
+    /**
+     * Returns the cache of rendered tiles, or null if disabled. Its memory budget
+     * can be configured and its statistics be queried.
+     *
+     * @return the cache of rendered tiles, may be null.
+     * @see #setTileCacheEnabled(boolean)
+     */
+    public TableTileCache getTileCache() {
+        return tileCache;
+    }
+
+    /**
+     * Creates and returns the cache of rendered tiles used if the tile cache is
+     * enabled.<p>
+     * <p>
+     * This implementation returns a cache with the default tile size and memory
+     * budget.
+     *
+     * @return the cache of rendered tiles.
+     * @see #setTileCacheEnabled(boolean)
+     */
+    protected TableTileCache createTileCache() {
+        return new TableTileCache();
+    }
+
+    /**
+     * Returns the cache of the string representation of cells, or null if
+     * caching is disabled.
+     *
+     * @return the cache of the string representation of cells, may be null.
+     * @see #setStringCacheEnabled(boolean)
+     */
+    public CellStringCache getStringCache() {
+        return getStringValueRegistry().getStringCache();
+    }
+
+    /**
+     * Removes all cached strings, if caching is enabled.
+     */
+    private void clearStringCache() {
+        CellStringCache cache = getStringCache();
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Updates the cached strings after a change of the model. This is called
+     * before the change is propagated to the sorter.
+     *
+     * @param e the TableModelEvent describing the change
+     */
+    private void updateStringCache(TableModelEvent e) {
+        CellStringCache cache = getStringCache();
+        if (cache == null)
+            return;
+        if (isStructureChanged(e)) {
+            cache.modelStructureChanged();
+        } else if (isDataChanged(e)) {
+            cache.allRowsChanged();
+        } else if (e.getType() == TableModelEvent.INSERT) {
+            cache.rowsInserted(e.getFirstRow(), e.getLastRow());
+        } else if (e.getType() == TableModelEvent.DELETE) {
+            cache.rowsDeleted(e.getFirstRow(), e.getLastRow());
+        } else if (e.getColumn() == TableModelEvent.ALL_COLUMNS) {
+            cache.rowsUpdated(e.getFirstRow(), e.getLastRow());
+        } else {
+            cache.rowsUpdated(e.getFirstRow(), e.getLastRow(), e.getColumn());
+        }
+    }
+
     /**
      * Updates per-column class in StringValueRegistry. This is called after
      * structureChanged.
@@ -3287,6 +3794,7 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
      * @param renderer    the renderer potentially useful as StringValue.
      */
     private void updateStringValueForColumn(TableColumn tableColumn, TableCellRenderer renderer) {
+        modelChanged(null);
         getStringValueRegistry().setStringValue(
             renderer instanceof StringValue ? (StringValue) renderer : null, tableColumn.getModelIndex()
         );
@@ -3324,6 +3832,7 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
     @Override
     public void setDefaultRenderer(Class<?> columnClass, TableCellRenderer renderer) {
         super.setDefaultRenderer(columnClass, renderer);
+        modelChanged(null);
         getStringValueRegistry().setStringValue(renderer instanceof StringValue ? (StringValue) renderer : null, columnClass);
     }
 
@@ -3338,8 +3847,7 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
      */
     public String getStringAt(int row, int column) {
         // changed implementation to use StringValueRegistry
-        StringValue stringValue = getStringValueRegistry().getStringValue(convertRowIndexToModel(row), convertColumnIndexToModel(column));
-        return stringValue.getString(getValueAt(row, column));
+        return getStringValueRegistry().getString(convertRowIndexToModel(row), convertColumnIndexToModel(column), getValueAt(row, column));
     }
 
     /**
@@ -3366,6 +3874,206 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
         return renderer;
     }
 
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Overridden to paint from the cached tiles, if enabled, and to paint the
+     * background of striping highlighters once per visible row before the cells,
+     * instead of highlighting each cell.
+     *
+     * @see org.jdesktop.swingx.decorator.ColorHighlighter#isRowBand()
+     * @see #setTileCacheEnabled(boolean)
+     */
+    @Override
+    protected void paintComponent(Graphics g) {
+        updatePagedVisibleRows();
+        if (tileCache != null && isTilePainting(g)) {
+            paintTiles(g, tileCache);
+        } else {
+            paintCells(g);
+        }
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Overridden to invalidate the cached tiles intersecting the region, if enabled.
+     */
+    @Override
+    public void repaint(long tm, int x, int y, int width, int height) {
+        if (tileCache != null) {
+            tileCache.invalidate(x, y, width, height);
+        }
+        super.repaint(tm, x, y, width, height);
+    }
+
+    /**
+     * Returns a boolean indicating whether the table can be painted from tiles to
+     * the given graphics: it must be opaque, not printed and not scaled.
+     *
+     * @param g the graphics to paint to
+     * @return true if the table can be painted from tiles
+     */
+    private boolean isTilePainting(Graphics g) {
+        return isOpaque() && !isPaintingForPrint() && g instanceof Graphics2D && !(g instanceof PrinterGraphics)
+            && (((Graphics2D) g).getTransform().getType() & ~AffineTransform.TYPE_TRANSLATION) == 0;
+    }
+
+    /**
+     * Paints the tiles intersecting the clip, rendering and caching the tiles which
+     * aren't cached.
+     *
+     * @param g     the graphics to paint to
+     * @param cache the cache of rendered tiles
+     */
+    private void paintTiles(Graphics g, TableTileCache cache) {
+        int width = getWidth();
+        int height = getHeight();
+        cache.setTableSize(width, height);
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, width, height);
+        }
+        clip = clip.intersection(new Rectangle(0, 0, width, height));
+        if (clip.isEmpty())
+            return;
+        int size = cache.getTileSize();
+        for (int row = clip.y / size; row <= (clip.y + clip.height - 1) / size; row++) {
+            for (int column = clip.x / size; column <= (clip.x + clip.width - 1) / size; column++) {
+                BufferedImage tile = cache.getTile(column, row);
+                if (tile == null) {
+                    long invalidations = cache.getInvalidationCount();
+                    tile = renderTile(column * size, row * size,
+                        Math.min(size, width - column * size), Math.min(size, height - row * size));
+                    // a tile invalidated while rendering is painted but not kept
+                    if (invalidations == cache.getInvalidationCount()) {
+                        cache.putTile(column, row, tile);
+                    }
+                }
+                g.drawImage(tile, column * size, row * size, null);
+            }
+        }
+    }
+
+    /**
+     * Renders the given region of the table into a new image.
+     *
+     * @param x      the x coordinate of the region
+     * @param y      the y coordinate of the region
+     * @param width  the width of the region
+     * @param height the height of the region
+     * @return the rendered tile
+     */
+    private BufferedImage renderTile(int x, int y, int width, int height) {
+        GraphicsConfiguration configuration = getGraphicsConfiguration();
+        BufferedImage tile = configuration != null
+            ? configuration.createCompatibleImage(width, height)
+            : new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = tile.createGraphics();
+        try {
+            g.translate(-x, -y);
+            g.setClip(x, y, width, height);
+            g.setColor(getForeground());
+            g.setFont(getFont());
+            paintCells(g);
+        } finally {
+            g.dispose();
+        }
+        return tile;
+    }
+
+    /**
+     * Tells a PagedTableModel the visible rows before painting, so that it keeps
+     * their pages cached. Does nothing for other models or if the rows are
+     * not mapped one to one.
+     *
+     * @see PagedTableModel#setVisibleRows(int, int)
+     */
+    private void updatePagedVisibleRows() {
+        if (!(getModel() instanceof PagedTableModel)
+            || getRowSorter() != null && !(getRowSorter() instanceof PagedSortController))
+            return;
+        Rectangle visible = getVisibleRect();
+        int first = rowAtPoint(new Point(visible.x, visible.y));
+        int last = rowAtPoint(new Point(visible.x, visible.y + visible.height - 1));
+        if (first >= 0 && last < 0) {
+            last = getRowCount() - 1;
+        }
+        ((PagedTableModel) getModel()).setVisibleRows(first, last);
+    }
+
+    /**
+     * Paints the table's background, the row bands and the cells in the clip.
+     *
+     * @param g the graphics to paint to
+     */
+    private void paintCells(Graphics g) {
+        RowBands bands = getRowBands();
+        if (!bands.start(ui, compoundHighlighter)) {
+            super.paintComponent(g);
+            return;
+        }
+        Graphics scratch = g.create();
+        try {
+            paintRowBands(scratch, bands);
+            ui.paint(scratch, this);
+        } finally {
+            bands.stop();
+            scratch.dispose();
+        }
+    }
+
+    /**
+     * Paints the table's background and the row bands in the clip.
+     *
+     * @param g     the graphics to paint to
+     * @param bands the row bands
+     */
+    private void paintRowBands(Graphics g, RowBands bands) {
+        Color background = getBackground();
+        if (isOpaque()) {
+            g.setColor(background);
+            g.fillRect(0, 0, getWidth(), getHeight());
+        }
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+        if (getRowCount() == 0 || getColumnCount() == 0)
+            return;
+        int first = rowAtPoint(new Point(clip.x, clip.y));
+        if (first < 0)
+            return;
+        int last = rowAtPoint(new Point(clip.x, clip.y + clip.height - 1));
+        if (last < 0) {
+            last = getRowCount() - 1;
+        }
+        // the horizontal extent of the columns, the same for all rows
+        Rectangle columns = getCellRect(first, 0, true).union(getCellRect(first, getColumnCount() - 1, true));
+        int x = Math.max(clip.x, columns.x);
+        int width = Math.min(clip.x + clip.width, columns.x + columns.width) - x;
+        if (width <= 0)
+            return;
+        for (int row = first; row <= last; row++) {
+            Color band = bands.getBackground(row, background);
+            if (!band.equals(background)) {
+                Rectangle cell = getCellRect(row, 0, true);
+                g.setColor(band);
+                g.fillRect(x, cell.y, width, cell.height);
+            }
+        }
+    }
+
+    /**
+     * @return the row bands, lazily created.
+     */
+    private RowBands getRowBands() {
+        if (rowBands == null) {
+            rowBands = new RowBands();
+        }
+        return rowBands;
+    }
+
     /**
      * Returns the decorated <code>Component</code> used as a stamp to render
      * the specified cell. Overrides superclass version to provide support for
@@ -3402,7 +4110,9 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
      */
     @Override
     public Component prepareRenderer(TableCellRenderer renderer, int row, int column) {
-        Component stamp = super.prepareRenderer(renderer, row, column);
+        Component stamp = isPrimitiveCell(renderer, column)
+            ? preparePrimitiveRenderer((DefaultTableRenderer) renderer, row, column)
+            : super.prepareRenderer(renderer, row, column);
         // #145-swingx: default renderers don't respect componentOrientation.
         adjustComponentOrientation(stamp);
         // #258-swingx: hacking around DefaultTableCellRenderer color memory.
@@ -3412,6 +4122,9 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
         // a very slight optimization: if this instance never had a highlighter
         // added then don't create a compound here.
         if (compoundHighlighter != null) {
+            // striping is painted as row bands, if any
+            RowBands bands = getRowBands();
+            bands.startCell(stamp, adapter, this);
             stamp = compoundHighlighter.highlight(stamp, adapter);
         }
 
@@ -3419,17 +4132,56 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
 
         if (columnExt != null) {
             // JW: fix for #838 - artificial compound installs listener
-            // PENDING JW: instead of doing the looping ourselves, how
-            // about adding a method prepareRenderer to the TableColumnExt
-            for (Highlighter highlighter : columnExt.getHighlighters()) {
-                stamp = highlighter.highlight(stamp, adapter);
-            }
-
+            // the column applies its highlighters without copying them
+            stamp = columnExt.highlight(stamp, adapter);
+        }
+        if (rowBands != null) {
+            rowBands.endCell(stamp);
+        }
+        if (stamp instanceof FlyweightAware) {
+            ((FlyweightAware) stamp).setFlyweightPainting(flyweightRendering);
         }
 
         return stamp;
     }
 
+    /**
+     * Returns a boolean indicating whether the given renderer renders the cells of
+     * the given column without boxing: the column is a primitive column of the
+     * table's <code>PrimitiveTableModel</code> and the renderer a plain
+     * <code>DefaultTableRenderer</code> (subclasses might rely on the value).
+     *
+     * @param renderer the renderer to prepare
+     * @param column   the column in view coordinates
+     * @return true if the cells are rendered without boxing
+     */
+    private boolean isPrimitiveCell(TableCellRenderer renderer, int column) {
+        return renderer != null && renderer.getClass() == DefaultTableRenderer.class
+            && getModel() instanceof PrimitiveTableModel
+            && ((PrimitiveTableModel) getModel()).getPrimitiveType(convertColumnIndexToModel(column)) != null;
+    }
+
+    /**
+     * Prepares the renderer of a primitive cell like super does, without
+     * asking for the (boxed) value.
+     *
+     * @param renderer the renderer to prepare
+     * @param row      the row of the cell to render
+     * @param column   the column of the cell to render
+     * @return the rendering component
+     */
+    private Component preparePrimitiveRenderer(DefaultTableRenderer renderer, int row, int column) {
+        boolean isSelected = false;
+        boolean hasFocus = false;
+        if (!isPaintingForPrint()) {
+            isSelected = isCellSelected(row, column);
+            boolean rowIsLead = selectionModel.getLeadSelectionIndex() == row;
+            boolean colIsLead = columnModel.getSelectionModel().getLeadSelectionIndex() == column;
+            hasFocus = rowIsLead && colIsLead && isFocusOwner();
+        }
+        return renderer.getPrimitiveCellRendererComponent(this, isSelected, hasFocus, row, column);
+    }
+
     /**
      * Convenience method to get the rendering component for the given cell.
      *
@@ -3470,7 +4222,9 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
      * @see ResetDTCRColorHighlighter
      */
     protected void resetDefaultTableCellRendererColors(Component renderer, int row, int column) {
-        if (!Boolean.TRUE.equals(getClientProperty(USE_DTCR_COLORMEMORY_HACK)))
+        // the hack applies to DefaultTableCellRenderers only, skip the lookup for all others
+        if (!(renderer instanceof DefaultTableCellRenderer)
+            || !Boolean.TRUE.equals(getClientProperty(USE_DTCR_COLORMEMORY_HACK)))
             return;
         ComponentAdapter adapter = getComponentAdapter(row, column);
         if (resetDefaultTableCellRendererHighlighter == null) {
@@ -3845,7 +4599,8 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
      * {@inheritDoc}
      * <p>
      * <p>
-     * Overridden to uninstall the custom editor remover.
+     * Overridden to uninstall the custom editor remover and to drop the cached
+     * tiles.
      */
     @Override
     public void removeNotify() {
@@ -3853,6 +4608,9 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
             editorRemover.uninstall();
             editorRemover = null;
         }
+        if (tileCache != null) {
+            tileCache.invalidateAll();
+        }
         super.removeNotify();
     }
 
@@ -4179,12 +4937,154 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
      */
     @Override
     public void setRowHeight(int rowHeight) {
+        if (rowHeight > 0) {
+            modelRowHeights = null;
+            rowHeightIndex = null;
+        }
         super.setRowHeight(rowHeight);
         if (rowHeight > 0) {
             isXTableRowHeightSet = true;
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Overridden to keep the heights by model row and the positions of the view rows
+     * in a RowHeightIndex instead of core's SizeSequence: changing a height and
+     * mapping between positions and rows are O(log n). Does nothing if the row is
+     * out of range.
+     *
+     * @see RowHeightIndex
+     */
+    @Override
+    public void setRowHeight(int row, int rowHeight) {
+        if (rowHeight <= 0)
+            throw new IllegalArgumentException("New row height less than 1");
+        if (row < 0 || row >= getRowCount())
+            return;
+        int modelRow = convertRowIndexToModel(row);
+        if (modelRowHeights == null || modelRowHeights.length < getModel().getRowCount()) {
+            int[] heights = new int[Math.max(modelRow + 1, getModel().getRowCount())];
+            if (modelRowHeights != null) {
+                System.arraycopy(modelRowHeights, 0, heights, 0, modelRowHeights.length);
+            }
+            modelRowHeights = heights;
+        }
+        if (modelRowHeights[modelRow] == rowHeight)
+            return;
+        modelRowHeights[modelRow] = rowHeight;
+        if (rowHeightIndex != null) {
+            rowHeightIndex.setSize(row, rowHeight);
+        }
+        resizeAndRepaint();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Overridden to return the height set by setRowHeight(int, int), if any.
+     */
+    @Override
+    public int getRowHeight(int row) {
+        if (modelRowHeights == null || row < 0 || row >= getRowCount())
+            return getRowHeight();
+        return getRowHeightIndex().getSize(row);
+    }
+
+    /**
+     * Returns the positions of the view rows, rebuilt in O(n) from the heights by
+     * model row after model or sorter changes. Rows without a height set have
+     * the default rowHeight. Must be called only if there are heights set.
+     *
+     * @return the positions of the view rows
+     */
+    private RowHeightIndex getRowHeightIndex() {
+        if (rowHeightIndex == null) {
+            int[] heights = new int[getRowCount()];
+            for (int row = 0; row < heights.length; row++) {
+                int modelRow = convertRowIndexToModel(row);
+                int height = modelRow < modelRowHeights.length ? modelRowHeights[modelRow] : 0;
+                heights[row] = height > 0 ? height : getRowHeight();
+            }
+            rowHeightIndex = new RowHeightIndex(heights);
+        }
+        return rowHeightIndex;
+    }
+
+    /**
+     * Increments the model version and records the rows of an update of rows.
+     *
+     * @param e the TableModelEvent received from the model, null for other changes
+     *          of the data as seen by the table, like of its string representation
+     */
+    private void modelChanged(TableModelEvent e) {
+        modelVersion++;
+        if (e != null && isUpdate(e)) {
+            if (rowUpdates == null) {
+                rowUpdates = new int[2 * ROW_UPDATES];
+            }
+            int slot = (int) (modelVersion % ROW_UPDATES) * 2;
+            rowUpdates[slot] = e.getFirstRow();
+            rowUpdates[slot + 1] = e.getLastRow();
+        } else {
+            rowUpdatesVersion = modelVersion;
+        }
+    }
+
+    /**
+     * Returns the model rows updated since the given model version, if all changes
+     * since were recorded updates of rows.
+     *
+     * @param version the earlier model version
+     * @param rows    the array to receive the first and last row of each update
+     * @return the count of updates, -1 if not known or too many for the array
+     * @see ComponentAdapter#getUpdatedRows(long, int[])
+     */
+    private int getUpdatedRows(long version, int[] rows) {
+        long count = modelVersion - version;
+        if (version < rowUpdatesVersion || count < 0 || count > ROW_UPDATES || 2 * count > rows.length)
+            return -1;
+        for (int i = 0; i < count; i++) {
+            int slot = (int) ((version + 1 + i) % ROW_UPDATES) * 2;
+            rows[2 * i] = rowUpdates[slot];
+            rows[2 * i + 1] = rowUpdates[slot + 1];
+        }
+        return (int) count;
+    }
+
+    /**
+     * Updates the heights by model row on model changes, before the change is
+     * processed. Mirrors core: the heights are reset on dataChanged and
+     * structureChanged. The positions of the view rows are kept on updates of
+     * rows, a change of the sorter's mapping resets them in sorterChanged.
+     *
+     * @param e the TableModelEvent received from the model
+     */
+    private void updateModelRowHeights(TableModelEvent e) {
+        if (isUpdate(e))
+            return;
+        rowHeightIndex = null;
+        if (modelRowHeights == null)
+            return;
+        if (e == null || isStructureChanged(e) || isDataChanged(e)) {
+            modelRowHeights = null;
+        } else if (e.getType() == TableModelEvent.INSERT) {
+            int count = e.getLastRow() - e.getFirstRow() + 1;
+            int[] heights = new int[Math.max(modelRowHeights.length + count, getModel().getRowCount())];
+            int first = Math.min(e.getFirstRow(), modelRowHeights.length);
+            System.arraycopy(modelRowHeights, 0, heights, 0, first);
+            System.arraycopy(modelRowHeights, first, heights, first + count, modelRowHeights.length - first);
+            modelRowHeights = heights;
+        } else if (e.getType() == TableModelEvent.DELETE && e.getFirstRow() < modelRowHeights.length) {
+            int last = Math.min(e.getLastRow(), modelRowHeights.length - 1);
+            int[] heights = new int[modelRowHeights.length - (last - e.getFirstRow() + 1)];
+            System.arraycopy(modelRowHeights, 0, heights, 0, e.getFirstRow());
+            System.arraycopy(modelRowHeights, last + 1, heights, e.getFirstRow(), modelRowHeights.length - last - 1);
+            modelRowHeights = heights;
+        }
+    }
+
     /**
      * Sets the rowHeight for all rows to the given value. Keeps the flag
      * <code>isXTableRowHeight</code> unchanged. This enables the distinction
@@ -4213,9 +5113,44 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
     public int rowAtPoint(Point point) {
         if (point.y < 0)
             return -1;
+        if (modelRowHeights != null) {
+            int row = getRowHeightIndex().getIndex(point.y);
+            return row < getRowCount() ? row : -1;
+        }
         return super.rowAtPoint(point);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Overridden to take the position of rows with variable heights from the
+     * RowHeightIndex.
+     */
+    @Override
+    public Rectangle getCellRect(int row, int column, boolean includeSpacing) {
+        Rectangle cellRect = super.getCellRect(row, column, includeSpacing);
+        if (modelRowHeights != null && row >= 0 && row < getRowCount()) {
+            cellRect.y = getRowHeightIndex().getPosition(row);
+            if (!includeSpacing) {
+                cellRect.y += Math.min(getRowMargin(), getRowHeight(row)) / 2;
+            }
+        }
+        return cellRect;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Overridden to scroll by the visible height with variable row heights: core
+     * assumes uniform heights unless its own SizeSequence is used.
+     */
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+        if (modelRowHeights != null && orientation == SwingConstants.VERTICAL)
+            return visibleRect.height;
+        return super.getScrollableBlockIncrement(visibleRect, orientation, direction);
+    }
+
     /**
      * {@inheritDoc}
      * <p>
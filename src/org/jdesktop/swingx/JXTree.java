@@ -67,6 +67,7 @@ import java.awt.KeyboardFocusManager;
 import java.awt.Rectangle;
 import java.awt.Window;
 import java.awt.event.ActionEvent;
+import java.awt.event.MouseEvent;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.util.Hashtable;
@@ -1471,6 +1472,24 @@ public class JXTree extends JTree {
 
 //------------------------------- ComponentAdapter
 
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Overridden to flag the renderer as prepared for a tooltip, so that tooltip
+     * decorations are applied to the cell under the mouse only.
+     *
+     * @see ComponentAdapter#isPreparingToolTip()
+     */
+    @Override
+    public String getToolTipText(MouseEvent event) {
+        preparingToolTip = true;
+        try {
+            return super.getToolTipText(event);
+        } finally {
+            preparingToolTip = false;
+        }
+    }
+
     /**
      * @return the unconfigured ComponentAdapter.
      */
@@ -1497,6 +1516,13 @@ public class JXTree extends JTree {
 
     protected ComponentAdapter dataAdapter;
 
+    /**
+     * flag to indicate that the renderer is prepared for a tooltip rather than painting.
+     *
+     * @see ComponentAdapter#isPreparingToolTip()
+     */
+    boolean preparingToolTip;
+
     protected static class TreeAdapter extends ComponentAdapter {
 
         private final JXTree tree;
@@ -1524,6 +1550,14 @@ public class JXTree extends JTree {
             return tree.isFocusOwner() && tree.getLeadSelectionRow() == row;
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isPreparingToolTip() {
+            return tree.preparingToolTip;
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -1456,14 +1456,28 @@ public class JXTreeTable extends JXTable {
     /**
      * {@inheritDoc} <p>
      * <p>
-     * Overridden to special-case the hierarchical column.
+     * Overridden to special-case the hierarchical column: the tree is prepared for
+     * the tooltip of the cell under the mouse, its fixed tooltip text is restored
+     * afterwards.
      */
     @Override
     public String getToolTipText(MouseEvent event) {
         int column = columnAtPoint(event.getPoint());
         if (column >= 0 && isHierarchical(column)) {
             int row = rowAtPoint(event.getPoint());
-            return renderer.getToolTipText(event, row, column);
+            if (row < 0)
+                return renderer.getToolTipText(event, row, column);
+            String toolTipText = renderer.getToolTipText();
+            preparingToolTip = true;
+            renderer.preparingToolTip = true;
+            try {
+                prepareRenderer(getCellRenderer(row, column), row, column);
+                return renderer.getToolTipText(event, row, column);
+            } finally {
+                preparingToolTip = false;
+                renderer.preparingToolTip = false;
+                renderer.setToolTipText(toolTipText);
+            }
         }
         return super.getToolTipText(event);
     }
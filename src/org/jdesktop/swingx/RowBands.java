@@ -0,0 +1,152 @@
+package org.jdesktop.swingx;
+
+import org.jdesktop.swingx.decorator.ColorHighlighter;
+import org.jdesktop.swingx.decorator.ComponentAdapter;
+import org.jdesktop.swingx.decorator.CompoundHighlighter;
+import org.jdesktop.swingx.decorator.HighlightPredicate;
+import org.jdesktop.swingx.decorator.Highlighter;
+
+import javax.swing.JComponent;
+import javax.swing.plaf.ComponentUI;
+import javax.swing.plaf.synth.SynthUI;
+import java.awt.Color;
+import java.awt.Component;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The row bands painted by JXTable and JXList: the leading ColorHighlighters which
+ * only highlight the background of unselected cells by row, like striping, are
+ * painted once per visible row beneath the cells instead of highlighting every
+ * cell. The renderer of a banded cell gets the band's background before the
+ * following highlighters run, so that they start from it as with per-cell striping.
+ * The renderers of cells whose background isn't highlighted otherwise are made
+ * non-opaque so that the band shows, and opaque again on the next cell.
+ *
+ * @see ColorHighlighter#isRowBand()
+ */
+final class RowBands {
+
+    private static final ColorHighlighter[] NO_BANDS = new ColorHighlighter[0];
+
+    private ColorHighlighter[] bands = NO_BANDS;
+
+    /**
+     * the band's background of the cell prepared while painting the bands, null if
+     * the cell isn't banded.
+     */
+    private Color cellBackground;
+
+    /**
+     * the renderers made non-opaque in this paint pass.
+     */
+    private final List<JComponent> transparent = new ArrayList<>();
+
+    /**
+     * Collects the bands to paint from the given highlighters, before a paint pass.
+     * Synth based UIs paint their own background, they get no bands.
+     *
+     * @param ui          the component's UI delegate
+     * @param highlighter the component's highlighters, may be null
+     * @return true if there are bands to paint
+     */
+    boolean start(ComponentUI ui, CompoundHighlighter highlighter) {
+        bands = NO_BANDS;
+        cellBackground = null;
+        if (ui == null || ui instanceof SynthUI || highlighter == null
+            || highlighter.getHighlightPredicate() != HighlightPredicate.ALWAYS)
+            return false;
+        Highlighter[] highlighters = highlighter.getHighlighters();
+        int count = 0;
+        while (count < highlighters.length && highlighters[count] instanceof ColorHighlighter
+            && ((ColorHighlighter) highlighters[count]).isRowBand()) {
+            count++;
+        }
+        if (count > 0) {
+            bands = new ColorHighlighter[count];
+            System.arraycopy(highlighters, 0, bands, 0, count);
+        }
+        return count > 0;
+    }
+
+    /**
+     * Ends the paint pass.
+     */
+    void stop() {
+        bands = NO_BANDS;
+        cellBackground = null;
+        for (JComponent renderer : transparent) {
+            renderer.setOpaque(true);
+        }
+        transparent.clear();
+    }
+
+    /**
+     * Returns the background of the unselected cells of the given row.
+     *
+     * @param row        the row in view coordinates
+     * @param background the component's background
+     * @return the background of the row band
+     */
+    Color getBackground(int row, Color background) {
+        Color color = background;
+        for (ColorHighlighter band : bands) {
+            color = band.getRowBandBackground(row, color);
+        }
+        return color;
+    }
+
+    /**
+     * Marks the cell about to be highlighted as banded, if bands are painted, the
+     * cell isn't selected and the renderer has the component's background, and sets
+     * the band's background to the renderer. Makes the renderer opaque again if it
+     * was made non-opaque for a previous cell.
+     *
+     * @param stamp     the prepared renderer
+     * @param adapter   the adapter of the cell
+     * @param component the rendered component
+     */
+    void startCell(Component stamp, ComponentAdapter adapter, JComponent component) {
+        if (!transparent.isEmpty() && transparent.remove(stamp)) {
+            ((JComponent) stamp).setOpaque(true);
+        }
+        if (bands.length > 0 && !adapter.isSelected() && component.getBackground().equals(stamp.getBackground())) {
+            cellBackground = getBackground(adapter.row, component.getBackground());
+            stamp.setBackground(cellBackground);
+        } else {
+            cellBackground = null;
+        }
+    }
+
+    /**
+     * Makes the highlighted renderer non-opaque if the cell is banded and its
+     * background still the band's.
+     *
+     * @param stamp the highlighted renderer
+     */
+    void endCell(Component stamp) {
+        if (cellBackground != null && stamp.getBackground() == cellBackground
+            && stamp instanceof JComponent && stamp.isOpaque()) {
+            ((JComponent) stamp).setOpaque(false);
+            transparent.add((JComponent) stamp);
+        }
+        cellBackground = null;
+    }
+
+    /**
+     * Returns true if the given highlighter is painted as a band beneath the cell
+     * being highlighted.
+     *
+     * @param highlighter the highlighter
+     * @return true if the highlighter is painted as a band
+     */
+    boolean isBanded(Highlighter highlighter) {
+        if (cellBackground == null)
+            return false;
+        for (ColorHighlighter band : bands) {
+            if (band == highlighter)
+                return true;
+        }
+        return false;
+    }
+}
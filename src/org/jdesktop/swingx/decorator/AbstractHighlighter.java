@@ -86,7 +86,7 @@ import java.awt.Component;
  * @see HighlightPredicate
  * @see org.jdesktop.swingx.renderer.ComponentProvider
  */
-public abstract class AbstractHighlighter implements Highlighter {
+public abstract class AbstractHighlighter implements Highlighter, ColumnScoped {
 
     /**
      * Only one <code>ChangeEvent</code> is needed per model instance since the
@@ -191,6 +191,18 @@ public abstract class AbstractHighlighter implements Highlighter {
         return true;
     }
 
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * This implementation returns the scope of the HighlightPredicate, true if it
+     * isn't ColumnScoped. Subclasses with column-dependent state must override.
+     */
+    @Override
+    public boolean isColumnInScope(ComponentAdapter adapter, int modelColumn) {
+        HighlightPredicate predicate = getHighlightPredicate();
+        return !(predicate instanceof ColumnScoped) || ((ColumnScoped) predicate).isColumnInScope(adapter, modelColumn);
+    }
+
     /**
      * Apply the highlights.
      *
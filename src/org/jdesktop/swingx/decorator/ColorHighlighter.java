@@ -20,10 +20,11 @@
  */
 package org.jdesktop.swingx.decorator;
 
+import org.jdesktop.swingx.util.PaintUtils;
+
 import java.awt.Color;
 import java.awt.Component;
 
-import static org.jdesktop.swingx.util.PaintUtils.blend;
 
 /**
  * A Highlighter to modify component colors.
@@ -43,6 +44,11 @@ public class ColorHighlighter extends AbstractHighlighter {
     private Color selectedBackground;
     private Color selectedForeground;
 
+    /**
+     * the last two origin, over and blended colors per slot, most recent first.
+     */
+    private transient Color[] blends;
+
     /**
      * Instantiates a ColorHighlighter with null colors and default
      * HighlightPredicate.
@@ -119,6 +125,18 @@ public class ColorHighlighter extends AbstractHighlighter {
         this.selectedForeground = selectedForeground;
     }
 
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Implemented to return false if the component paints this as a row band.
+     *
+     * @see ComponentAdapter#isPaintedAsRowBand(Highlighter)
+     */
+    @Override
+    protected boolean canHighlight(Component component, ComponentAdapter adapter) {
+        return !adapter.isPaintedAsRowBand(this);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -143,7 +161,7 @@ public class ColorHighlighter extends AbstractHighlighter {
     protected void applyBackground(Component renderer, ComponentAdapter adapter) {
         Color color = adapter.isSelected() ? getSelectedBackground() : getBackground();
 
-        renderer.setBackground(blend(renderer.getBackground(), color));
+        renderer.setBackground(blend(adapter.isSelected() ? 1 : 0, renderer.getBackground(), color));
     }
 
     /**
@@ -160,7 +178,74 @@ public class ColorHighlighter extends AbstractHighlighter {
     protected void applyForeground(Component renderer, ComponentAdapter adapter) {
         Color color = adapter.isSelected() ? getSelectedForeground() : getForeground();
 
-        renderer.setForeground(blend(renderer.getForeground(), color));
+        renderer.setForeground(blend(adapter.isSelected() ? 3 : 2, renderer.getForeground(), color));
+    }
+
+    /**
+     * Blends the colors like PaintUtils.blend, reusing the result while the same
+     * colors are blended in the given slot, so that highlighting doesn't
+     * create a Color per cell. Two results are kept per slot, for the alternating
+     * backgrounds of striped rows.
+     *
+     * @param slot   the slot of the background/foreground of unselected/selected cells
+     * @param origin the base of the new color
+     * @param over   the color to add to the origin
+     * @return the blended color
+     */
+    private Color blend(int slot, Color origin, Color over) {
+        if (origin == null || over == null)
+            return PaintUtils.blend(origin, over);
+        if (blends == null) {
+            blends = new Color[24];
+        }
+        int index = slot * 6;
+        if (origin.equals(blends[index]) && over.equals(blends[index + 1]))
+            return blends[index + 2];
+        if (!origin.equals(blends[index + 3]) || !over.equals(blends[index + 4])) {
+            blends[index + 3] = origin;
+            blends[index + 4] = over;
+            blends[index + 5] = PaintUtils.blend(origin, over);
+        }
+        // the most recent first
+        for (int i = 0; i < 3; i++) {
+            Color recent = blends[index + 3 + i];
+            blends[index + 3 + i] = blends[index + i];
+            blends[index + i] = recent;
+        }
+        return blends[index + 2];
+    }
+
+//---------------------- row bands
+
+    /**
+     * Returns whether this highlights the background of unselected cells depending on
+     * their view row only, so that a component may paint the highlight once per row
+     * as a band beneath the cells. That's the case if the predicate is a
+     * RowHighlightPredicate and the background is the only color.
+     * <p>
+     * Subclasses which change the way the background is applied must return false.
+     *
+     * @return true if this can be painted as row bands
+     * @see #getRowBandBackground(int, Color)
+     */
+    public boolean isRowBand() {
+        return getHighlightPredicate() instanceof RowHighlightPredicate && getBackground() != null
+            && getForeground() == null && getSelectedBackground() == null && getSelectedForeground() == null;
+    }
+
+    /**
+     * Returns the background of the unselected cells of the given row as highlighted
+     * by this. Must only be called if this is a row band.
+     *
+     * @param row        the row in view coordinates
+     * @param background the background of the cells before highlighting
+     * @return the background of the cells after highlighting
+     * @see #isRowBand()
+     */
+    public Color getRowBandBackground(int row, Color background) {
+        if (!((RowHighlightPredicate) getHighlightPredicate()).isRowHighlighted(row))
+            return background;
+        return blend(0, background, getBackground());
     }
 
 //---------------------- state
@@ -0,0 +1,28 @@
+package org.jdesktop.swingx.decorator;
+
+/**
+ * Implemented by Highlighters and HighlightPredicates which apply to some columns
+ * only. A <code>CompoundHighlighter</code> skips contained Highlighters for cells of
+ * columns out of their scope, without evaluating their predicates. Highlighters and
+ * predicates not implementing this interface are in scope of all columns.
+ * <p>
+ * The scope must depend on the column only, typically its model index or identifier.
+ * Containers are notified about a change of the scope by a ChangeEvent of the
+ * Highlighter.
+ *
+ * @see CompoundHighlighter
+ */
+public interface ColumnScoped {
+
+    /**
+     * Returns whether this might apply to cells of the given column. Returning true
+     * is always safe, returning false guarantees that this doesn't apply to any
+     * cell of the column.
+     *
+     * @param adapter     the ComponentAdapter of the rendered component, its row and
+     *                    column are undefined
+     * @param modelColumn the column index in model coordinates
+     * @return false if this doesn't apply to the column, true if it might
+     */
+    boolean isColumnInScope(ComponentAdapter adapter, int modelColumn);
+}
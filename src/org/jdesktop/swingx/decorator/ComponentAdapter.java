@@ -424,6 +424,75 @@ public abstract class ComponentAdapter {
         return getValueAt(convertRowIndexToModel(row), column);
     }
 
+    /**
+     * Returns the primitive type of the value of the cell identified by this adapter,
+     * if it is accessible without boxing by getLongValue or getDoubleValue:
+     * <code>int.class</code>, <code>long.class</code> or <code>double.class</code>.
+     * This implementation returns null.
+     *
+     * @return the primitive type of the value or null if not primitive
+     * @see #getLongValue()
+     * @see #getDoubleValue()
+     */
+    public Class<?> getPrimitiveType() {
+        return null;
+    }
+
+    /**
+     * Returns the value of type int or long of the cell identified by this adapter.
+     * This implementation unboxes the value.
+     *
+     * @return the value of the cell identified by this adapter
+     * @see #getPrimitiveType()
+     */
+    public long getLongValue() {
+        return ((Number) getValue()).longValue();
+    }
+
+    /**
+     * Returns the value of primitive type of the cell identified by this adapter.
+     * This implementation unboxes the value.
+     *
+     * @return the value of the cell identified by this adapter
+     * @see #getPrimitiveType()
+     */
+    public double getDoubleValue() {
+        return ((Number) getValue()).doubleValue();
+    }
+
+    /**
+     * Returns the version of the target's model data, a number which changes whenever
+     * the values or their string representation might have changed. Results computed
+     * from the data of a model row are valid as long as the version is unchanged.<p>
+     * <p>
+     * This implementation returns -1, that is the data isn't versioned.
+     *
+     * @return the version of the model data or -1 if not versioned
+     * @see MemoizedHighlightPredicate
+     */
+    public long getModelVersion() {
+        return -1;
+    }
+
+    /**
+     * Returns the model rows whose data changed between the given and the current
+     * model version, if only rows were updated since: the first and last row
+     * (inclusive) of each update are written to the given array, in pairs. Results
+     * computed from the data of other model rows at the given version are still
+     * valid.<p>
+     * <p>
+     * This implementation returns -1, that is the changes are not known.
+     *
+     * @param version an earlier model version
+     * @param rows    the array to receive the first and last row of each update
+     * @return the count of updates written to the array, -1 if the changes are not
+     * known, not updates of rows only or too many for the array
+     * @see #getModelVersion()
+     */
+    public int getUpdatedRows(long version, int[] rows) {
+        return -1;
+    }
+
     //----------------------- accessing the target's view state
 
     /**
@@ -435,6 +504,35 @@ public abstract class ComponentAdapter {
         return target.getBounds();
     }
 
+    /**
+     * Returns true if the renderer is prepared for the tooltip of the cell identified
+     * by this adapter, false if it is prepared for painting. Decorations which only
+     * show in the tooltip, like a tooltip text, need not be applied for painting.<p>
+     * <p>
+     * This implementation returns true, that is tooltips are always decorated.
+     *
+     * @return true if the renderer is prepared for a tooltip, false if for painting
+     * @see ToolTipHighlighter
+     */
+    public boolean isPreparingToolTip() {
+        return true;
+    }
+
+    /**
+     * Returns true if the target paints the background highlight of the given
+     * Highlighter as a row band beneath the cell identified by this adapter, so the
+     * Highlighter must not highlight the cell.<p>
+     * <p>
+     * This implementation returns false.
+     *
+     * @param highlighter the Highlighter to check
+     * @return true if the target paints the highlight as a row band
+     * @see ColorHighlighter#isRowBand()
+     */
+    public boolean isPaintedAsRowBand(Highlighter highlighter) {
+        return false;
+    }
+
     /**
      * Returns true if the cell identified by this adapter currently has focus.
      * Otherwise, it returns false.
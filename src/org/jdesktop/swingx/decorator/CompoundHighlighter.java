@@ -47,6 +47,13 @@ public class CompoundHighlighter extends AbstractHighlighter implements UIDepend
      */
     private ChangeListener highlighterChangeListener;
 
+    /**
+     * the contained Highlighters in scope per model column, lazily filled, and the
+     * component they are valid for.
+     */
+    private transient Highlighter[][] columnScopes;
+    private transient Object columnScopesComponent;
+
     /**
      * Instantiates a CompoundHighlighter containing the given
      * <code>Highlighter</code>s.
@@ -87,6 +94,7 @@ public class CompoundHighlighter extends AbstractHighlighter implements UIDepend
         if (highlighters.isEmpty() && inList.length == 0)
             return;
         removeAllHighlightersSilently();
+        invalidateColumnScopes();
         for (Highlighter highlighter : inList) {
             addHighlighterSilently(highlighter, false);
         }
@@ -125,6 +133,7 @@ public class CompoundHighlighter extends AbstractHighlighter implements UIDepend
      */
     public void addHighlighter(Highlighter highlighter, boolean prepend) {
         addHighlighterSilently(highlighter, prepend);
+        invalidateColumnScopes();
         fireStateChanged();
     }
 
@@ -149,6 +158,7 @@ public class CompoundHighlighter extends AbstractHighlighter implements UIDepend
         if (success) {
             // PENDING: duplicates?
             hl.removeChangeListener(getHighlighterChangeListener());
+            invalidateColumnScopes();
             fireStateChanged();
         }
         // should log if this didn't succeed. Maybe
@@ -195,13 +205,16 @@ public class CompoundHighlighter extends AbstractHighlighter implements UIDepend
 
     /**
      * Creates and returns the ChangeListener registered to
-     * contained <code>Highlighter</code>s. Here: fires a
-     * stateChanged on each notification.
+     * contained <code>Highlighter</code>s. Here: invalidates the column
+     * scopes and fires a stateChanged on each notification.
      *
      * @return the listener for contained Highlighters.
      */
     protected ChangeListener createHighlighterChangeListener() {
-        return highlighterChangeListener = e -> fireStateChanged();
+        return highlighterChangeListener = e -> {
+            invalidateColumnScopes();
+            fireStateChanged();
+        };
     }
 
     /**
@@ -215,14 +228,84 @@ public class CompoundHighlighter extends AbstractHighlighter implements UIDepend
         }
     }
 
+//------------------- column scopes
+
+    /**
+     * Drops the contained Highlighters in scope per column. Done automatically on
+     * changes of the contained Highlighters, the rendered component must call it
+     * after a change of the column properties the scopes depend on, like the column
+     * identifiers.
+     *
+     * @see ColumnScoped
+     */
+    public void invalidateColumnScopes() {
+        columnScopes = null;
+        columnScopesComponent = null;
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Implemented to return true if this predicate and any contained
+     * Highlighter might apply to the column.
+     */
+    @Override
+    public boolean isColumnInScope(ComponentAdapter adapter, int modelColumn) {
+        if (!super.isColumnInScope(adapter, modelColumn))
+            return false;
+        return getColumnScope(adapter, modelColumn).length > 0;
+    }
+
+    /**
+     * Returns the contained Highlighters which might apply to the given column,
+     * building the entry on first access.
+     *
+     * @param adapter     the ComponentAdapter of the rendered component
+     * @param modelColumn the column in model coordinates, must be valid
+     * @return the Highlighters in scope of the column
+     */
+    private Highlighter[] getColumnScope(ComponentAdapter adapter, int modelColumn) {
+        int columnCount = adapter.getColumnCount();
+        if (columnScopes == null || columnScopes.length != columnCount
+            || columnScopesComponent != adapter.getComponent()) {
+            columnScopes = new Highlighter[columnCount][];
+            columnScopesComponent = adapter.getComponent();
+        }
+        Highlighter[] scope = columnScopes[modelColumn];
+        if (scope == null) {
+            List<Highlighter> inScope = new ArrayList<>();
+            for (Highlighter highlighter : highlighters) {
+                if (!(highlighter instanceof ColumnScoped)
+                    || ((ColumnScoped) highlighter).isColumnInScope(adapter, modelColumn)) {
+                    inScope.add(highlighter);
+                }
+            }
+            scope = inScope.toArray(EMPTY_HIGHLIGHTERS);
+            columnScopes[modelColumn] = scope;
+        }
+        return scope;
+    }
+
 //------------------- implement Highlighter
 
     /**
-     * {@inheritDoc}
+     * {@inheritDoc} <p>
+     * <p>
+     * Implemented to apply the contained Highlighters in scope of the adapter's
+     * column only.
      */
     @Override
     protected Component doHighlight(Component stamp, ComponentAdapter adapter) {
-        for (Highlighter highlighter : highlighters) {
+        int modelColumn = adapter.convertColumnIndexToModel(adapter.column);
+        if (modelColumn < 0 || modelColumn >= adapter.getColumnCount()) {
+            // indexed, no iterator per cell
+            for (int i = 0; i < highlighters.size(); i++) {
+                stamp = highlighters.get(i).highlight(stamp, adapter);
+            }
+            return stamp;
+        }
+        Highlighter[] scope = getColumnScope(adapter, modelColumn);
+        for (Highlighter highlighter : scope) {
             stamp = highlighter.highlight(stamp, adapter);
         }
         return stamp;
@@ -291,7 +291,18 @@ public interface HighlightPredicate {
      * PENDING: this is zero based (that is "really" even 0, 2, 4 ..), differing
      * from the old AlternateRowHighlighter.
      */
-    HighlightPredicate EVEN = (renderer, adapter) -> adapter.row % 2 == 0;
+    HighlightPredicate EVEN = new RowHighlightPredicate() {
+
+        @Override
+        public boolean isHighlighted(Component renderer, ComponentAdapter adapter) {
+            return isRowHighlighted(adapter.row);
+        }
+
+        @Override
+        public boolean isRowHighlighted(int row) {
+            return row % 2 == 0;
+        }
+    };
 
     /**
      * Odd rows.
@@ -299,19 +310,37 @@ public interface HighlightPredicate {
      * PENDING: this is zero based (that is 1, 3, 4 ..), differs from
      * the old implementation which was one based?
      */
-    HighlightPredicate ODD = (renderer, adapter) -> !EVEN.isHighlighted(renderer, adapter);
+    HighlightPredicate ODD = new RowHighlightPredicate() {
+
+        @Override
+        public boolean isHighlighted(Component renderer, ComponentAdapter adapter) {
+            return isRowHighlighted(adapter.row);
+        }
+
+        @Override
+        public boolean isRowHighlighted(int row) {
+            return row % 2 != 0;
+        }
+    };
 
     /**
      * Negative BigDecimals.
      */
-    HighlightPredicate BIG_DECIMAL_NEGATIVE = (renderer, adapter) -> adapter.getValue() instanceof BigDecimal
+    HighlightPredicate BIG_DECIMAL_NEGATIVE = (renderer, adapter) -> adapter.getPrimitiveType() == null
+                                                             && adapter.getValue() instanceof BigDecimal
                                                              && ((BigDecimal) adapter.getValue()).compareTo(BigDecimal.ZERO) < 0;
 
     /**
-     * Negative Number.
+     * Negative Number. Primitive values are tested without boxing.
      */
-    HighlightPredicate INTEGER_NEGATIVE = (renderer, adapter) -> adapter.getValue() instanceof Number
-                                                         && ((Number) adapter.getValue()).intValue() < 0;
+    HighlightPredicate INTEGER_NEGATIVE = (renderer, adapter) -> {
+        Class<?> type = adapter.getPrimitiveType();
+        if (type == double.class)
+            return (int) adapter.getDoubleValue() < 0;
+        if (type != null)
+            return (int) adapter.getLongValue() < 0;
+        return adapter.getValue() instanceof Number && ((Number) adapter.getValue()).intValue() < 0;
+    };
 
     // PENDING: these general type empty arrays don't really belong here?
     HighlightPredicate[] EMPTY_PREDICATE_ARRAY = new HighlightPredicate[0];
@@ -359,7 +388,7 @@ public interface HighlightPredicate {
     /**
      * Ands a list of predicates.
      */
-    class AndHighlightPredicate implements HighlightPredicate {
+    class AndHighlightPredicate implements HighlightPredicate, ColumnScoped {
 
         private final List<HighlightPredicate> predicate;
 
@@ -397,6 +426,20 @@ public interface HighlightPredicate {
             return !predicate.isEmpty();
         }
 
+        /**
+         * {@inheritDoc}
+         * Implemented to return false if any of the contained predicates is
+         * out of scope.
+         */
+        @Override
+        public boolean isColumnInScope(ComponentAdapter adapter, int modelColumn) {
+            for (HighlightPredicate hp : predicate) {
+                if (hp instanceof ColumnScoped && !((ColumnScoped) hp).isColumnInScope(adapter, modelColumn))
+                    return false;
+            }
+            return true;
+        }
+
         /**
          * @return the contained HighlightPredicates.
          */
@@ -410,7 +453,7 @@ public interface HighlightPredicate {
     /**
      * Or's a list of predicates.
      */
-    class OrHighlightPredicate implements HighlightPredicate {
+    class OrHighlightPredicate implements HighlightPredicate, ColumnScoped {
 
         private final List<HighlightPredicate> predicate;
 
@@ -448,6 +491,20 @@ public interface HighlightPredicate {
             return false;
         }
 
+        /**
+         * {@inheritDoc}
+         * Implemented to return true if any of the contained predicates is
+         * in scope.
+         */
+        @Override
+        public boolean isColumnInScope(ComponentAdapter adapter, int modelColumn) {
+            for (HighlightPredicate hp : predicate) {
+                if (!(hp instanceof ColumnScoped) || ((ColumnScoped) hp).isColumnInScope(adapter, modelColumn))
+                    return true;
+            }
+            return false;
+        }
+
         /**
          * @return all registered predicates
          */
@@ -460,7 +517,7 @@ public interface HighlightPredicate {
 
 //------------------------ coordinates
 
-    class RowGroupHighlightPredicate implements HighlightPredicate {
+    class RowGroupHighlightPredicate implements RowHighlightPredicate {
 
         private final int linesPerGroup;
 
@@ -484,8 +541,17 @@ public interface HighlightPredicate {
          */
         @Override
         public boolean isHighlighted(Component renderer, ComponentAdapter adapter) {
+            return isRowHighlighted(adapter.row);
+        }
+
+        /**
+         * {@inheritDoc}
+         * Implemented to return true if the row falls into a odd group number.
+         */
+        @Override
+        public boolean isRowHighlighted(int row) {
             // JW: oddness check is okay - adapter.row must be a valid view coordinate
-            return adapter.row / linesPerGroup % 2 == 1;
+            return row / linesPerGroup % 2 == 1;
         }
 
         /**
@@ -499,7 +565,7 @@ public interface HighlightPredicate {
     /**
      * A HighlightPredicate based on column index.
      */
-    class ColumnHighlightPredicate implements HighlightPredicate {
+    class ColumnHighlightPredicate implements HighlightPredicate, ColumnScoped {
 
         private final List<Integer> columnList;
 
@@ -528,6 +594,17 @@ public interface HighlightPredicate {
             return columnList.contains(modelIndex);
         }
 
+        /**
+         * {@inheritDoc}
+         * <p>
+         * This implementation returns true if the column is contained in this
+         * predicates list.
+         */
+        @Override
+        public boolean isColumnInScope(ComponentAdapter adapter, int modelColumn) {
+            return columnList.contains(modelColumn);
+        }
+
         /**
          * PENDING JW: get array of int instead of Integer?
          *
@@ -543,7 +620,7 @@ public interface HighlightPredicate {
     /**
      * A HighlightPredicate based on column identifier.
      */
-    class IdentifierHighlightPredicate implements HighlightPredicate {
+    class IdentifierHighlightPredicate implements HighlightPredicate, ColumnScoped {
 
         private final List<Object> columnList;
 
@@ -571,6 +648,18 @@ public interface HighlightPredicate {
             return identifier != null ? columnList.contains(identifier) : false;
         }
 
+        /**
+         * {@inheritDoc}
+         * <p>
+         * This implementation returns true if the column's identifier is
+         * contained in this predicates list.
+         */
+        @Override
+        public boolean isColumnInScope(ComponentAdapter adapter, int modelColumn) {
+            Object identifier = adapter.getColumnIdentifierAt(modelColumn);
+            return identifier != null && columnList.contains(identifier);
+        }
+
         /**
          * @return the identifiers
          */
@@ -0,0 +1,165 @@
+package org.jdesktop.swingx.decorator;
+
+import org.jdesktop.swingx.util.Contract;
+
+import java.awt.Component;
+import java.util.Arrays;
+
+/**
+ * A HighlightPredicate which remembers the verdicts of a wrapped predicate per model
+ * row, or per model row and column, as long as the adapter's model version is
+ * unchanged. Wrapping a costly predicate, like a <code>PatternPredicate</code> testing
+ * all columns, evaluates it once per row instead of once per cell and repaint:
+ *
+ * <pre><code>
+ * HighlightPredicate matches = new MemoizedHighlightPredicate(
+ *     new PatternPredicate("^M", PatternPredicate.ALL), true);
+ * table.addHighlighter(new ColorHighlighter(matches, Color.YELLOW, null));
+ * </code></pre>
+ * <p>
+ * The wrapped predicate must depend on the model data and the columns only, not on
+ * view state like the selection, rollover, focus or the view row (as striping does).
+ * The cache is dropped when the version changes, for a <code>JXTable</code> that is on
+ * every <code>TableModelEvent</code>, change of a column's string representation and
+ * column added or removed, including shown or hidden. If only rows were updated
+ * since, as reported by the adapter, the verdicts of these rows are dropped only. Any
+ * other change of the predicate's outcome, like a change of a mutable wrapped
+ * predicate, requires a call to {@link #invalidate()}. Adapters which don't
+ * version their data are passed through to the wrapped predicate.
+ *
+ * @see ComponentAdapter#getModelVersion()
+ * @see ComponentAdapter#getUpdatedRows(long, int[])
+ */
+public class MemoizedHighlightPredicate implements HighlightPredicate, ColumnScoped {
+
+    private static final byte UNKNOWN = 0;
+    private static final byte HIGHLIGHTED = 1;
+    private static final byte NOT_HIGHLIGHTED = 2;
+
+    private static final int MAX_ENTRIES = Integer.MAX_VALUE - 8;
+
+    private static final int MAX_UPDATES = 32;
+
+    private final HighlightPredicate predicate;
+    private final boolean perRow;
+
+    private Object component;
+    private long version = -1;
+    private int columnCount;
+    private byte[] verdicts = new byte[0];
+    private final int[] updatedRows = new int[2 * MAX_UPDATES];
+
+    /**
+     * Instantiates a predicate remembering the verdicts of the given predicate per cell.
+     *
+     * @param predicate the predicate to remember, must not be null
+     * @throws NullPointerException if the predicate is null
+     */
+    public MemoizedHighlightPredicate(HighlightPredicate predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Instantiates a predicate remembering the verdicts of the given predicate per
+     * row or per cell.
+     *
+     * @param predicate the predicate to remember, must not be null
+     * @param perRow    true if the predicate's verdict depends on the row only
+     * @throws NullPointerException if the predicate is null
+     */
+    public MemoizedHighlightPredicate(HighlightPredicate predicate, boolean perRow) {
+        this.predicate = Contract.asNotNull(predicate, "predicate must not be null");
+        this.perRow = perRow;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Implemented to return the remembered verdict of the wrapped predicate, evaluating
+     * it if not yet known.
+     */
+    @Override
+    public boolean isHighlighted(Component renderer, ComponentAdapter adapter) {
+        long modelVersion = adapter.getModelVersion();
+        if (modelVersion < 0)
+            return predicate.isHighlighted(renderer, adapter);
+        int columns = perRow ? 1 : adapter.getColumnCount();
+        if (component != adapter.getComponent() || columnCount != columns) {
+            component = adapter.getComponent();
+            version = modelVersion;
+            columnCount = columns;
+            Arrays.fill(verdicts, UNKNOWN);
+        } else if (version != modelVersion) {
+            forgetUpdatedRows(adapter, columns);
+            version = modelVersion;
+        }
+        int row = adapter.convertRowIndexToModel(adapter.row);
+        int column = perRow ? 0 : adapter.convertColumnIndexToModel(adapter.column);
+        long slot = (long) row * columns + column;
+        if (row < 0 || column < 0 || slot >= MAX_ENTRIES)
+            return predicate.isHighlighted(renderer, adapter);
+        int index = (int) slot;
+        if (index >= verdicts.length) {
+            verdicts = Arrays.copyOf(verdicts, (int) Math.min(MAX_ENTRIES, Math.max(index + 1L, 2L * verdicts.length)));
+        }
+        byte verdict = verdicts[index];
+        if (verdict == UNKNOWN) {
+            verdict = predicate.isHighlighted(renderer, adapter) ? HIGHLIGHTED : NOT_HIGHLIGHTED;
+            verdicts[index] = verdict;
+        }
+        return verdict == HIGHLIGHTED;
+    }
+
+    /**
+     * Forgets the verdicts of the rows updated since the remembered version, or all
+     * verdicts if the changes since are not updates of rows only.
+     *
+     * @param adapter the adapter of the cell
+     * @param columns the count of verdicts per row
+     */
+    private void forgetUpdatedRows(ComponentAdapter adapter, int columns) {
+        int count = version < 0 ? -1 : adapter.getUpdatedRows(version, updatedRows);
+        if (count < 0) {
+            Arrays.fill(verdicts, UNKNOWN);
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            long from = (long) updatedRows[2 * i] * columns;
+            long to = ((long) updatedRows[2 * i + 1] + 1) * columns;
+            if (from < verdicts.length && to > from) {
+                Arrays.fill(verdicts, (int) Math.max(0, from), (int) Math.min(verdicts.length, to), UNKNOWN);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Implemented to return the scope of the wrapped predicate.
+     */
+    @Override
+    public boolean isColumnInScope(ComponentAdapter adapter, int modelColumn) {
+        return !(predicate instanceof ColumnScoped) || ((ColumnScoped) predicate).isColumnInScope(adapter, modelColumn);
+    }
+
+    /**
+     * Forgets all remembered verdicts. To be called if the wrapped predicate's outcome
+     * changed without a change of the model version.
+     */
+    public void invalidate() {
+        component = null;
+        version = -1;
+    }
+
+    /**
+     * @return the contained HighlightPredicate.
+     */
+    public HighlightPredicate getHighlightPredicate() {
+        return predicate;
+    }
+
+    /**
+     * @return true if the verdicts are remembered per row, false if per cell.
+     */
+    public boolean isPerRow() {
+        return perRow;
+    }
+}
@@ -21,6 +21,7 @@
 package org.jdesktop.swingx.decorator;
 
 import java.awt.Component;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
@@ -37,7 +38,7 @@ import java.util.regex.Pattern;
  *
  * @author Jeanette Winzenburg
  */
-public class PatternPredicate implements HighlightPredicate {
+public class PatternPredicate implements HighlightPredicate, ColumnScoped {
 
     public static final int ALL = -1;
 
@@ -45,6 +46,11 @@ public class PatternPredicate implements HighlightPredicate {
     private final int testColumn;
     private final Pattern pattern;
 
+    /**
+     * the matcher reused for testing the values, highlighting happens on the EDT.
+     */
+    private Matcher matcher;
+
     /**
      * Instantiates a Predicate with the given Pattern and testColumn index
      * (in model coordinates) highlighting all columns.
@@ -180,7 +186,22 @@ public class PatternPredicate implements HighlightPredicate {
         if (value == null || value.length() == 0) {
             return false;
         }
-        return pattern.matcher(value).find();
+        if (matcher == null) {
+            matcher = pattern.matcher(value);
+        } else {
+            matcher.reset(value);
+        }
+        return matcher.find();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Implemented to return true if all columns or the given column are highlighted.
+     */
+    @Override
+    public boolean isColumnInScope(ComponentAdapter adapter, int modelColumn) {
+        return highlightColumn < 0 || highlightColumn == modelColumn;
     }
 
     /**
@@ -0,0 +1,21 @@
+package org.jdesktop.swingx.decorator;
+
+/**
+ * A HighlightPredicate which depends on the adapter's row in view coordinates
+ * only, like striping. A <code>ColorHighlighter</code> with such a predicate
+ * highlighting the background of unselected cells only can be painted as row
+ * bands.
+ *
+ * @see ColorHighlighter#isRowBand()
+ */
+public interface RowHighlightPredicate extends HighlightPredicate {
+
+    /**
+     * Returns whether the cells of the given row are highlighted. Must return the
+     * same as <code>isHighlighted</code> for an adapter at the row.
+     *
+     * @param row the row in view coordinates
+     * @return true if the cells of the row are highlighted
+     */
+    boolean isRowHighlighted(int row);
+}
@@ -36,7 +36,7 @@ import java.util.regex.Pattern;
  *
  * @author Jeanette Winzenburg
  */
-public class SearchPredicate implements HighlightPredicate {
+public class SearchPredicate implements HighlightPredicate, ColumnScoped {
 
     public static final int ALL = -1;
     public static final String MATCH_ALL = ".*";
@@ -189,6 +189,16 @@ public class SearchPredicate implements HighlightPredicate {
         return pattern.matcher(value).find();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Implemented to return true if all columns or the given column are highlighted.
+     */
+    @Override
+    public boolean isColumnInScope(ComponentAdapter adapter, int modelColumn) {
+        return highlightColumn < 0 || highlightColumn == modelColumn;
+    }
+
     /**
      * A quick pre-check.
      *
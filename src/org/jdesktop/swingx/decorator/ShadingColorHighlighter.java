@@ -76,6 +76,16 @@ public class ShadingColorHighlighter extends ColorHighlighter {
         }
     }
 
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Implemented to return false: the shading doesn't blend.
+     */
+    @Override
+    public boolean isRowBand() {
+        return false;
+    }
+
     protected Color computeBackgroundSeed(Color seed) {
         return new Color(
             Math.max((int) (seed.getRed() * 0.95), 0),
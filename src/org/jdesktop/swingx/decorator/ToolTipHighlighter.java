@@ -26,7 +26,9 @@ import javax.swing.JComponent;
 import java.awt.Component;
 
 /**
- * A highlighter for setting a tool tip on the component.
+ * A highlighter for setting a tool tip on the component. The tool tip is set
+ * when the component is prepared for the tooltip of the cell under the mouse only,
+ * painting doesn't evaluate it.
  *
  * @author kschaefer
  */
@@ -100,11 +102,15 @@ public class ToolTipHighlighter extends AbstractHighlighter {
     /**
      * {@inheritDoc}<p>
      * <p>
-     * Implemented to return false if the component is not a JComponent.
+     * Implemented to return false if the component is not a JComponent or isn't
+     * prepared for a tooltip: the tooltip text is evaluated for the cell under the
+     * mouse only, not for every painted cell.
+     *
+     * @see ComponentAdapter#isPreparingToolTip()
      */
     @Override
     protected boolean canHighlight(Component component, ComponentAdapter adapter) {
-        return component instanceof JComponent;
+        return component instanceof JComponent && adapter.isPreparingToolTip();
     }
 
     /**
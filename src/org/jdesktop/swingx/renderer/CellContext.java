@@ -28,6 +28,8 @@ import javax.swing.border.EmptyBorder;
 import java.awt.Color;
 import java.awt.Font;
 import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Encapsulates a snapshop of cell content and default display context
@@ -121,6 +123,13 @@ public class CellContext implements Serializable {
 
     protected transient boolean dropOn;
 
+    /**
+     * the composed UIManager keys by general key, built once per prefix.
+     */
+    private final Map<String, String> uiKeys = new HashMap<>();
+
+    private String uiKeyPrefix;
+
     // --------------------------- install context
 
     /**
@@ -178,6 +187,42 @@ public class CellContext implements Serializable {
         return value;
     }
 
+    /**
+     * Returns the primitive type of the cell's value if it is accessible without
+     * boxing by getLongValue or getDoubleValue: <code>int.class</code>,
+     * <code>long.class</code> or <code>double.class</code>. This implementation
+     * returns null.
+     *
+     * @return the primitive type of the cell's value or null if not primitive.
+     * @see #getLongValue()
+     * @see #getDoubleValue()
+     */
+    public Class<?> getPrimitiveType() {
+        return null;
+    }
+
+    /**
+     * Returns the cell's value of primitive type int or long. This implementation
+     * unboxes the value.
+     *
+     * @return the value of the cell.
+     * @see #getPrimitiveType()
+     */
+    public long getLongValue() {
+        return ((Number) getValue()).longValue();
+    }
+
+    /**
+     * Returns the cell's value of primitive type. This implementation unboxes
+     * the value.
+     *
+     * @return the value of the cell.
+     * @see #getPrimitiveType()
+     */
+    public double getDoubleValue() {
+        return ((Number) getValue()).doubleValue();
+    }
+
     /**
      * Returns the cell's row index in view coordinates as set in the install.
      *
@@ -407,7 +452,17 @@ public class CellContext implements Serializable {
      * @return a composed key build of a component type prefix and the input.
      */
     protected String getUIKey(String key) {
-        return getUIPrefix() + key;
+        String prefix = getUIPrefix();
+        if (!prefix.equals(uiKeyPrefix)) {
+            uiKeys.clear();
+            uiKeyPrefix = prefix;
+        }
+        String uiKey = uiKeys.get(key);
+        if (uiKey == null) {
+            uiKey = prefix + key;
+            uiKeys.put(key, uiKey);
+        }
+        return uiKey;
     }
 
     /**
@@ -428,6 +483,6 @@ public class CellContext implements Serializable {
     }
 
     public String getCellRendererName() {
-        return getUIPrefix() + "cellRenderer";
+        return getUIKey("cellRenderer");
     }
 }
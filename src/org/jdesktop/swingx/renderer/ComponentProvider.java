@@ -282,12 +282,21 @@ public abstract class ComponentProvider<T extends JComponent> implements Seriali
      * <p>
      * This method messages the
      * <code>StringValue</code> to get the String rep. Meant as
-     * a convenience for subclasses.
+     * a convenience for subclasses. Primitive values are passed unboxed
+     * if the <code>StringValue</code> is a <code>PrimitiveStringValue</code>.
      *
      * @param context the cell context, must not be null.
      * @return a appropriate string representation of the cell's content.
+     * @see CellContext#getPrimitiveType()
      */
     protected String getValueAsString(CellContext context) {
+        if (formatter instanceof PrimitiveStringValue) {
+            Class<?> type = context.getPrimitiveType();
+            if (type == double.class)
+                return ((PrimitiveStringValue) formatter).getString(context.getDoubleValue());
+            if (type != null)
+                return ((PrimitiveStringValue) formatter).getString(context.getLongValue());
+        }
         Object value = context.getValue();
         return formatter.getString(value);
     }
@@ -304,9 +313,8 @@ public abstract class ComponentProvider<T extends JComponent> implements Seriali
      * or null if non if available.
      */
     protected Icon getValueAsIcon(CellContext context) {
-        Object value = context.getValue();
         if (formatter instanceof IconValue) {
-            return ((IconValue) formatter).getIcon(value);
+            return ((IconValue) formatter).getIcon(context.getValue());
         }
         return null;
     }
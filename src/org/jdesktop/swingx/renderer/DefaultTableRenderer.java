@@ -159,6 +159,26 @@ public class DefaultTableRenderer extends AbstractRenderer implements TableCellR
         return comp;
     }
 
+    /**
+     * Returns a configured component, appropriate to render the given cell of a
+     * primitive column of the table's <code>PrimitiveTableModel</code>. The value
+     * of the cell is passed to the component provider without boxing.
+     *
+     * @param table      the <code>JTable</code>, its model must be a PrimitiveTableModel
+     * @param isSelected true if cell is selected
+     * @param hasFocus   true if cell has focus
+     * @param row        the row of the cell to render
+     * @param column     the column of the cell to render
+     * @return the default table cell renderer
+     * @see TableCellContext#installPrimitiveContext(JTable, int, int, boolean, boolean, boolean, boolean)
+     */
+    public Component getPrimitiveCellRendererComponent(JTable table, boolean isSelected, boolean hasFocus, int row, int column) {
+        cellContext.installPrimitiveContext(table, row, column, isSelected, hasFocus, true, true);
+        Component comp = componentController.getRendererComponent(cellContext);
+        cellContext.replaceValue(null);
+        return comp;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,30 @@
+package org.jdesktop.swingx.renderer;
+
+/**
+ * Interface for tagging rendering components which can paint plain text cells
+ * directly, bypassing the component's ui delegate. Components set to flyweight
+ * painting must fall back to their regular painting for every cell they can't
+ * paint identically this way.
+ * <p>
+ * Collection components with flyweight rendering enabled set the property in each
+ * configuration round.
+ *
+ * @see org.jdesktop.swingx.JXTable#setFlyweightRendering(boolean)
+ * @see org.jdesktop.swingx.JXList#setFlyweightRendering(boolean)
+ */
+public interface FlyweightAware {
+
+    /**
+     * Sets the flyweight painting property.
+     *
+     * @param flyweight true to paint plain text directly if possible
+     */
+    void setFlyweightPainting(boolean flyweight);
+
+    /**
+     * Returns the flyweight painting property.
+     *
+     * @return true if plain text is painted directly if possible
+     */
+    boolean isFlyweightPainting();
+}
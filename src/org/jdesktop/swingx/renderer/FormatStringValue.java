@@ -20,6 +20,7 @@
  */
 package org.jdesktop.swingx.renderer;
 
+import java.text.FieldPosition;
 import java.text.Format;
 
 /**
@@ -51,6 +52,12 @@ public class FormatStringValue implements StringValue {
      */
     protected Format format;
 
+    /**
+     * the buffer and position reused in formatting, lazily created.
+     */
+    private transient StringBuffer buffer;
+    private transient FieldPosition position;
+
     /**
      * Instantiates a formatted converter with null format.
      */
@@ -83,11 +90,35 @@ public class FormatStringValue implements StringValue {
             return "";
         if (format != null) {
             try {
-                return format.format(value);
+                return format.format(value, getBuffer(), getFieldPosition()).toString();
             } catch (IllegalArgumentException e) {
                 // didn't work, nothing we can do
             }
         }
         return value.toString();
     }
+
+    /**
+     * Returns the buffer to format into, emptied. Like the format, it is meant to be
+     * used on the EDT only.
+     *
+     * @return the reused buffer
+     */
+    StringBuffer getBuffer() {
+        if (buffer == null) {
+            buffer = new StringBuffer();
+        }
+        buffer.setLength(0);
+        return buffer;
+    }
+
+    /**
+     * @return the reused field position
+     */
+    FieldPosition getFieldPosition() {
+        if (position == null) {
+            position = new FieldPosition(0);
+        }
+        return position;
+    }
 }
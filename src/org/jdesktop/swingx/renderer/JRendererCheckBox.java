@@ -66,6 +66,7 @@ public class JRendererCheckBox extends JCheckBox implements PainterAware {
         // fix # 1546-swingx: striping lost in synth-based lafs
         // forcing opaque to enable painting the background
         setOpaque(true);
+        setModel(new RendererButtonModel());
     }
 
     /**
@@ -310,4 +311,23 @@ public class JRendererCheckBox extends JCheckBox implements PainterAware {
     @Override
     public void firePropertyChange(String propertyName, boolean oldValue, boolean newValue) {
     }
+
+    /**
+     * ButtonModel which changes the selected state without creating an ItemEvent,
+     * a rendering component has no item listeners to notify.
+     */
+    private static class RendererButtonModel extends ToggleButtonModel {
+
+        @Override
+        public void setSelected(boolean selected) {
+            if (selected == isSelected())
+                return;
+            if (selected) {
+                stateMask |= SELECTED;
+            } else {
+                stateMask &= ~SELECTED;
+            }
+            fireStateChanged();
+        }
+    }
 }
@@ -24,9 +24,24 @@ import org.jdesktop.swingx.painter.Painter;
 
 import javax.swing.JLabel;
 import javax.swing.UIManager;
+import javax.swing.plaf.LabelUI;
+import javax.swing.plaf.basic.BasicHTML;
+import javax.swing.plaf.basic.BasicLabelUI;
+import javax.swing.plaf.synth.SynthUI;
+import java.awt.Font;
+import java.awt.FontMetrics;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.Insets;
+import java.awt.PrintGraphics;
 import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.font.TextAttribute;
+import java.awt.print.PrinterGraphics;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * A <code>JLabel</code> optimized for usage in renderers and
@@ -58,10 +73,31 @@ import java.awt.Rectangle;
  *
  * @author Jeanette Winzenburg
  */
-public class JRendererLabel extends JLabel implements PainterAware, IconAware {
+public class JRendererLabel extends JLabel implements PainterAware, IconAware, FlyweightAware {
+
+    /**
+     * the maximal number of texts with a cached glyph layout.
+     */
+    private static final int GLYPH_CACHE_SIZE = 1024;
+
+    /**
+     * marks texts which can't be painted from a cached glyph layout.
+     */
+    private static final GlyphRun NOT_SIMPLE = new GlyphRun(null, 0);
 
     protected Painter painter;
 
+    private boolean flyweightPainting;
+
+    /**
+     * the glyph layouts of the painted texts, in least recently used order, for the
+     * font and render context below.
+     */
+    private transient Map<String, GlyphRun> glyphRuns;
+    private transient Font glyphFont;
+    private transient FontRenderContext glyphContext;
+    private transient Insets flyweightInsets;
+
     /**
      *
      */
@@ -114,6 +150,202 @@ public class JRendererLabel extends JLabel implements PainterAware, IconAware {
         }
     }
 
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Plain text cells are painted straight from a cached glyph layout if enabled.
+     *
+     * @see #setFlyweightPainting(boolean)
+     */
+    public void setFlyweightPainting(boolean flyweight) {
+        this.flyweightPainting = flyweight;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean isFlyweightPainting() {
+        return flyweightPainting;
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Overridden to paint plain text directly if flyweight painting is enabled: the
+     * background, the text from a cached glyph layout and the border, positioned as
+     * the ui delegate does. Falls back to the regular painting if there's anything
+     * else to paint or the text doesn't fit.
+     */
+    @Override
+    public void paint(Graphics g) {
+        if (!flyweightPainting || !paintFlyweight(g)) {
+            super.paint(g);
+        }
+    }
+
+    /**
+     * Paints the label without going through the ui delegate, if it shows plain
+     * text only.
+     *
+     * @param g the graphics to paint on
+     * @return true if painted, false if the label must be painted regularly
+     */
+    private boolean paintFlyweight(Graphics g) {
+        LabelUI labelUI = getUI();
+        if (!(g instanceof Graphics2D) || g instanceof PrinterGraphics || g instanceof PrintGraphics
+            || !(labelUI instanceof BasicLabelUI) || labelUI instanceof SynthUI
+            || painter != null || getIcon() != null || !isEnabled() || getDebugGraphicsOptions() != 0
+            || getDisplayedMnemonicIndex() >= 0 || getVerticalTextPosition() != CENTER
+            || getClientProperty(BasicHTML.propertyKey) != null
+            || getClientProperty(TextAttribute.NUMERIC_SHAPING) != null)
+            return false;
+        String text = getText();
+        Font font = getFont();
+        FontMetrics fm = getFontMetrics(font);
+        GlyphRun run = text == null || text.isEmpty() ? null : getGlyphRun(text, font, fm);
+        if (run == NOT_SIMPLE)
+            return false;
+        flyweightInsets = getInsets(flyweightInsets);
+        int x = flyweightInsets.left;
+        int y = flyweightInsets.top;
+        int width = getWidth() - (flyweightInsets.left + flyweightInsets.right);
+        int height = getHeight() - (flyweightInsets.top + flyweightInsets.bottom);
+        // the ui clips texts too wide with an ellipsis
+        if (run != null && run.width > width)
+            return false;
+        Graphics2D g2 = (Graphics2D) g;
+        if (isOpaque()) {
+            g2.setColor(getBackground());
+            g2.fillRect(0, 0, getWidth(), getHeight());
+        }
+        if (run != null) {
+            paintGlyphRun(g2, run, textX(x, width, run.width), textY(y, height, fm) + fm.getAscent());
+        }
+        paintBorder(g2);
+        return true;
+    }
+
+    /**
+     * Paints the glyphs at the given baseline position, with the text rendering
+     * hints of the label, like the ui delegate paints enabled text.
+     */
+    private void paintGlyphRun(Graphics2D g2, GlyphRun run, int x, int y) {
+        // the antialiasing is part of the glyphs' render context, the contrast isn't
+        Object contrast = getClientProperty(RenderingHints.KEY_TEXT_LCD_CONTRAST);
+        Object oldContrast = null;
+        if (contrast != null) {
+            oldContrast = g2.getRenderingHint(RenderingHints.KEY_TEXT_LCD_CONTRAST);
+            if (contrast.equals(oldContrast)) {
+                oldContrast = null;
+            } else {
+                g2.setRenderingHint(RenderingHints.KEY_TEXT_LCD_CONTRAST, contrast);
+            }
+        }
+        g2.setColor(getForeground());
+        g2.drawGlyphVector(run.glyphs, x, y);
+        if (oldContrast != null) {
+            g2.setRenderingHint(RenderingHints.KEY_TEXT_LCD_CONTRAST, oldContrast);
+        }
+    }
+
+    /**
+     * Returns the x location of text of the given width, aligned in the given space
+     * as <code>SwingUtilities.layoutCompoundLabel</code> does for a label without icon.
+     */
+    private int textX(int x, int width, int textWidth) {
+        int alignment = getHorizontalAlignment();
+        if (alignment == LEADING) {
+            alignment = getComponentOrientation().isLeftToRight() ? LEFT : RIGHT;
+        } else if (alignment == TRAILING) {
+            alignment = getComponentOrientation().isLeftToRight() ? RIGHT : LEFT;
+        }
+        switch (alignment) {
+            case LEFT:
+                return x;
+            case RIGHT:
+                return x + width - textWidth;
+            default:
+                return x + width / 2 - textWidth / 2;
+        }
+    }
+
+    /**
+     * Returns the y location of the text's top, aligned in the given space as
+     * <code>SwingUtilities.layoutCompoundLabel</code> does for a label without icon.
+     */
+    private int textY(int y, int height, FontMetrics fm) {
+        int textHeight = fm.getHeight();
+        switch (getVerticalAlignment()) {
+            case TOP:
+                return y;
+            case BOTTOM:
+                return y + height - textHeight;
+            default:
+                return y + height / 2 - textHeight / 2;
+        }
+    }
+
+    /**
+     * Returns the cached glyph layout of the given text, laid out in the label's
+     * render context. Returns <code>NOT_SIMPLE</code> if the text isn't laid out
+     * glyph by glyph, or adjusted for its side bearing, by the ui delegate.
+     */
+    private GlyphRun getGlyphRun(String text, Font font, FontMetrics fm) {
+        FontRenderContext frc = fm.getFontRenderContext();
+        if (glyphRuns == null) {
+            glyphRuns = new LinkedHashMap<String, GlyphRun>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, GlyphRun> eldest) {
+                    return size() > GLYPH_CACHE_SIZE;
+                }
+            };
+        }
+        if (font != glyphFont || !frc.equals(glyphContext)) {
+            glyphRuns.clear();
+            glyphFont = font;
+            glyphContext = frc;
+        }
+        GlyphRun run = glyphRuns.get(text);
+        if (run == null) {
+            run = isSimple(text)
+                ? new GlyphRun(font.createGlyphVector(frc, text), fm.stringWidth(text))
+                : NOT_SIMPLE;
+            glyphRuns.put(text, run);
+        }
+        return run;
+    }
+
+    /**
+     * Returns true if the text has no characters which need a complex layout and
+     * doesn't start with a character whose left side bearing is adjusted.
+     */
+    private static boolean isSimple(String text) {
+        // the ui delegate shifts a leading 'W' by its left side bearing
+        if (text.charAt(0) == 'W')
+            return false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            // combining marks and the complex or right-to-left scripts
+            if (c >= '\u0300' && c < '\u0370' || c >= '\u0590')
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * The glyph layout of a text and its advance.
+     */
+    private static final class GlyphRun {
+
+        private final GlyphVector glyphs;
+        private final int width;
+
+        GlyphRun(GlyphVector glyphs, int width) {
+            this.glyphs = glyphs;
+            this.width = width;
+        }
+    }
+
     /**
      * Hack around Nimbus not respecting background colors if UIResource.
      * So by-pass ...
@@ -249,11 +481,16 @@ public class JRendererLabel extends JLabel implements PainterAware, IconAware {
     @Override
     protected void firePropertyChange(String propertyName, Object oldValue, Object newValue) {
         // Strings get interned...
-        if ("text".equals(propertyName)) {
+        // the ui updates its html view on text changes, plain texts need no event
+        if ("text".equals(propertyName) && (isHTML(oldValue) || isHTML(newValue))) {
             super.firePropertyChange(propertyName, oldValue, newValue);
         }
     }
 
+    private static boolean isHTML(Object text) {
+        return text instanceof String && BasicHTML.isHTMLString((String) text);
+    }
+
     /**
      * Overridden for performance reasons.
      * See the <a href="#override">Implementation Note</a>
@@ -0,0 +1,64 @@
+package org.jdesktop.swingx.renderer;
+
+import java.text.NumberFormat;
+
+/**
+ * <code>FormatStringValue</code> backed by a <code>NumberFormat</code>, which formats
+ * primitive numbers without boxing. The primitives are formatted into a reused buffer,
+ * so the only allocation is the resulting String.
+ * <p>
+ * Like the <code>NumberFormat</code> itself, this is meant to be used on the EDT only.
+ *
+ * @see StringValues#NUMBER_TO_STRING
+ */
+public class NumberFormatStringValue extends FormatStringValue implements PrimitiveStringValue {
+
+    /**
+     * Instantiates a formatted converter with null format, which presents the
+     * numbers by their toString.
+     */
+    public NumberFormatStringValue() {
+        this(null);
+    }
+
+    /**
+     * Instantiates a formatted converter with the given NumberFormat.
+     *
+     * @param format the format to use in creating the String representation.
+     */
+    public NumberFormatStringValue(NumberFormat format) {
+        super(format);
+    }
+
+    /**
+     * Returns the format used in creating the String representation. Subclasses
+     * may override to update the format lazily.
+     *
+     * @return the format used in creating the String representation, may be null
+     */
+    protected NumberFormat getNumberFormat() {
+        return (NumberFormat) format;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getString(long value) {
+        NumberFormat format = getNumberFormat();
+        if (format == null)
+            return Long.toString(value);
+        return format.format(value, getBuffer(), getFieldPosition()).toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getString(double value) {
+        NumberFormat format = getNumberFormat();
+        if (format == null)
+            return Double.toString(value);
+        return format.format(value, getBuffer(), getFieldPosition()).toString();
+    }
+}
@@ -0,0 +1,31 @@
+package org.jdesktop.swingx.renderer;
+
+/**
+ * <code>StringValue</code> which presents primitive numbers without boxing them.
+ * Component providers use it for the cells of the primitive columns of a
+ * <code>PrimitiveTableModel</code>.
+ * <p>
+ * Implementations must return the same string as <code>getString(Object)</code>
+ * returns for the boxed value.
+ *
+ * @see org.jdesktop.swingx.table.PrimitiveTableModel
+ * @see ComponentProvider#getValueAsString(CellContext)
+ */
+public interface PrimitiveStringValue extends StringValue {
+
+    /**
+     * Returns a string representation of the given int or long value.
+     *
+     * @param value the value to present as a string
+     * @return a string representation of the value, guaranteed to be not null
+     */
+    String getString(long value);
+
+    /**
+     * Returns a string representation of the given double value.
+     *
+     * @param value the value to present as a string
+     * @return a string representation of the value, guaranteed to be not null
+     */
+    String getString(double value);
+}
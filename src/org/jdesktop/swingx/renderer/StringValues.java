@@ -118,18 +118,27 @@ public final class StringValues {
 
     /**
      * Default converter for <code>Number</code> types. Uses the default format
-     * as returned from <code>NumberFormat</code>.
+     * as returned from <code>NumberFormat</code>. Formats primitives without boxing.
      */
-    public static final FormatStringValue NUMBER_TO_STRING = new FormatStringValue() {
+    public static final FormatStringValue NUMBER_TO_STRING = new NumberFormatStringValue() {
 
         /**
          * {@inheritDoc}
          */
         @Override
-        public String getString(Object value) {
+        protected NumberFormat getNumberFormat() {
             if (format == null || localeChanged()) {
                 format = NumberFormat.getNumberInstance();
             }
+            return super.getNumberFormat();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getString(Object value) {
+            getNumberFormat();
             return super.getString(value);
         }
     };
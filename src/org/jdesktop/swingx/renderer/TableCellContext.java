@@ -21,6 +21,7 @@
 package org.jdesktop.swingx.renderer;
 
 import org.jdesktop.swingx.plaf.UIManagerExt;
+import org.jdesktop.swingx.table.PrimitiveTableModel;
 
 import javax.swing.JTable;
 import javax.swing.UIManager;
@@ -37,6 +38,13 @@ public class TableCellContext extends CellContext {
 
     public static final String HANDLE_ALTERNATE_ROW_BACKGROUND = "TableCellContext.handleAlternateRowBackground";
 
+    /**
+     * the primitive type of the installed cell, null if installed with a value.
+     */
+    private transient Class<?> primitiveType;
+    private transient int modelRow;
+    private transient int modelColumn;
+
     /**
      * Sets state of the cell's context. Note that the component might be null
      * to indicate a cell without a concrete context. All accessors must cope
@@ -56,6 +64,86 @@ public class TableCellContext extends CellContext {
         this.component = component;
         installState(value, row, column, selected, focused, expanded, leaf);
         this.dropOn = checkDropOnState();
+        this.primitiveType = null;
+    }
+
+    /**
+     * Sets state of the cell's context for a cell of a primitive column of the table's
+     * <code>PrimitiveTableModel</code>. The value is accessed without boxing by
+     * getLongValue or getDoubleValue, it is boxed only if asked for by getValue.
+     *
+     * @param component the table the cell resides on, its model must be a PrimitiveTableModel
+     * @param row       the cell's row index in view coordinates
+     * @param column    the cell's column index in view coordinates
+     * @param selected  the cell's selected state
+     * @param focused   the cell's focused state
+     * @param expanded  the cell's expanded state
+     * @param leaf      the cell's leaf state
+     * @see PrimitiveTableModel#getPrimitiveType(int)
+     */
+    public void installPrimitiveContext(JTable component, int row, int column,
+                                        boolean selected, boolean focused, boolean expanded, boolean leaf) {
+        installContext(component, null, row, column, selected, focused, expanded, leaf);
+        modelRow = component.convertRowIndexToModel(row);
+        modelColumn = component.convertColumnIndexToModel(column);
+        primitiveType = ((PrimitiveTableModel) component.getModel()).getPrimitiveType(modelColumn);
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Overridden to box the value of a primitive cell lazily.
+     */
+    @Override
+    public Object getValue() {
+        if (primitiveType != null && value == null) {
+            value = getComponent().getModel().getValueAt(modelRow, modelColumn);
+        }
+        return super.getValue();
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Overridden to not box the value of a primitive cell: the replaced value is
+     * null if it wasn't asked for.
+     */
+    @Override
+    public Object replaceValue(Object value) {
+        primitiveType = null;
+        return super.replaceValue(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Class<?> getPrimitiveType() {
+        return primitiveType;
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Overridden to read a primitive cell from the model.
+     */
+    @Override
+    public long getLongValue() {
+        if (primitiveType != null)
+            return ((PrimitiveTableModel) getComponent().getModel()).getLongAt(modelRow, modelColumn);
+        return super.getLongValue();
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Overridden to read a primitive cell from the model.
+     */
+    @Override
+    public double getDoubleValue() {
+        if (primitiveType != null)
+            return ((PrimitiveTableModel) getComponent().getModel()).getDoubleAt(modelRow, modelColumn);
+        return super.getDoubleValue();
     }
 
     /**
@@ -124,7 +212,7 @@ public class TableCellContext extends CellContext {
     protected Color getAlternateRowColor() {
         if (!Boolean.TRUE.equals(UIManager.get(HANDLE_ALTERNATE_ROW_BACKGROUND)))
             return null;
-        return UIManagerExt.getColor(getUIPrefix() + "alternateRowColor");
+        return UIManagerExt.getColor(getUIKey("alternateRowColor"));
     }
 
     /**
@@ -0,0 +1,214 @@
+package org.jdesktop.swingx.sort;
+
+import java.util.Arrays;
+
+/**
+ * Cache of the string representation of cells in model coordinates. Typically,
+ * this is owned by a <code>StringValueRegistry</code> and shared by all parties
+ * which use the registry for string conversion: rendering, sorting, filtering,
+ * searching and highlighting.
+ * <p>
+ * The cache has no knowledge about the model, the owner is responsible to keep it
+ * in synch by calling the notification methods which mirror those of
+ * <code>RowSorter</code>. The cache counts hits and misses for diagnostic purposes.
+ * <p>
+ * Note: the cache is not thread-safe, it is meant to be accessed on the EDT only.
+ *
+ * @see StringValueRegistry#setStringCache(CellStringCache)
+ */
+public class CellStringCache {
+
+    private static final String[] NO_STRINGS = new String[0];
+
+    /**
+     * the cached strings, indexed by column and row.
+     */
+    private String[][] columns = new String[0][];
+
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Returns the cached string representation of the given cell, or null if
+     * not cached.
+     *
+     * @param row    the row of the cell in model coordinates
+     * @param column the column of the cell in model coordinates
+     * @return the cached string or null if not cached
+     */
+    public String getString(int row, int column) {
+        String[] strings = column < columns.length ? columns[column] : null;
+        String string = strings != null && row < strings.length ? strings[row] : null;
+        if (string != null) {
+            hitCount++;
+        } else {
+            missCount++;
+        }
+        return string;
+    }
+
+    /**
+     * Stores the string representation of the given cell.
+     *
+     * @param row    the row of the cell in model coordinates
+     * @param column the column of the cell in model coordinates
+     * @param string the string representation to cache, null removes a cached string
+     */
+    public void putString(int row, int column, String string) {
+        if (column >= columns.length) {
+            if (string == null)
+                return;
+            columns = Arrays.copyOf(columns, column + 1);
+        }
+        String[] strings = columns[column];
+        if (strings == null) {
+            strings = NO_STRINGS;
+        }
+        if (row >= strings.length) {
+            if (string == null)
+                return;
+            strings = Arrays.copyOf(strings, Math.max(row + 1, 2 * strings.length));
+        }
+        strings[row] = string;
+        columns[column] = strings;
+    }
+
+    /**
+     * Removes all cached strings.
+     */
+    public void clear() {
+        columns = new String[0][];
+    }
+
+    /**
+     * Removes all cached strings of the given column.
+     *
+     * @param column the column in model coordinates
+     */
+    public void columnChanged(int column) {
+        if (column < columns.length) {
+            columns[column] = null;
+        }
+    }
+
+    /**
+     * Returns the number of columns which might have cached strings.
+     *
+     * @return the upper bound of columns with cached strings
+     */
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    //------------------------- notification, analogous to RowSorter
+
+    /**
+     * Invoked when the underlying model structure has completely changed.
+     */
+    public void modelStructureChanged() {
+        clear();
+    }
+
+    /**
+     * Invoked when the contents of the underlying model have completely changed.
+     */
+    public void allRowsChanged() {
+        clear();
+    }
+
+    /**
+     * Invoked when rows have been inserted into the underlying model
+     * in the specified range (inclusive). Moves the cached strings of the
+     * following rows. Strings moved beyond the current capacity are dropped.
+     *
+     * @param firstRow the first row
+     * @param endRow   the last row
+     */
+    public void rowsInserted(int firstRow, int endRow) {
+        int count = endRow - firstRow + 1;
+        for (String[] strings : columns) {
+            if (strings == null || firstRow >= strings.length)
+                continue;
+            int moved = strings.length - firstRow - count;
+            if (moved > 0) {
+                System.arraycopy(strings, firstRow, strings, firstRow + count, moved);
+            }
+            Arrays.fill(strings, firstRow, Math.min(firstRow + count, strings.length), null);
+        }
+    }
+
+    /**
+     * Invoked when rows have been deleted from the underlying model
+     * in the specified range (inclusive). Moves the cached strings of the
+     * following rows.
+     *
+     * @param firstRow the first row
+     * @param endRow   the last row
+     */
+    public void rowsDeleted(int firstRow, int endRow) {
+        for (String[] strings : columns) {
+            if (strings == null || firstRow >= strings.length)
+                continue;
+            int end = Math.min(endRow + 1, strings.length);
+            System.arraycopy(strings, end, strings, firstRow, strings.length - end);
+            Arrays.fill(strings, strings.length - (end - firstRow), strings.length, null);
+        }
+    }
+
+    /**
+     * Invoked when rows have been changed in the underlying model
+     * between the specified range (inclusive).
+     *
+     * @param firstRow the first row, in terms of the underlying model
+     * @param endRow   the last row, in terms of the underlying model
+     */
+    public void rowsUpdated(int firstRow, int endRow) {
+        for (int c = 0; c < columns.length; c++) {
+            rowsUpdated(firstRow, endRow, c);
+        }
+    }
+
+    /**
+     * Invoked when the column in the rows have been updated in
+     * the underlying model between the specified range.
+     *
+     * @param firstRow the first row, in terms of the underlying model
+     * @param endRow   the last row, in terms of the underlying model
+     * @param column   the column that has changed, in terms of the underlying
+     *                 model
+     */
+    public void rowsUpdated(int firstRow, int endRow, int column) {
+        String[] strings = column < columns.length ? columns[column] : null;
+        if (strings == null || firstRow >= strings.length)
+            return;
+        Arrays.fill(strings, firstRow, Math.min(endRow + 1, strings.length), null);
+    }
+
+    //------------------------- statistics
+
+    /**
+     * Returns the number of lookups which found a cached string.
+     *
+     * @return the number of cache hits
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of lookups which didn't find a cached string.
+     *
+     * @return the number of cache misses
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Resets the hit and miss counts to zero.
+     */
+    public void resetStatistics() {
+        hitCount = 0;
+        missCount = 0;
+    }
+}
@@ -0,0 +1,372 @@
+package org.jdesktop.swingx.sort;
+
+import org.jdesktop.swingx.renderer.StringValue;
+import org.jdesktop.swingx.renderer.StringValues;
+import org.jdesktop.swingx.util.Contract;
+
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import javax.swing.table.TableModel;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Inverted index of a model column of a <code>TableModel</code>: maps the string
+ * representation of each value to the bitmap of model rows with that value. Meant for
+ * categorical columns like status or symbol with few distinct values. The indexed
+ * filters of <code>RowFilters</code> look up their rows here instead of converting every
+ * cell to a string.
+ * <p>
+ * The index registers itself as TableModelListener and updates itself incrementally.
+ * A <code>DefaultSortController</code> filtering with an indexed filter passes each
+ * change to the index before re-filtering, so the index is up to date whatever the
+ * order in which the model notifies its listeners. Inserted or deleted rows are
+ * applied by the first notification, the model's or a sorter's, and skipped when
+ * repeated. Updated rows are re-read.
+ * <p>
+ * Note: the index is not thread-safe, it is meant to be accessed on the EDT only.
+ *
+ * @see RowFilters#equalsFilter(ColumnValueIndex, String)
+ * @see RowFilters#inFilter(ColumnValueIndex, String...)
+ * @see RowFilters#prefixFilter(ColumnValueIndex, String)
+ */
+public class ColumnValueIndex implements TableModelListener {
+
+    private static final String[] NO_KEYS = new String[0];
+
+    private final TableModel model;
+    private final int column;
+    private final StringValue stringValue;
+
+    /**
+     * the bitmap of rows per key, sorted by key for prefix lookup.
+     */
+    private final NavigableMap<String, BitSet> rows = new TreeMap<>();
+
+    /**
+     * the key per row, to remove updated rows from the bitmap of their old key.
+     */
+    private String[] keys = NO_KEYS;
+    private int rowCount;
+
+    private volatile int modCount;
+
+    /**
+     * flag to indicate that a sorter inserted or deleted the rows of the applied
+     * change before the model's notification.
+     */
+    private boolean sorterApplied;
+    private int appliedType;
+    private int appliedFirstRow;
+    private int appliedLastRow;
+
+    /**
+     * Creates an index of the given column, keyed by the values' toString.
+     *
+     * @param model  the model to index, must not be null
+     * @param column the column to index in model coordinates
+     */
+    public ColumnValueIndex(TableModel model, int column) {
+        this(model, column, StringValues.TO_STRING);
+    }
+
+    /**
+     * Creates an index of the given column, keyed by the given string representation
+     * of the values.
+     *
+     * @param model       the model to index, must not be null
+     * @param column      the column to index in model coordinates
+     * @param stringValue the string representation of the values, must not be null
+     */
+    public ColumnValueIndex(TableModel model, int column, StringValue stringValue) {
+        this.model = Contract.asNotNull(model, "model must not be null");
+        this.stringValue = Contract.asNotNull(stringValue, "stringValue must not be null");
+        if (column < 0)
+            throw new IllegalArgumentException("column must not be negative but was: " + column);
+        this.column = column;
+        rebuild();
+        model.addTableModelListener(this);
+    }
+
+    /**
+     * @return the indexed model
+     */
+    public TableModel getModel() {
+        return model;
+    }
+
+    /**
+     * @return the indexed column in model coordinates
+     */
+    public int getColumn() {
+        return column;
+    }
+
+    /**
+     * Returns the modification count, incremented on every change of the index.
+     * Readers may cache lookups as long as it is unchanged.
+     *
+     * @return the modification count
+     */
+    public int getModCount() {
+        return modCount;
+    }
+
+    /**
+     * @return the distinct keys in ascending order, unmodifiable
+     */
+    public Set<String> getKeys() {
+        return Collections.unmodifiableSet(rows.keySet());
+    }
+
+    /**
+     * Returns the key of the given model row.
+     *
+     * @param row the row in model coordinates
+     * @return the key of the row
+     */
+    public String getKey(int row) {
+        if (row < 0 || row >= rowCount)
+            throw new IndexOutOfBoundsException("row must be >= 0 and < " + rowCount + " but was: " + row);
+        return keys[row];
+    }
+
+    /**
+     * Returns the key of the given value.
+     *
+     * @param value the value
+     * @return the key of the value
+     */
+    public String toKey(Object value) {
+        String key = stringValue.getString(value);
+        return key != null ? key : "";
+    }
+
+    /**
+     * Returns the model rows with the given key.
+     *
+     * @param key the key to look up
+     * @return the bitmap of model rows, a copy
+     */
+    public BitSet getRows(String key) {
+        BitSet bits = rows.get(key);
+        return bits != null ? (BitSet) bits.clone() : new BitSet();
+    }
+
+    /**
+     * Returns the model rows with any of the given keys.
+     *
+     * @param keys the keys to look up
+     * @return the bitmap of model rows, a copy
+     */
+    public BitSet getRows(Iterable<String> keys) {
+        BitSet result = new BitSet();
+        for (String key : keys) {
+            BitSet bits = rows.get(key);
+            if (bits != null) {
+                result.or(bits);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the model rows with keys starting with the given prefix.
+     *
+     * @param prefix the prefix of the keys to look up
+     * @return the bitmap of model rows, a copy
+     */
+    public BitSet getRowsWithPrefix(String prefix) {
+        BitSet result = new BitSet();
+        for (Map.Entry<String, BitSet> entry : rows.tailMap(prefix, true).entrySet()) {
+            if (!entry.getKey().startsWith(prefix))
+                break;
+            result.or(entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Re-reads all rows of the model.
+     */
+    public void rebuild() {
+        rows.clear();
+        rowCount = column < model.getColumnCount() ? model.getRowCount() : 0;
+        keys = new String[rowCount];
+        for (int row = 0; row < rowCount; row++) {
+            String key = readKey(row);
+            keys[row] = key;
+            getBits(key).set(row);
+        }
+        modCount++;
+    }
+
+    /**
+     * Stops listening to the model.
+     */
+    public void dispose() {
+        model.removeTableModelListener(this);
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Implemented to update the index incrementally, unless a sorter passed the
+     * inserted or deleted rows before. Inserted and deleted rows are moved, updated
+     * rows are re-read.
+     */
+    @Override
+    public void tableChanged(TableModelEvent e) {
+        int type = e.getType();
+        int firstRow = e.getFirstRow();
+        int lastRow = e.getLastRow();
+        if (firstRow == TableModelEvent.HEADER_ROW || lastRow == Integer.MAX_VALUE) {
+            sorterApplied = false;
+            rebuild();
+            return;
+        }
+        if (sorterApplied) {
+            sorterApplied = false;
+            if (appliedType == type && appliedFirstRow == firstRow && appliedLastRow == lastRow)
+                return;
+        }
+        applyChange(type, firstRow, lastRow, e.getColumn());
+    }
+
+    /**
+     * Updates the index for a change of the model passed by a sorter before the
+     * model's notification might have reached the index. Inserted or deleted rows
+     * are applied only if the index doesn't match the model's row count after the
+     * change yet, and then not again for the model's notification.
+     *
+     * @param type     the type of the change, as of TableModelEvent
+     * @param firstRow the first changed row
+     * @param lastRow  the last changed row, Integer.MAX_VALUE for all rows
+     * @see RowFilters#updateIndexes(javax.swing.RowFilter, Object, int, int, int)
+     */
+    void sorterChanged(int type, int firstRow, int lastRow) {
+        if (firstRow == TableModelEvent.HEADER_ROW || lastRow == Integer.MAX_VALUE) {
+            rebuild();
+            return;
+        }
+        if (type == TableModelEvent.INSERT || type == TableModelEvent.DELETE) {
+            int count = lastRow - firstRow + 1;
+            if (rowCount != model.getRowCount() + (type == TableModelEvent.INSERT ? -count : count))
+                return;
+            sorterApplied = true;
+            appliedType = type;
+            appliedFirstRow = firstRow;
+            appliedLastRow = lastRow;
+        }
+        applyChange(type, firstRow, lastRow, TableModelEvent.ALL_COLUMNS);
+    }
+
+    private void applyChange(int type, int firstRow, int lastRow, int changedColumn) {
+        switch (type) {
+            case TableModelEvent.INSERT:
+                rowsInserted(firstRow, lastRow);
+                break;
+            case TableModelEvent.DELETE:
+                rowsDeleted(firstRow, lastRow);
+                break;
+            default:
+                if (changedColumn != TableModelEvent.ALL_COLUMNS && changedColumn != column
+                    || !rowsUpdated(firstRow, lastRow))
+                    return;
+        }
+        modCount++;
+    }
+
+    private void rowsInserted(int firstRow, int lastRow) {
+        int count = lastRow - firstRow + 1;
+        if (firstRow < rowCount) {
+            shiftRows(firstRow, count);
+        }
+        if (rowCount + count > keys.length) {
+            keys = Arrays.copyOf(keys, Math.max(rowCount + count, 2 * keys.length));
+        }
+        System.arraycopy(keys, firstRow, keys, firstRow + count, rowCount - firstRow);
+        rowCount += count;
+        for (int row = firstRow; row <= lastRow; row++) {
+            String key = readKey(row);
+            keys[row] = key;
+            getBits(key).set(row);
+        }
+    }
+
+    private void rowsDeleted(int firstRow, int lastRow) {
+        int count = lastRow - firstRow + 1;
+        for (int row = firstRow; row <= lastRow; row++) {
+            clearBit(keys[row], row);
+        }
+        shiftRows(lastRow + 1, -count);
+        System.arraycopy(keys, lastRow + 1, keys, firstRow, rowCount - lastRow - 1);
+        rowCount -= count;
+        Arrays.fill(keys, rowCount, rowCount + count, null);
+    }
+
+    /**
+     * @return true if the key of any row changed
+     */
+    private boolean rowsUpdated(int firstRow, int lastRow) {
+        boolean changed = false;
+        for (int row = firstRow; row <= lastRow; row++) {
+            String key = readKey(row);
+            if (!key.equals(keys[row])) {
+                clearBit(keys[row], row);
+                keys[row] = key;
+                getBits(key).set(row);
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Moves the bits of all rows from the given row on by the given distance, word
+     * by word. The bits of rows moved over by a negative distance must be clear.
+     */
+    private void shiftRows(int fromRow, int distance) {
+        for (Map.Entry<String, BitSet> entry : rows.entrySet()) {
+            BitSet bits = entry.getValue();
+            if (bits.length() <= fromRow)
+                continue;
+            // the moved bits start at 0, shifted by the word
+            long[] moved = bits.get(fromRow, bits.length()).toLongArray();
+            int toRow = fromRow + distance;
+            int wordShift = toRow >>> 6;
+            int bitShift = toRow & 63;
+            long[] words = new long[moved.length + wordShift + 1];
+            for (int i = 0; i < moved.length; i++) {
+                words[i + wordShift] |= moved[i] << bitShift;
+                if (bitShift != 0) {
+                    words[i + wordShift + 1] |= moved[i] >>> 64 - bitShift;
+                }
+            }
+            BitSet shifted = BitSet.valueOf(words);
+            shifted.or(bits.get(0, fromRow));
+            entry.setValue(shifted);
+        }
+    }
+
+    private String readKey(int row) {
+        return toKey(model.getValueAt(row, column));
+    }
+
+    private BitSet getBits(String key) {
+        return rows.computeIfAbsent(key, k -> new BitSet());
+    }
+
+    private void clearBit(String key, int row) {
+        BitSet bits = rows.get(key);
+        bits.clear(row);
+        if (bits.isEmpty()) {
+            rows.remove(key);
+        }
+    }
+}
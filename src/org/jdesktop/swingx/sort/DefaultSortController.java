@@ -21,15 +21,24 @@
  */
 package org.jdesktop.swingx.sort;
 
+import org.jdesktop.swingx.renderer.StringValue;
 import org.jdesktop.swingx.renderer.StringValues;
 import org.jdesktop.swingx.util.Contract;
 
 import javax.swing.DefaultRowSorter;
+import javax.swing.RowFilter;
 import javax.swing.SortOrder;
+import javax.swing.SwingUtilities;
+import javax.swing.event.TableModelEvent;
+import java.text.CollationKey;
+import java.text.Collator;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * A default SortController implementation used as parent class for concrete
@@ -42,6 +51,20 @@ import java.util.List;
  * methods are valid at all times outside the internal updates, including the critical
  * period (in core with undefined behaviour) after the underlying model has changed and
  * before this sorter has been notified.
+ * <p>
+ * Optionally, the sort keys of columns compared by a <code>Collator</code> are precomputed
+ * once per row as <code>CollationKey</code>s before sorting, instead of collating the
+ * strings on every comparison. Subclasses must install their ModelWrapper wrapped by
+ * <code>createSortKeyModelWrapper</code> to support it.
+ * <p>
+ * Optionally, sorting and filtering run asynchronously on an <code>Executor</code>. The values
+ * needed are snapshot on the EDT, the new order of the view is computed in the background
+ * and published on the EDT with a single sorterChanged. Until then, the view keeps its
+ * current order. Subclasses must install their ModelWrapper wrapped by
+ * <code>createSortKeyModelWrapper</code> to support it.
+ * <p>
+ * Optionally, large models are sorted and filtered on a ForkJoinPool, see
+ * {@link #setSortPool(ForkJoinPool)}.
  *
  * @author Jeanette Winzenburg
  */
@@ -63,6 +86,72 @@ public abstract class DefaultSortController<M> extends DefaultRowSorter<M, Integ
 
     protected int cachedModelRowCount;
 
+    private boolean precomputeSortKeys;
+
+    /**
+     * the precomputed keys of the current sort, null if sorted without.
+     */
+    private CollationKeys collationKeys;
+
+    /**
+     * flag to indicate that the model wrapper returns the precomputed keys.
+     */
+    private boolean usingCollationKeys;
+
+    /**
+     * the row filter used while the model wrapper returns the precomputed keys.
+     */
+    private RowFilter<M, Integer> collationKeysFilter;
+
+    private Executor sortExecutor;
+
+    private ForkJoinPool sortPool;
+
+    private int parallelSortThreshold = DEFAULT_PARALLEL_SORT_THRESHOLD;
+
+    /**
+     * the snapshot of the pending asynchronous sort, null if none.
+     */
+    private SortSnapshot<M> pendingSort;
+
+    /**
+     * the mapping computed by this controller, null if super maps. While installed,
+     * super's mapping is reset to unsorted and unfiltered.
+     */
+    private ViewOrder viewOrder;
+
+    /**
+     * flag to indicate that super's mapping is reset: super sees neither sort keys nor
+     * row filter.
+     */
+    private boolean resettingMapping;
+
+    /**
+     * the mapping released to super, passed to listeners as the last mapping instead of super's.
+     */
+    private int[] releasedViewToModel;
+
+    /**
+     * flag to indicate that a notification about a model change is processed.
+     */
+    private boolean notifying;
+
+    /**
+     * the row filter restricted to the rows included before setting it, null if not narrowing.
+     */
+    private RowFilter<? super M, ? super Integer> narrowedFilter;
+
+    /**
+     * flag to indicate that rows were updated without sorting and filtering, as
+     * with sortsOnUpdates false.
+     */
+    private boolean unsortedRows;
+
+    /**
+     * the default minimal number of model rows to sort and filter in parallel.
+     */
+    public static final int DEFAULT_PARALLEL_SORT_THRESHOLD = 50000;
+
     protected DefaultSortController() {
         setSortable(true);
         setSortOrderCycle(DEFAULT_CYCLE);
@@ -248,6 +337,798 @@ public abstract class DefaultSortController<M> extends DefaultRowSorter<M, Integ
         return stringValueProvider;
     }
 
+    /**
+     * Sets whether the sort keys of columns compared by a Collator are precomputed
+     * before sorting. If true, the strings of those columns are converted into
+     * CollationKeys once per row, which are then kept in synch with the model until
+     * the next sort. This trades memory for sorting speed on large models.<p>
+     * <p>
+     * The default value is false. The new value takes effect on the next sort.
+     *
+     * @param precompute boolean to indicate whether sort keys should be precomputed.
+     */
+    public void setPrecomputeSortKeys(boolean precompute) {
+        this.precomputeSortKeys = precompute;
+    }
+
+    /**
+     * Returns a boolean indicating whether the sort keys of columns compared by
+     * a Collator are precomputed before sorting.
+     *
+     * @return a boolean indicating whether sort keys are precomputed.
+     */
+    public boolean isPrecomputeSortKeys() {
+        return precomputeSortKeys;
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Overridden to return the comparator of precomputed keys while sorting
+     * with precomputed keys.
+     */
+    @Override
+    public Comparator<?> getComparator(int column) {
+        if (usingCollationKeys && collationKeys.getKeys(column) != null)
+            return COMPARABLE_COMPARATOR;
+        return super.getComparator(column);
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Overridden to guarantee that the filter sees the model values while
+     * sorting with precomputed keys, and to hide the filter while resetting super's mapping.
+     */
+    @Override
+    public RowFilter<? super M, ? super Integer> getRowFilter() {
+        if (resettingMapping)
+            return null;
+        if (usingCollationKeys && collationKeysFilter != null)
+            return collationKeysFilter;
+        return getModelRowFilter();
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Overridden to re-test only the rows included by the current filter if
+     * the new filter narrows it.
+     *
+     * @see RowFilters.Narrowing
+     */
+    @Override
+    public void setRowFilter(RowFilter<? super M, ? super Integer> filter) {
+        RowFilter<? super M, ? super Integer> old = super.getRowFilter();
+        if (old == null || !(filter instanceof RowFilters.Narrowing)
+            || !((RowFilters.Narrowing) filter).narrows(old)
+            || !getSortsOnUpdates() || pendingSort != null) {
+            // the current view might not be filtered by the old filter
+            super.setRowFilter(filter);
+            return;
+        }
+        int rowCount = getModelRowCount();
+        boolean[] included = new boolean[rowCount];
+        for (int row = 0; row < rowCount; row++) {
+            included[row] = convertRowIndexToView(row) >= 0;
+        }
+        narrowedFilter = new NarrowedFilter(filter, included);
+        try {
+            super.setRowFilter(filter);
+        } finally {
+            narrowedFilter = null;
+        }
+    }
+
+    /**
+     * Returns the row filter to evaluate on the model rows: the row filter, restricted to
+     * the previously included rows while narrowing.
+     *
+     * @return the row filter to evaluate
+     */
+    private RowFilter<? super M, ? super Integer> getModelRowFilter() {
+        return narrowedFilter != null ? narrowedFilter : super.getRowFilter();
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Overridden to sort asynchronously, to install the computed order of the view or
+     * to precompute the sort keys if appropriate.
+     */
+    @Override
+    public void sort() {
+        if (usingCollationKeys || resettingMapping) {
+            super.sort();
+            return;
+        }
+        cancelPendingSort();
+        List<? extends SortKey> keys = getSortKeys();
+        if (isOrderComputed(keys)) {
+            if (isSortAsync()) {
+                // the view keeps its current order until the computed order is published
+                ensureViewOrder();
+                submitSort();
+            } else {
+                installViewOrder(createSnapshot(keys, false).compute());
+            }
+            return;
+        }
+        releaseViewOrder();
+        unsortedRows = false;
+        collationKeys = createCollationKeys(keys);
+        runWithCollationKeys(super::sort);
+        if (releasedViewToModel != null) {
+            // super was and is unsorted and unfiltered, so it didn't notify
+            fireRowSorterChanged(null);
+        }
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Overridden to sort asynchronously, to install the computed order of the view or
+     * to precompute the sort keys if appropriate.
+     */
+    @Override
+    public void setSortKeys(List<? extends SortKey> sortKeys) {
+        List<? extends SortKey> keys = sortKeys != null ? sortKeys : Collections.<SortKey>emptyList();
+        if (keys.equals(getSortKeys()) || usingCollationKeys || resettingMapping) {
+            super.setSortKeys(sortKeys);
+            return;
+        }
+        checkSortKeys(keys);
+        if (isOrderComputed(keys)) {
+            ensureViewOrder();
+        }
+        if (viewOrder != null) {
+            // super's mapping is reset, so super calls sort
+            super.setSortKeys(sortKeys);
+            return;
+        }
+        collationKeys = createCollationKeys(keys);
+        runWithCollationKeys(() -> super.setSortKeys(sortKeys));
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Overridden to hide the sort keys while resetting super's mapping.
+     */
+    @Override
+    public List<? extends SortKey> getSortKeys() {
+        if (resettingMapping)
+            return Collections.emptyList();
+        return super.getSortKeys();
+    }
+
+    /**
+     * Throws the same exception as super if the sort keys are invalid.
+     *
+     * @param keys the sort keys to check
+     */
+    private void checkSortKeys(List<? extends SortKey> keys) {
+        int columnCount = getModelWrapper().getColumnCount();
+        for (SortKey key : keys) {
+            if (key == null || key.getColumn() < 0 || key.getColumn() >= columnCount)
+                throw new IllegalArgumentException("Invalid SortKey");
+        }
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Overridden to not expose the precomputed keys to listeners.
+     */
+    @Override
+    protected void fireSortOrderChanged() {
+        boolean using = usingCollationKeys;
+        usingCollationKeys = false;
+        try {
+            super.fireSortOrderChanged();
+        } finally {
+            usingCollationKeys = using;
+        }
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Overridden to not expose the precomputed keys to listeners and to pass the mapping
+     * released by this controller as the last mapping. The sort is complete at this point.
+     * Does not notify while resetting super's mapping, which is not in use then.
+     */
+    @Override
+    protected void fireRowSorterChanged(int[] lastRowIndexToModel) {
+        usingCollationKeys = false;
+        if (resettingMapping)
+            return;
+        int[] lastViewToModel = releasedViewToModel != null ? releasedViewToModel : lastRowIndexToModel;
+        releasedViewToModel = null;
+        RowFilter<? super M, ? super Integer> narrowed = narrowedFilter;
+        narrowedFilter = null;
+        try {
+            super.fireRowSorterChanged(lastViewToModel);
+        } finally {
+            narrowedFilter = narrowed;
+        }
+    }
+
+    /**
+     * Sets the Executor to sort and filter asynchronously. If null, sorting and
+     * filtering are synchronous.<p>
+     * <p>
+     * If not null, sorts requested by changing the sort keys or the row filter or by
+     * calling sort, as well as re-sorts after model changes, are computed by the
+     * executor. This controller takes a snapshot of the values needed on the EDT:
+     * the values (or strings) of the sorted columns and, if filtered, the values and
+     * strings of the columns the filter reads (all columns, unless it is
+     * {@link RowFilters.ColumnAware}). The result is installed on the EDT as is, with
+     * a single sorterChanged, unless a newer request superseded it. Until then, the view keeps
+     * its current order, rows inserted in the meantime are placed at the end.<p>
+     * <p>
+     * Comparators and row filters are invoked off the EDT, so they must not access
+     * state which is modified on the EDT. The default value is null.
+     *
+     * @param executor the Executor to sort and filter, may be null
+     */
+    public void setSortExecutor(Executor executor) {
+        boolean pending = cancelPendingSort();
+        this.sortExecutor = executor;
+        if (pending || viewOrder != null) {
+            // compute the pending order or hand the mapping back to super
+            sort();
+        }
+    }
+
+    /**
+     * Returns the Executor to sort and filter asynchronously.
+     *
+     * @return the Executor to sort and filter, or null if synchronous
+     */
+    public Executor getSortExecutor() {
+        return sortExecutor;
+    }
+
+    /**
+     * Sets the ForkJoinPool to sort and filter models with at least parallelSortThreshold
+     * rows. If null, sorting and filtering are sequential.<p>
+     * <p>
+     * If not null, the row filter is evaluated over chunks of rows in parallel if it is
+     * marked as {@link RowFilters.ThreadSafe}, otherwise sequentially. The values are
+     * snapshot on the EDT, the strings the filter reads are converted in parallel by the
+     * StringValue of their column, synchronized on it. The sort runs stable in parallel. The resulting order is the
+     * same as sequentially. The pool is used both if sorting synchronously and if sorting
+     * asynchronously. The default value is null.
+     *
+     * @param pool the ForkJoinPool to sort and filter in parallel, may be null
+     * @see #setParallelSortThreshold(int)
+     */
+    public void setSortPool(ForkJoinPool pool) {
+        this.sortPool = pool;
+    }
+
+    /**
+     * Returns the ForkJoinPool to sort and filter in parallel.
+     *
+     * @return the ForkJoinPool to sort and filter in parallel, or null if sequential
+     */
+    public ForkJoinPool getSortPool() {
+        return sortPool;
+    }
+
+    /**
+     * Sets the minimal number of model rows to sort and filter in parallel, if the
+     * sort pool is set. Below, the sequential path is used. The default value is
+     * {@link #DEFAULT_PARALLEL_SORT_THRESHOLD}.
+     *
+     * @param threshold the minimal number of rows to sort and filter in parallel
+     * @throws IllegalArgumentException if threshold is negative
+     */
+    public void setParallelSortThreshold(int threshold) {
+        if (threshold < 0)
+            throw new IllegalArgumentException("threshold must not be negative but was: " + threshold);
+        this.parallelSortThreshold = threshold;
+    }
+
+    /**
+     * Returns the minimal number of model rows to sort and filter in parallel.
+     *
+     * @return the minimal number of rows to sort and filter in parallel
+     */
+    public int getParallelSortThreshold() {
+        return parallelSortThreshold;
+    }
+
+    /**
+     * Returns a boolean indicating whether an asynchronous sort is pending, that is
+     * the current order of the view might not reflect the sort keys and row filter.
+     *
+     * @return true if an asynchronous sort is pending, false otherwise.
+     */
+    public boolean isSortPending() {
+        return pendingSort != null;
+    }
+
+    /**
+     * Returns a ModelWrapper which delegates to the given wrapper and returns the
+     * precomputed keys while sorting with precomputed keys.
+     *
+     * @param wrapper the ModelWrapper to delegate to
+     * @return a ModelWrapper which supports precomputed sort keys
+     * @see #setPrecomputeSortKeys(boolean)
+     */
+    protected ModelWrapper<M, Integer> createSortKeyModelWrapper(ModelWrapper<M, Integer> wrapper) {
+        return new SortKeyModelWrapper(wrapper);
+    }
+
+    /**
+     * Returns the precomputed keys for the given sort keys, or null if
+     * not precomputing or none of the sort columns is compared by a Collator.
+     *
+     * @param keys the sort keys to precompute the keys for
+     * @return the precomputed keys or null
+     */
+    private CollationKeys createCollationKeys(List<? extends SortKey> keys) {
+        if (!isPrecomputeSortKeys() || !(getModelWrapper() instanceof DefaultSortController.SortKeyModelWrapper))
+            return null;
+        int columnCount = getModelWrapper().getColumnCount();
+        Collator[] collators = new Collator[columnCount];
+        boolean[] toString = new boolean[columnCount];
+        boolean any = false;
+        for (SortKey key : keys) {
+            int column = key.getColumn();
+            if (key.getSortOrder() == SortOrder.UNSORTED || column < 0 || column >= columnCount)
+                continue;
+            // same lookup as super's
+            Comparator<?> comparator = getComparator(column);
+            if (comparator == null) {
+                comparator = Collator.getInstance();
+            }
+            if (comparator instanceof Collator) {
+                collators[column] = (Collator) comparator;
+                toString[column] = useToString(column);
+                any = true;
+            }
+        }
+        if (!any)
+            return null;
+        CollationKeys collationKeys = new CollationKeys(collators, toString);
+        collationKeys.allRowsChanged(getSortKeyModelWrapper().wrapper);
+        return collationKeys;
+    }
+
+    /**
+     * Runs the given sorter with the model wrapper returning the precomputed
+     * keys, if any.
+     *
+     * @param sorter the sorting to run
+     */
+    private void runWithCollationKeys(Runnable sorter) {
+        if (collationKeys == null || usingCollationKeys) {
+            sorter.run();
+            return;
+        }
+        RowFilter<? super M, ? super Integer> filter = getModelRowFilter();
+        collationKeysFilter = filter != null ? new CollationKeysFilter(filter) : null;
+        usingCollationKeys = true;
+        try {
+            sorter.run();
+        } finally {
+            usingCollationKeys = false;
+            collationKeysFilter = null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private SortKeyModelWrapper getSortKeyModelWrapper() {
+        return (SortKeyModelWrapper) getModelWrapper();
+    }
+
+    //------------------ primitive sort keys
+
+    /**
+     * Returns the primitive type of the values of the given column if the model
+     * provides them without boxing: <code>int.class</code>, <code>long.class</code>
+     * or <code>double.class</code>. This implementation returns null, subclasses
+     * override to support their model.<p>
+     * <p>
+     * Primitive columns compared by their natural order are sorted by comparing
+     * primitives, without boxing the values.
+     *
+     * @param column the column in model coordinates
+     * @return the primitive type of the column or null if not primitive
+     * @see #getLongAt(int, int)
+     * @see #getDoubleAt(int, int)
+     */
+    protected Class<?> getPrimitiveType(int column) {
+        return null;
+    }
+
+    /**
+     * Returns the value of a cell of a column of primitive type int or long.
+     * This implementation throws, subclasses which support primitive columns
+     * must override.
+     *
+     * @param row    the row in model coordinates
+     * @param column the column in model coordinates
+     * @return the value of the cell
+     * @see #getPrimitiveType(int)
+     */
+    protected long getLongAt(int row, int column) {
+        throw new UnsupportedOperationException("no primitive columns");
+    }
+
+    /**
+     * Returns the value of a cell of a column of primitive type. This implementation
+     * throws, subclasses which support primitive columns must override.
+     *
+     * @param row    the row in model coordinates
+     * @param column the column in model coordinates
+     * @return the value of the cell
+     * @see #getPrimitiveType(int)
+     */
+    protected double getDoubleAt(int row, int column) {
+        throw new UnsupportedOperationException("no primitive columns");
+    }
+
+    /**
+     * Returns the primitive type of the given column if it is compared by the
+     * natural order of its values, null otherwise.
+     *
+     * @param column the column in model coordinates
+     * @return the primitive type to compare or null
+     */
+    private Class<?> getPrimitiveSortType(int column) {
+        Class<?> type = getPrimitiveType(column);
+        if (type == null || getComparator(column) != COMPARABLE_COMPARATOR || useToString(column))
+            return null;
+        return type;
+    }
+
+    /**
+     * @param keys the sort keys to sort by
+     * @return true if the primary sort column is compared as primitives.
+     */
+    private boolean isSortPrimitive(List<? extends SortKey> keys) {
+        return isSorted(keys) && getModelWrapper() instanceof DefaultSortController.SortKeyModelWrapper
+            && getPrimitiveSortType(keys.get(0).getColumn()) != null;
+    }
+
+    //------------------ asynchronous sorting
+
+    /**
+     * @return true if the next sort is to be computed asynchronously.
+     */
+    private boolean isSortAsync() {
+        return sortExecutor != null && !notifying && getModelWrapper() instanceof DefaultSortController.SortKeyModelWrapper;
+    }
+
+    /**
+     * @return true if the next synchronous sort is to be computed in parallel. Not while
+     * super processes a notification, as its mapping might not match the model.
+     */
+    private boolean isSortParallel() {
+        return sortPool != null && !notifying && getModelWrapper() instanceof DefaultSortController.SortKeyModelWrapper
+            && getModelWrapper().getRowCount() >= parallelSortThreshold;
+    }
+
+    private static boolean isSorted(List<? extends SortKey> keys) {
+        return !keys.isEmpty() && keys.get(0).getSortOrder() != SortOrder.UNSORTED;
+    }
+
+    /**
+     * @param keys the sort keys to sort by
+     * @return true if the order of the view for the given sort keys is to be computed
+     * by this controller instead of super.
+     */
+    private boolean isOrderComputed(List<? extends SortKey> keys) {
+        return (isSorted(keys) || hasRowFilter())
+            && (isSortAsync() || isSortParallel() || isSortPrimitive(keys));
+    }
+
+    /**
+     * Returns the current mapping of the view.
+     *
+     * @return the model rows in view order
+     */
+    private int[] getViewToModel() {
+        if (viewOrder != null)
+            return viewOrder.getViewToModel();
+        int[] viewToModel = new int[getViewRowCount()];
+        for (int i = 0; i < viewToModel.length; i++) {
+            viewToModel[i] = convertRowIndexToModel(i);
+        }
+        return viewToModel;
+    }
+
+    /**
+     * Takes over the current mapping of the view from super, if not yet done. Not
+     * while super processes a notification, as its mapping might not match the model.
+     */
+    private void ensureViewOrder() {
+        if (viewOrder != null || notifying)
+            return;
+        // unsortedRows is kept: super's mapping might not be sorted either
+        viewOrder = new ViewOrder(getModelRowCount(), getViewToModel());
+        collationKeys = null;
+        resetSuperMapping();
+    }
+
+    /**
+     * Installs the given order of the view and notifies the listeners, without
+     * sorting again.
+     *
+     * @param order the computed order of the view
+     */
+    private void installViewOrder(ViewOrder order) {
+        int[] lastViewToModel = getViewToModel();
+        if (viewOrder == null) {
+            resetSuperMapping();
+        }
+        viewOrder = order;
+        unsortedRows = false;
+        collationKeys = null;
+        cachedModelRowCount = order.getModelRowCount();
+        fireRowSorterChanged(lastViewToModel);
+    }
+
+    /**
+     * Hands the mapping back to super, if taken over. The released mapping is passed to
+     * the listeners as the last mapping on the next notification.
+     */
+    private void releaseViewOrder() {
+        if (viewOrder == null)
+            return;
+        releasedViewToModel = viewOrder.getViewToModel();
+        viewOrder = null;
+        // brings super's row count up to date
+        resetSuperMapping();
+    }
+
+    /**
+     * Resets super's mapping to unsorted and unfiltered, without notifying the listeners.
+     */
+    private void resetSuperMapping() {
+        resettingMapping = true;
+        try {
+            super.allRowsChanged();
+        } finally {
+            resettingMapping = false;
+        }
+    }
+
+    /**
+     * Returns the order of the view as given by the model with the rows filtered
+     * by the current row filter.
+     *
+     * @return the model order of the view
+     */
+    private ViewOrder createModelViewOrder() {
+        int rowCount = getModelWrapper().getRowCount();
+        boolean[] included = rowCount > 0 ? include(0, rowCount - 1) : null;
+        int[] viewToModel = new int[rowCount];
+        int count = 0;
+        for (int row = 0; row < rowCount; row++) {
+            if (included == null || included[row]) {
+                viewToModel[count++] = row;
+            }
+        }
+        return new ViewOrder(rowCount, Arrays.copyOf(viewToModel, count));
+    }
+
+    /**
+     * Prepares the view order to process a model change, if asynchronous or if
+     * moving many rows synchronously.
+     *
+     * @param firstRow the first changed row
+     * @param endRow   the last changed row
+     * @param reorder  true if the changed rows are to be moved
+     * @return true if the model change is to be processed with the view order
+     */
+    private boolean prepareViewOrder(int firstRow, int endRow, boolean reorder) {
+        if (viewOrder == null && isSorted(getSortKeys())
+            && (isSortAsync() || reorder && isLargeChange(firstRow, endRow) && isSortIncremental())) {
+            ensureViewOrder();
+        }
+        return viewOrder != null;
+    }
+
+    /**
+     * Returns the inclusion of the given rows by the current row filter.
+     *
+     * @param firstRow the first row
+     * @param endRow   the last row
+     * @return the inclusion of the rows, null if not filtered
+     */
+    private boolean[] include(int firstRow, int endRow) {
+        RowFilter<? super M, ? super Integer> filter = getModelRowFilter();
+        if (filter == null)
+            return null;
+        boolean[] included = new boolean[endRow - firstRow + 1];
+        ModelEntry entry = new ModelEntry(getSortKeyModelWrapper().wrapper);
+        for (int row = firstRow; row <= endRow; row++) {
+            entry.row = row;
+            included[row - firstRow] = filter.include(entry);
+        }
+        return included;
+    }
+
+    /**
+     * Runs the given notification of super.
+     *
+     * @param notification the notification to run
+     */
+    private void runNotification(Runnable notification) {
+        notifying = true;
+        try {
+            notification.run();
+        } finally {
+            notifying = false;
+        }
+    }
+
+    /**
+     * Takes a snapshot of the current state and submits its sort to the executor.
+     */
+    private void submitSort() {
+        SortSnapshot<M> snapshot = createSnapshot(getSortKeys(), true);
+        pendingSort = snapshot;
+        sortExecutor.execute(() -> computeSort(snapshot));
+    }
+
+    /**
+     * Computes the given snapshot and publishes the result on the EDT. This
+     * is called off the EDT.
+     *
+     * @param snapshot the snapshot to compute
+     */
+    private void computeSort(SortSnapshot<M> snapshot) {
+        ViewOrder order;
+        try {
+            order = snapshot.compute();
+        } catch (RuntimeException e) {
+            SwingUtilities.invokeLater(() -> {
+                if (pendingSort == snapshot) {
+                    pendingSort = null;
+                    throw e;
+                }
+            });
+            return;
+        }
+        if (order != null) {
+            SwingUtilities.invokeLater(() -> publishSort(snapshot, order));
+        }
+    }
+
+    /**
+     * Applies the computed order of the view, if the snapshot is still current.
+     *
+     * @param snapshot the snapshot the order is computed from
+     * @param order    the computed order
+     */
+    private void publishSort(SortSnapshot<M> snapshot, ViewOrder order) {
+        if (pendingSort != snapshot)
+            return;
+        pendingSort = null;
+        installViewOrder(order);
+    }
+
+    /**
+     * Cancels the pending asynchronous sort, if any.
+     *
+     * @return true if a pending sort was cancelled, false otherwise
+     */
+    private boolean cancelPendingSort() {
+        if (pendingSort == null)
+            return false;
+        pendingSort.cancel();
+        pendingSort = null;
+        return true;
+    }
+
+    /**
+     * Returns a snapshot of the values needed to sort and filter the current model.
+     *
+     * @param sortKeys the sort keys to sort by
+     * @param async    true if computed off the EDT, false if on the EDT
+     * @return a snapshot to sort off the EDT
+     */
+    private SortSnapshot<M> createSnapshot(List<? extends SortKey> sortKeys, boolean async) {
+        ModelWrapper<M, Integer> wrapper = getSortKeyModelWrapper().wrapper;
+        int rowCount = wrapper.getRowCount();
+        SortKey[] keys = sortKeys.toArray(new SortKey[0]);
+        Object[][] sortValues = new Object[keys.length][];
+        Object[] primitiveValues = new Object[keys.length];
+        Comparator<?>[] comparators = new Comparator<?>[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i].getSortOrder() == SortOrder.UNSORTED)
+                continue;
+            int column = keys[i].getColumn();
+            Class<?> primitiveType = getPrimitiveSortType(column);
+            if (primitiveType != null) {
+                primitiveValues[i] = getPrimitiveValues(primitiveType, column, rowCount);
+                continue;
+            }
+            // same lookup as super's
+            Comparator<?> comparator = getComparator(column);
+            comparators[i] = comparator != null ? comparator : Collator.getInstance();
+            boolean toString = useToString(column);
+            Object[] values = new Object[rowCount];
+            for (int row = 0; row < rowCount; row++) {
+                values[row] = toString ? wrapper.getStringValueAt(row, column) : wrapper.getValueAt(row, column);
+            }
+            sortValues[i] = values;
+        }
+        RowFilter<? super M, ? super Integer> filter = getModelRowFilter();
+        boolean threadSafe = super.getRowFilter() instanceof RowFilters.ThreadSafe;
+        boolean[] included = null;
+        if (filter != null && !async && !(threadSafe && sortPool != null)) {
+            // no use to snapshot the values to evaluate on the EDT
+            included = include(0, rowCount - 1);
+            filter = null;
+        }
+        Object[][] values = null;
+        String[][] strings = null;
+        StringValue[] converters = null;
+        if (filter != null) {
+            int columnCount = wrapper.getColumnCount();
+            values = new Object[columnCount][];
+            strings = new String[columnCount][];
+            converters = new StringValue[columnCount];
+            for (int column = 0; column < columnCount; column++) {
+                if (!RowFilters.readsColumn(super.getRowFilter(), column))
+                    continue;
+                values[column] = new Object[rowCount];
+                for (int row = 0; row < rowCount; row++) {
+                    values[column][row] = wrapper.getValueAt(row, column);
+                }
+                if (!async) {
+                    // the EDT waits for the filter, the converters aren't used meanwhile
+                    converters[column] = getStringValueProvider().getStringValue(-1, column);
+                    continue;
+                }
+                strings[column] = new String[rowCount];
+                for (int row = 0; row < rowCount; row++) {
+                    strings[column][row] = wrapper.getStringValueAt(row, column);
+                }
+            }
+        }
+        SortSnapshot<M> snapshot = new SortSnapshot<>(rowCount, keys, sortValues, comparators,
+            filter, wrapper.getModel(), values, strings);
+        for (int i = 0; i < keys.length; i++) {
+            if (primitiveValues[i] instanceof long[]) {
+                snapshot.setSortValues(i, (long[]) primitiveValues[i]);
+            } else if (primitiveValues[i] instanceof double[]) {
+                snapshot.setSortValues(i, (double[]) primitiveValues[i]);
+            }
+        }
+        snapshot.setIncluded(included);
+        snapshot.setConverters(converters);
+        snapshot.setParallel(sortPool, parallelSortThreshold, threadSafe);
+        return snapshot;
+    }
+
+    /**
+     * Returns the values of the given primitive column.
+     *
+     * @return a long[] for type int or long, a double[] for type double
+     */
+    private Object getPrimitiveValues(Class<?> type, int column, int rowCount) {
+        if (type == double.class) {
+            double[] values = new double[rowCount];
+            for (int row = 0; row < rowCount; row++) {
+                values[row] = getDoubleAt(row, column);
+            }
+            return values;
+        }
+        long[] values = new long[rowCount];
+        for (int row = 0; row < rowCount; row++) {
+            values[row] = getLongAt(row, column);
+        }
+        return values;
+    }
+
     /**
      * Returns the default cycle.
      *
@@ -268,6 +1149,296 @@ public abstract class DefaultSortController<M> extends DefaultRowSorter<M, Integ
         }
     }
 
+    /**
+     * ModelWrapper which returns the precomputed keys of the sort columns while
+     * sorting with precomputed keys.
+     */
+    private class SortKeyModelWrapper extends ModelWrapper<M, Integer> {
+
+        private final ModelWrapper<M, Integer> wrapper;
+
+        SortKeyModelWrapper(ModelWrapper<M, Integer> wrapper) {
+            this.wrapper = wrapper;
+        }
+
+        @Override
+        public M getModel() {
+            return wrapper.getModel();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return wrapper.getColumnCount();
+        }
+
+        @Override
+        public int getRowCount() {
+            return wrapper.getRowCount();
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            if (usingCollationKeys) {
+                CollationKey[] keys = collationKeys.getKeys(column);
+                if (keys != null)
+                    return keys[row];
+            }
+            return wrapper.getValueAt(row, column);
+        }
+
+        @Override
+        public String getStringValueAt(int row, int column) {
+            return wrapper.getStringValueAt(row, column);
+        }
+
+        @Override
+        public Integer getIdentifier(int row) {
+            return wrapper.getIdentifier(row);
+        }
+    }
+
+    /**
+     * RowFilter which lets the delegate see the model values while sorting with
+     * precomputed keys.
+     */
+    private class CollationKeysFilter extends RowFilter<M, Integer> {
+
+        private final RowFilter<? super M, ? super Integer> delegate;
+
+        CollationKeysFilter(RowFilter<? super M, ? super Integer> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean include(Entry<? extends M, ? extends Integer> entry) {
+            usingCollationKeys = false;
+            try {
+                return delegate.include(entry);
+            } finally {
+                usingCollationKeys = true;
+            }
+        }
+    }
+
+    /**
+     * Comparator of model rows by their current values, the same as super's. Primitive
+     * columns are compared as primitives.
+     */
+    private class RowComparator implements ViewOrder.RowComparator {
+
+        private final ModelWrapper<M, Integer> wrapper = getSortKeyModelWrapper().wrapper;
+        private final SortKey[] keys = getSortKeys().toArray(new SortKey[0]);
+        private final Comparator<?>[] comparators = new Comparator<?>[keys.length];
+        private final boolean[] toString = new boolean[keys.length];
+        private final Class<?>[] primitiveTypes = new Class<?>[keys.length];
+
+        RowComparator() {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i].getSortOrder() == SortOrder.UNSORTED)
+                    continue;
+                int column = keys[i].getColumn();
+                primitiveTypes[i] = getPrimitiveSortType(column);
+                if (primitiveTypes[i] != null)
+                    continue;
+                Comparator<?> comparator = getComparator(column);
+                comparators[i] = comparator != null ? comparator : Collator.getInstance();
+                toString[i] = useToString(column);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public int compare(int model1, int model2) {
+            for (int i = 0; i < keys.length; i++) {
+                SortOrder sortOrder = keys[i].getSortOrder();
+                int result;
+                int column = keys[i].getColumn();
+                if (sortOrder == SortOrder.UNSORTED) {
+                    result = model1 - model2;
+                } else if (primitiveTypes[i] == double.class) {
+                    result = Double.compare(getDoubleAt(model1, column), getDoubleAt(model2, column));
+                    if (sortOrder == SortOrder.DESCENDING) {
+                        result *= -1;
+                    }
+                } else if (primitiveTypes[i] != null) {
+                    result = Long.compare(getLongAt(model1, column), getLongAt(model2, column));
+                    if (sortOrder == SortOrder.DESCENDING) {
+                        result *= -1;
+                    }
+                } else {
+                    Object v1 = getValue(model1, i);
+                    Object v2 = getValue(model2, i);
+                    if (v1 == null) {
+                        result = v2 == null ? 0 : -1;
+                    } else if (v2 == null) {
+                        result = 1;
+                    } else {
+                        result = ((Comparator<Object>) comparators[i]).compare(v1, v2);
+                    }
+                    if (sortOrder == SortOrder.DESCENDING) {
+                        result *= -1;
+                    }
+                }
+                if (result != 0)
+                    return result;
+            }
+            return model1 - model2;
+        }
+
+        private Object getValue(int row, int key) {
+            int column = keys[key].getColumn();
+            return toString[key] ? wrapper.getStringValueAt(row, column) : wrapper.getValueAt(row, column);
+        }
+    }
+
+    /**
+     * Filter which excludes the rows not included before narrowing, without
+     * evaluating the row filter.
+     */
+    private static class NarrowedFilter extends RowFilter<Object, Integer> {
+
+        private final RowFilter<Object, Object> delegate;
+        private final boolean[] included;
+
+        @SuppressWarnings("unchecked")
+        NarrowedFilter(RowFilter<?, ?> delegate, boolean[] included) {
+            this.delegate = (RowFilter<Object, Object>) delegate;
+            this.included = included;
+        }
+
+        @Override
+        public boolean include(Entry<?, ? extends Integer> entry) {
+            int row = entry.getIdentifier();
+            return row < included.length && included[row] && delegate.include(entry);
+        }
+    }
+
+    /**
+     * Entry which gives access to the model values of a row, like super's.
+     */
+    private class ModelEntry extends RowFilter.Entry<M, Integer> {
+
+        private final ModelWrapper<M, Integer> wrapper;
+        private int row;
+
+        ModelEntry(ModelWrapper<M, Integer> wrapper) {
+            this.wrapper = wrapper;
+        }
+
+        @Override
+        public M getModel() {
+            return wrapper.getModel();
+        }
+
+        @Override
+        public int getValueCount() {
+            return wrapper.getColumnCount();
+        }
+
+        @Override
+        public Object getValue(int index) {
+            return wrapper.getValueAt(row, index);
+        }
+
+        @Override
+        public String getStringValue(int index) {
+            return wrapper.getStringValueAt(row, index);
+        }
+
+        @Override
+        public Integer getIdentifier() {
+            return wrapper.getIdentifier(row);
+        }
+    }
+
+    /**
+     * The CollationKeys per row of the sort columns compared by a Collator.
+     */
+    private static final class CollationKeys {
+
+        private final Collator[] collators;
+        private final boolean[] toString;
+        private final CollationKey[][] keys;
+
+        CollationKeys(Collator[] collators, boolean[] toString) {
+            this.collators = collators;
+            this.toString = toString;
+            this.keys = new CollationKey[collators.length][];
+        }
+
+        CollationKey[] getKeys(int column) {
+            return column >= 0 && column < keys.length ? keys[column] : null;
+        }
+
+        void allRowsChanged(ModelWrapper<?, ?> wrapper) {
+            int rowCount = wrapper.getRowCount();
+            for (int column = 0; column < keys.length; column++) {
+                if (collators[column] != null) {
+                    keys[column] = new CollationKey[rowCount];
+                    update(wrapper, column, 0, rowCount - 1);
+                }
+            }
+        }
+
+        void rowsInserted(ModelWrapper<?, ?> wrapper, int firstRow, int endRow) {
+            int count = endRow - firstRow + 1;
+            for (int column = 0; column < keys.length; column++) {
+                CollationKey[] old = keys[column];
+                if (old == null)
+                    continue;
+                if (firstRow < 0 || firstRow > old.length || old.length + count != wrapper.getRowCount()) {
+                    allRowsChanged(wrapper);
+                    return;
+                }
+                CollationKey[] inserted = new CollationKey[old.length + count];
+                System.arraycopy(old, 0, inserted, 0, firstRow);
+                System.arraycopy(old, firstRow, inserted, endRow + 1, old.length - firstRow);
+                keys[column] = inserted;
+                update(wrapper, column, firstRow, endRow);
+            }
+        }
+
+        void rowsDeleted(ModelWrapper<?, ?> wrapper, int firstRow, int endRow) {
+            int count = endRow - firstRow + 1;
+            for (int column = 0; column < keys.length; column++) {
+                CollationKey[] old = keys[column];
+                if (old == null)
+                    continue;
+                if (firstRow < 0 || endRow >= old.length || old.length - count != wrapper.getRowCount()) {
+                    allRowsChanged(wrapper);
+                    return;
+                }
+                CollationKey[] deleted = new CollationKey[old.length - count];
+                System.arraycopy(old, 0, deleted, 0, firstRow);
+                System.arraycopy(old, endRow + 1, deleted, firstRow, old.length - endRow - 1);
+                keys[column] = deleted;
+            }
+        }
+
+        void rowsUpdated(ModelWrapper<?, ?> wrapper, int firstRow, int endRow) {
+            for (int column = 0; column < keys.length; column++) {
+                CollationKey[] old = keys[column];
+                if (old == null)
+                    continue;
+                if (firstRow < 0 || endRow >= old.length || old.length != wrapper.getRowCount()) {
+                    allRowsChanged(wrapper);
+                    return;
+                }
+                update(wrapper, column, firstRow, endRow);
+            }
+        }
+
+        private void update(ModelWrapper<?, ?> wrapper, int column, int firstRow, int endRow) {
+            Collator collator = collators[column];
+            CollationKey[] columnKeys = keys[column];
+            for (int row = firstRow; row <= endRow; row++) {
+                Object value = toString[column] ? wrapper.getStringValueAt(row, column) : wrapper.getValueAt(row, column);
+                // same as super: a Collator compares Strings only
+                columnKeys[row] = value != null ? collator.getCollationKey((String) value) : null;
+            }
+        }
+    }
+
 //-------------------------- replacing super for more consistent conversion/rowCount behaviour
 
     /**
@@ -281,6 +1452,8 @@ public abstract class DefaultSortController<M> extends DefaultRowSorter<M, Integ
     public int convertRowIndexToModel(int viewIndex) {
         if (viewIndex < 0 || viewIndex >= getViewRowCount())
             throw new IndexOutOfBoundsException("valid viewIndex: 0 <= index < " + getViewRowCount() + " but was: " + viewIndex);
+        if (viewOrder != null)
+            return viewOrder.convertRowIndexToModel(viewIndex);
         try {
             return super.convertRowIndexToModel(viewIndex);
         } catch (Exception e) {
@@ -302,6 +1475,8 @@ public abstract class DefaultSortController<M> extends DefaultRowSorter<M, Integ
     public int convertRowIndexToView(int modelIndex) {
         if (modelIndex < 0 || modelIndex >= getModelRowCount())
             throw new IndexOutOfBoundsException("valid modelIndex: 0 <= index < " + getModelRowCount() + " but was: " + modelIndex);
+        if (viewOrder != null)
+            return viewOrder.convertRowIndexToView(modelIndex);
         try {
             return super.convertRowIndexToView(modelIndex);
         } catch (Exception e) {
@@ -328,13 +1503,16 @@ public abstract class DefaultSortController<M> extends DefaultRowSorter<M, Integ
     /**
      * {@inheritDoc} <p>
      * <p>
-     * Overridden to return the model row count if no filters installed, otherwise
+     * Overridden to return the row count of the computed order of the view if
+     * installed, otherwise the model row count if no filters installed, otherwise
      * return super.
      *
      * @see #getModelRowCount()
      */
     @Override
     public int getViewRowCount() {
+        if (viewOrder != null)
+            return viewOrder.getViewRowCount();
         if (hasRowFilter())
             return super.getViewRowCount();
         return getModelRowCount();
@@ -350,25 +1528,179 @@ public abstract class DefaultSortController<M> extends DefaultRowSorter<M, Integ
     //------------------ overridden notification methods: cache model row count
     @Override
     public void allRowsChanged() {
+        updateIndexes(TableModelEvent.UPDATE, 0, Integer.MAX_VALUE);
+        cancelPendingSort();
         cachedModelRowCount = getModelWrapper().getRowCount();
-        super.allRowsChanged();
+        List<? extends SortKey> keys = getSortKeys();
+        if (isOrderComputed(keys)) {
+            if (isSortAsync()) {
+                // provisionally in model order, filtered synchronously
+                installViewOrder(createModelViewOrder());
+                submitSort();
+            } else {
+                installViewOrder(createSnapshot(keys, false).compute());
+            }
+            return;
+        }
+        runNotification(super::allRowsChanged);
     }
 
     @Override
     public void modelStructureChanged() {
-        super.modelStructureChanged();
+        updateIndexes(TableModelEvent.UPDATE, 0, Integer.MAX_VALUE);
+        cancelPendingSort();
+        viewOrder = null;
+        unsortedRows = false;
+        collationKeys = null;
+        // conversions during super's notification refer to the changed model
         cachedModelRowCount = getModelWrapper().getRowCount();
+        runNotification(super::modelStructureChanged);
+    }
+
+    /**
+     * Passes a model change to the ColumnValueIndexes read by the row filter, so they
+     * are up to date when the changed rows are filtered whether they were notified
+     * before this or not.
+     */
+    private void updateIndexes(int type, int firstRow, int lastRow) {
+        RowFilters.updateIndexes(super.getRowFilter(), getModel(), type, firstRow, lastRow);
+    }
+
+    /**
+     * @return true if changes are processed synchronously by moving the changed rows
+     * in the view order.
+     */
+    private boolean isSortIncremental() {
+        return sortExecutor == null && !notifying && getModelWrapper() instanceof DefaultSortController.SortKeyModelWrapper;
+    }
+
+    /**
+     * Returns a boolean indicating whether super would sort all rows for a change
+     * of the given rows.
+     */
+    private boolean isLargeChange(int firstRow, int endRow) {
+        return endRow - firstRow > getModelRowCount() / 10;
+    }
+
+    /**
+     * Moves the changed rows of the view order to their sorted position, merging
+     * them into the others. If rows were updated without sorting before, all rows
+     * are filtered and sorted again, as super does.
+     *
+     * @param firstRow the first changed row
+     * @param endRow   the last changed row
+     */
+    private void reorderRows(int firstRow, int endRow) {
+        if (unsortedRows) {
+            viewOrder = createSnapshot(getSortKeys(), false).compute();
+            unsortedRows = false;
+        } else {
+            viewOrder.moveRows(firstRow, endRow, new RowComparator());
+        }
     }
 
+    //------------------ keep precomputed keys and view order in synch: the cached
+    // comparators of super require the keys after sorting with them. While the
+    // view order is installed, super isn't notified, its mapping is reset.
+
     @Override
     public void rowsDeleted(int firstRow, int endRow) {
-        cachedModelRowCount = getModelWrapper().getRowCount();
-        super.rowsDeleted(firstRow, endRow);
+        updateIndexes(TableModelEvent.DELETE, firstRow, endRow);
+        // the order of the remaining rows is unchanged
+        boolean resort = cancelPendingSort();
+        if (prepareViewOrder(firstRow, endRow, false)) {
+            int[] lastViewToModel = viewOrder.getViewToModel();
+            viewOrder.rowsDeleted(firstRow, endRow);
+            cachedModelRowCount = getModelWrapper().getRowCount();
+            if (unsortedRows && sortExecutor == null) {
+                reorderRows(0, -1);
+            }
+            fireRowSorterChanged(lastViewToModel);
+        } else {
+            cachedModelRowCount = getModelWrapper().getRowCount();
+            if (collationKeys != null) {
+                collationKeys.rowsDeleted(getSortKeyModelWrapper().wrapper, firstRow, endRow);
+            }
+            runNotification(() -> runWithCollationKeys(() -> super.rowsDeleted(firstRow, endRow)));
+            // super sorts all rows if unsorted
+            unsortedRows = false;
+        }
+        if (resort || unsortedRows && sortExecutor != null) {
+            submitSort();
+        }
     }
 
     @Override
     public void rowsInserted(int firstRow, int endRow) {
+        updateIndexes(TableModelEvent.INSERT, firstRow, endRow);
+        boolean resort = cancelPendingSort();
+        if (prepareViewOrder(firstRow, endRow, true)) {
+            // provisionally at the end of the view
+            int[] lastViewToModel = viewOrder.getViewToModel();
+            viewOrder.rowsInserted(firstRow, endRow, include(firstRow, endRow));
+            cachedModelRowCount = getModelWrapper().getRowCount();
+            if (sortExecutor == null) {
+                reorderRows(firstRow, endRow);
+            }
+            fireRowSorterChanged(lastViewToModel);
+            if (sortExecutor != null) {
+                submitSort();
+            }
+            return;
+        }
         cachedModelRowCount = getModelWrapper().getRowCount();
-        super.rowsInserted(firstRow, endRow);
+        if (collationKeys != null) {
+            collationKeys.rowsInserted(getSortKeyModelWrapper().wrapper, firstRow, endRow);
+        }
+        runNotification(() -> runWithCollationKeys(() -> super.rowsInserted(firstRow, endRow)));
+        // super sorts all rows if unsorted
+        unsortedRows = false;
+        if (resort) {
+            submitSort();
+        }
+    }
+
+    @Override
+    public void rowsUpdated(int firstRow, int endRow) {
+        updateIndexes(TableModelEvent.UPDATE, firstRow, endRow);
+        boolean resort = cancelPendingSort();
+        if (!getSortsOnUpdates()) {
+            // as super: the view keeps its mapping, all rows are filtered and sorted
+            // on the next change
+            if (viewOrder == null) {
+                updateSuperRows(firstRow, endRow);
+            }
+            unsortedRows = true;
+        } else if (prepareViewOrder(firstRow, endRow, true)) {
+            // provisionally at their current position
+            int[] lastViewToModel = viewOrder.getViewToModel();
+            viewOrder.rowsUpdated(firstRow, endRow, include(firstRow, endRow));
+            if (sortExecutor == null) {
+                reorderRows(firstRow, endRow);
+            }
+            fireRowSorterChanged(lastViewToModel);
+            if (sortExecutor != null) {
+                submitSort();
+            }
+            return;
+        } else {
+            updateSuperRows(firstRow, endRow);
+        }
+        if (resort) {
+            submitSort();
+        }
+    }
+
+    /**
+     * Passes updated rows to super, with the precomputed keys.
+     *
+     * @param firstRow the first updated row
+     * @param endRow   the last updated row
+     */
+    private void updateSuperRows(int firstRow, int endRow) {
+        if (collationKeys != null) {
+            collationKeys.rowsUpdated(getSortKeyModelWrapper().wrapper, firstRow, endRow);
+        }
+        runNotification(() -> runWithCollationKeys(() -> super.rowsUpdated(firstRow, endRow)));
     }
 }
@@ -53,7 +53,7 @@ public class ListSortController<M extends ListModel<?>> extends DefaultSortContr
         listModel = model;
         if (model != null)
             cachedModelRowCount = model.getSize();
-        setModelWrapper(new ListRowSorterModelWrapper());
+        setModelWrapper(createSortKeyModelWrapper(new ListRowSorterModelWrapper()));
     }
 
     /**
@@ -84,7 +84,7 @@ public class ListSortController<M extends ListModel<?>> extends DefaultSortContr
 
         @Override
         public String getStringValueAt(int row, int column) {
-            return getStringValueProvider().getStringValue(row, column).getString(getValueAt(row, column));
+            return getStringValueProvider().getString(row, column, getValueAt(row, column));
         }
 
         @Override
@@ -0,0 +1,425 @@
+package org.jdesktop.swingx.sort;
+
+import org.jdesktop.swingx.renderer.StringValues;
+import org.jdesktop.swingx.table.PagedTableModel;
+import org.jdesktop.swingx.util.Contract;
+
+import javax.swing.RowFilter;
+import javax.swing.RowSorter;
+import javax.swing.SortOrder;
+import javax.swing.table.TableModel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * SortController of a {@link PagedTableModel}. Sorting and filtering are not done by
+ * the sorter but by the model's source: the sort keys and the row filter are passed
+ * to {@link PagedTableModel#setQuery(List, RowFilter)}, which re-fetches the rows in
+ * the new order. The view maps rows one to one to the model.
+ * <p>
+ * The sorter never reads the model's values, so it doesn't fetch pages. As a
+ * consequence, comparators and string values are stored for the api's sake but are
+ * not used, the source decides how to compare. The row filter is evaluated by the source.
+ */
+public class PagedSortController extends RowSorter<TableModel> implements SortController<TableModel> {
+
+    private static final SortOrder[] DEFAULT_CYCLE = {SortOrder.ASCENDING, SortOrder.DESCENDING};
+
+    private static final StringValueProvider DEFAULT_PROVIDER = (row, column) -> StringValues.TO_STRING;
+
+    private final PagedTableModel model;
+
+    private List<SortKey> sortKeys;
+
+    private RowFilter<? super TableModel, ? super Integer> rowFilter;
+
+    private List<SortOrder> sortCycle = Arrays.asList(DEFAULT_CYCLE);
+
+    private int maxSortKeys = 3;
+
+    private boolean sortable = true;
+
+    private final Set<Integer> unsortableColumns = new HashSet<>();
+
+    private final Map<Integer, Comparator<?>> comparators = new HashMap<>();
+
+    private boolean sortsOnUpdates = true;
+
+    private StringValueProvider stringValueProvider;
+
+    /**
+     * Creates a sorter of the given model, starting with the model's query.
+     *
+     * @param model the model to sort, must not be null
+     */
+    public PagedSortController(PagedTableModel model) {
+        this.model = Contract.asNotNull(model, "model must not be null");
+        this.sortKeys = model.getSortKeys();
+        this.rowFilter = model.getRowFilter();
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     */
+    @Override
+    public TableModel getModel() {
+        return model;
+    }
+
+    //------------------ sort keys and filter
+
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Implemented to pass the keys to the model's query.
+     */
+    @Override
+    public void setSortKeys(List<? extends SortKey> keys) {
+        List<SortKey> old = sortKeys;
+        if (keys != null && !keys.isEmpty()) {
+            int columnCount = model.getColumnCount();
+            for (SortKey key : keys) {
+                if (key == null || key.getColumn() < 0 || key.getColumn() >= columnCount)
+                    throw new IllegalArgumentException("Invalid SortKey");
+            }
+            sortKeys = Collections.unmodifiableList(new ArrayList<>(keys));
+        } else {
+            sortKeys = Collections.emptyList();
+        }
+        if (sortKeys.equals(old))
+            return;
+        fireSortOrderChanged();
+        model.setQuery(sortKeys, rowFilter);
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     */
+    @Override
+    public List<? extends SortKey> getSortKeys() {
+        return sortKeys;
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Implemented to pass the filter to the model's query. The filter is evaluated
+     * by the model's source, the entries it passes need not be of the model.
+     */
+    @Override
+    public void setRowFilter(RowFilter<? super TableModel, ? super Integer> filter) {
+        rowFilter = filter;
+        model.setQuery(sortKeys, filter);
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     */
+    @Override
+    public RowFilter<? super TableModel, ? super Integer> getRowFilter() {
+        return rowFilter;
+    }
+
+    /**
+     * Sets the maximum number of sort keys kept by toggling. The default value is 3.
+     *
+     * @param max the maximum number of sort keys
+     * @throws IllegalArgumentException if max is less than 1
+     */
+    public void setMaxSortKeys(int max) {
+        if (max < 1)
+            throw new IllegalArgumentException("max must be >= 1 but was: " + max);
+        maxSortKeys = max;
+    }
+
+    /**
+     * @return the maximum number of sort keys kept by toggling.
+     */
+    public int getMaxSortKeys() {
+        return maxSortKeys;
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Implemented like DefaultSortController: the first/next SortOrder is taken from
+     * the sort order cycle. Does nothing if the cycle is empty.
+     */
+    @Override
+    public void toggleSortOrder(int column) {
+        checkColumn(column);
+        if (!isSortable(column))
+            return;
+        SortOrder firstInCycle = getFirstInCycle();
+        // nothing to toggle through
+        if (firstInCycle == null)
+            return;
+        List<SortKey> keys = new ArrayList<>(getSortKeys());
+        SortKey sortKey = SortUtils.getFirstSortKeyForColumn(keys, column);
+        if (keys.indexOf(sortKey) == 0) {
+            keys.set(0, new SortKey(column, getNextInCycle(sortKey.getSortOrder())));
+        } else {
+            keys.remove(sortKey);
+            keys.add(0, new SortKey(column, firstInCycle));
+        }
+        if (keys.size() > getMaxSortKeys()) {
+            keys = keys.subList(0, getMaxSortKeys());
+        }
+        setSortKeys(keys);
+    }
+
+    private SortOrder getNextInCycle(SortOrder current) {
+        int pos = sortCycle.indexOf(current);
+        if (pos < 0)
+            return getFirstInCycle();
+        pos++;
+        if (pos >= sortCycle.size()) {
+            pos = 0;
+        }
+        return sortCycle.get(pos);
+    }
+
+    private SortOrder getFirstInCycle() {
+        return sortCycle.size() > 0 ? sortCycle.get(0) : null;
+    }
+
+    private void checkColumn(int column) {
+        if (column < 0 || column >= model.getColumnCount()) {
+            throw new IndexOutOfBoundsException("column beyond range of TableModel");
+        }
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     */
+    @Override
+    public void setSortOrder(int column, SortOrder sortOrder) {
+        if (!isSortable(column))
+            return;
+        List<SortKey> keys = new ArrayList<>(getSortKeys());
+        SortUtils.removeFirstSortKeyForColumn(keys, column);
+        keys.add(0, new SortKey(column, sortOrder));
+        setSortKeys(keys);
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     */
+    @Override
+    public SortOrder getSortOrder(int column) {
+        SortKey key = SortUtils.getFirstSortKeyForColumn(getSortKeys(), column);
+        return key != null ? key.getSortOrder() : SortOrder.UNSORTED;
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     */
+    @Override
+    public void resetSortOrders() {
+        if (!isSortable())
+            return;
+        List<SortKey> keys = new ArrayList<>(getSortKeys());
+        keys.removeIf(key -> isSortable(key.getColumn()));
+        setSortKeys(keys);
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     */
+    @Override
+    public SortOrder[] getSortOrderCycle() {
+        return sortCycle.toArray(new SortOrder[0]);
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     */
+    @Override
+    public void setSortOrderCycle(SortOrder... cycle) {
+        Contract.asNotNull(cycle, "Elements of SortOrderCycle must not be null");
+        sortCycle = Arrays.asList(cycle);
+    }
+
+    //------------------ properties
+
+    /**
+     * {@inheritDoc} <p>
+     */
+    @Override
+    public void setSortable(boolean sortable) {
+        this.sortable = sortable;
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     */
+    @Override
+    public boolean isSortable() {
+        return sortable;
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     */
+    @Override
+    public void setSortable(int column, boolean sortable) {
+        checkColumn(column);
+        if (sortable) {
+            unsortableColumns.remove(column);
+        } else {
+            unsortableColumns.add(column);
+        }
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     */
+    @Override
+    public boolean isSortable(int column) {
+        checkColumn(column);
+        return isSortable() && !unsortableColumns.contains(column);
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Note: the comparator is stored only, the source compares the values.
+     */
+    @Override
+    public void setComparator(int column, Comparator<?> comparator) {
+        checkColumn(column);
+        if (comparator != null) {
+            comparators.put(column, comparator);
+        } else {
+            comparators.remove(column);
+        }
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Note: the comparator is stored only, the source compares the values.
+     */
+    @Override
+    public Comparator<?> getComparator(int column) {
+        checkColumn(column);
+        return comparators.get(column);
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Note: the source orders the rows as of the last query, updates don't re-query.
+     */
+    @Override
+    public void setSortsOnUpdates(boolean sortsOnUpdates) {
+        this.sortsOnUpdates = sortsOnUpdates;
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     */
+    @Override
+    public boolean getSortsOnUpdates() {
+        return sortsOnUpdates;
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     */
+    @Override
+    public void setStringValueProvider(StringValueProvider provider) {
+        this.stringValueProvider = provider;
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     */
+    @Override
+    public StringValueProvider getStringValueProvider() {
+        if (stringValueProvider == null) {
+            stringValueProvider = DEFAULT_PROVIDER;
+        }
+        return stringValueProvider;
+    }
+
+    //------------------ mapping
+
+    /**
+     * {@inheritDoc} <p>
+     */
+    @Override
+    public int convertRowIndexToModel(int index) {
+        checkRow(index);
+        return index;
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     */
+    @Override
+    public int convertRowIndexToView(int index) {
+        checkRow(index);
+        return index;
+    }
+
+    private void checkRow(int index) {
+        if (index < 0 || index >= model.getRowCount())
+            throw new IndexOutOfBoundsException("Invalid index");
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     */
+    @Override
+    public int getViewRowCount() {
+        return model.getRowCount();
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     */
+    @Override
+    public int getModelRowCount() {
+        return model.getRowCount();
+    }
+
+    //------------------ notifications: the view maps one to one, nothing to update
+
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Implemented to reset the sort keys, as DefaultRowSorter does.
+     */
+    @Override
+    public void modelStructureChanged() {
+        setSortKeys(null);
+    }
+
+    @Override
+    public void allRowsChanged() {
+    }
+
+    @Override
+    public void rowsInserted(int firstRow, int endRow) {
+    }
+
+    @Override
+    public void rowsDeleted(int firstRow, int endRow) {
+    }
+
+    @Override
+    public void rowsUpdated(int firstRow, int endRow) {
+    }
+
+    @Override
+    public void rowsUpdated(int firstRow, int endRow, int column) {
+    }
+}
@@ -24,6 +24,13 @@ package org.jdesktop.swingx.sort;
 import org.jdesktop.swingx.util.Contract;
 
 import javax.swing.RowFilter;
+import javax.swing.SwingUtilities;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -132,10 +139,234 @@ public class RowFilters {
         return (RowFilter<M, I>) new RegexFilter(pattern, indices);
     }
 
+    /**
+     * Returns a <code>RowFilter</code> that includes entries with at least one
+     * value containing the given text. The returned filter narrows a filter
+     * returned by this method for a part of the text with the same indices,
+     * so typing the text character by character re-tests only the entries
+     * included before.
+     *
+     * @param text    the text to search, must not be null
+     * @param indices the indices of the values to check.  If not supplied all
+     *                values are evaluated
+     * @return a <code>RowFilter</code> implementing the specified criteria
+     * @throws NullPointerException     if <code>text</code> is
+     *                                  <code>null</code>
+     * @throws IllegalArgumentException if any of the <code>indices</code>
+     *                                  are &lt; 0
+     * @see Narrowing
+     */
+    public static <M, I> RowFilter<M, I> containsFilter(String text, int... indices) {
+        return containsFilter(false, text, indices);
+    }
+
+    /**
+     * Returns a <code>RowFilter</code> that includes entries with at least one
+     * value containing the given text, optionally ignoring case as by
+     * {@link String#regionMatches(boolean, int, String, int, int)}.
+     *
+     * @param ignoreCase true to ignore case, false to compare exactly
+     * @param text       the text to search, must not be null
+     * @param indices    the indices of the values to check.  If not supplied all
+     *                   values are evaluated
+     * @return a <code>RowFilter</code> implementing the specified criteria
+     * @throws NullPointerException     if <code>text</code> is
+     *                                  <code>null</code>
+     * @throws IllegalArgumentException if any of the <code>indices</code>
+     *                                  are &lt; 0
+     * @see #containsFilter(String, int...)
+     */
+    public static <M, I> RowFilter<M, I> containsFilter(boolean ignoreCase, String text, int... indices) {
+        return (RowFilter<M, I>) new ContainsFilter(ignoreCase, text, indices);
+    }
+
+    /**
+     * Returns a <code>RowFilter</code> that includes entries included by all
+     * of the given filters. Unlike the core andFilter, the returned filter
+     * narrows any filter whose terms are all contained in or narrowed by its
+     * terms, so adding a term re-tests only the entries included before.
+     *
+     * @param filters the filters to combine, must not be null nor contain null
+     * @return a <code>RowFilter</code> implementing the specified criteria
+     * @throws NullPointerException if <code>filters</code> is or contains
+     *                              <code>null</code>
+     * @see #andFilter(Iterable)
+     * @see Narrowing
+     */
+    @SafeVarargs
+    public static <M, I> RowFilter<M, I> andFilter(RowFilter<? super M, ? super I>... filters) {
+        // copied element-wise, the array itself must not escape
+        List<RowFilter<? super M, ? super I>> copy = new ArrayList<>(filters.length);
+        for (RowFilter<? super M, ? super I> filter : filters) {
+            copy.add(filter);
+        }
+        return andFilter(copy);
+    }
+
+    /**
+     * Returns a <code>RowFilter</code> that includes entries included by all
+     * of the given filters. Unlike the core andFilter, the returned filter
+     * narrows any filter whose terms are all contained in or narrowed by its
+     * terms. The filters are copied, later changes of the <code>Iterable</code>
+     * have no effect on the returned filter.
+     *
+     * @param filters the filters to combine, must not be null nor contain null
+     * @return a <code>RowFilter</code> implementing the specified criteria
+     * @throws NullPointerException if <code>filters</code> is or contains
+     *                              <code>null</code>
+     * @see Narrowing
+     */
+    public static <M, I> RowFilter<M, I> andFilter(Iterable<? extends RowFilter<? super M, ? super I>> filters) {
+        List<RowFilter<?, ?>> copy = new ArrayList<>();
+        for (RowFilter<?, ?> filter : Contract.asNotNull(filters, "filters must not be null or contain null")) {
+            copy.add(Contract.asNotNull(filter, "filters must not be null or contain null"));
+        }
+        RowFilter<?, ?>[] terms = copy.toArray(new RowFilter<?, ?>[0]);
+        for (RowFilter<?, ?> term : terms) {
+            if (!(term instanceof ThreadSafe))
+                return (RowFilter<M, I>) new AndFilter(terms);
+        }
+        return (RowFilter<M, I>) new ThreadSafeAndFilter(terms);
+    }
+
+    /**
+     * Returns a <code>RowFilter</code> that includes the entries whose value in the
+     * indexed column has the given key. The rows are looked up in the index.
+     *
+     * @param index the index of the column to check, must not be null
+     * @param key   the key to include
+     * @return a <code>RowFilter</code> implementing the specified criteria
+     * @throws NullPointerException if <code>index</code> or <code>key</code> is
+     *                              <code>null</code>
+     * @see ColumnValueIndex
+     */
+    public static <M> RowFilter<M, Integer> equalsFilter(ColumnValueIndex index, String key) {
+        return inFilter(index, key);
+    }
+
+    /**
+     * Returns a <code>RowFilter</code> that includes the entries whose value in the
+     * indexed column has any of the given keys. The rows are looked up in the index.
+     *
+     * @param index the index of the column to check, must not be null
+     * @param keys  the keys to include
+     * @return a <code>RowFilter</code> implementing the specified criteria
+     * @throws NullPointerException if <code>index</code> or <code>keys</code> is
+     *                              or contains <code>null</code>
+     * @see ColumnValueIndex
+     */
+    public static <M> RowFilter<M, Integer> inFilter(ColumnValueIndex index, String... keys) {
+        Contract.asNotNull(keys, "keys must not be null or contain null");
+        return (RowFilter<M, Integer>) new InFilter(index, new HashSet<>(Arrays.asList(keys)));
+    }
+
+    /**
+     * Returns a <code>RowFilter</code> that includes the entries whose value in the
+     * indexed column has a key starting with the given prefix. The rows are looked up
+     * in the index. The returned filter narrows a filter returned by this method for a
+     * part of the prefix with the same index.
+     *
+     * @param index  the index of the column to check, must not be null
+     * @param prefix the prefix of the keys to include
+     * @return a <code>RowFilter</code> implementing the specified criteria
+     * @throws NullPointerException if <code>index</code> or <code>prefix</code> is
+     *                              <code>null</code>
+     * @see ColumnValueIndex
+     */
+    public static <M> RowFilter<M, Integer> prefixFilter(ColumnValueIndex index, String prefix) {
+        return (RowFilter<M, Integer>) new PrefixFilter(index, Contract.asNotNull(prefix, "prefix must not be null"));
+    }
+
+    /**
+     * Passes a change of the rows of the given model to the indexes of that model read
+     * by the given filter, before the filter is evaluated for the changed rows. Indexes
+     * already notified of the change by the model ignore it.
+     *
+     * @param filter   the row filter, may be null
+     * @param model    the changed model
+     * @param type     the type of the change, one of the TableModelEvent types
+     * @param firstRow the first changed row
+     * @param lastRow  the last changed row, <code>Integer.MAX_VALUE</code> if all rows
+     *                 changed
+     */
+    static void updateIndexes(RowFilter<?, ?> filter, Object model, int type, int firstRow, int lastRow) {
+        if (filter instanceof AndFilter) {
+            for (RowFilter<?, ?> term : ((AndFilter) filter).terms) {
+                updateIndexes(term, model, type, firstRow, lastRow);
+            }
+        } else if (filter instanceof IndexedFilter) {
+            ColumnValueIndex index = ((IndexedFilter) filter).getIndex();
+            if (index.getModel() == model) {
+                index.sorterChanged(type, firstRow, lastRow);
+            }
+        }
+    }
+
+    /**
+     * Implemented by <code>RowFilter</code>s which can tell if they are a refinement of
+     * another filter. A DefaultSortController re-tests only the entries included
+     * by the previous filter if the new filter narrows it.
+     */
+    public interface Narrowing {
+
+        /**
+         * Returns a boolean indicating whether this filter narrows the given filter,
+         * that is includes no entry the given filter excludes. Implementations must
+         * return false if not sure.
+         *
+         * @param filter the filter to compare to
+         * @return true if this filter includes a subset of the entries the given
+         * filter includes, false otherwise
+         */
+        boolean narrows(RowFilter<?, ?> filter);
+    }
+
+    /**
+     * Marker for <code>RowFilter</code>s which may be evaluated concurrently for different
+     * entries. A DefaultSortController with a sort pool evaluates such filters over chunks of
+     * rows in parallel.
+     *
+     * @see DefaultSortController#setSortPool(java.util.concurrent.ForkJoinPool)
+     */
+    public interface ThreadSafe {
+    }
+
+    /**
+     * Implemented by <code>RowFilter</code>s which read the values of some columns only.
+     * A DefaultSortController which filters off the EDT takes a snapshot of the columns
+     * read only, instead of all columns.
+     *
+     * @see DefaultSortController#setSortExecutor(java.util.concurrent.Executor)
+     */
+    public interface ColumnAware {
+
+        /**
+         * Returns a boolean indicating whether this filter reads the value or the string
+         * value of the given column of an entry. Implementations must return true if not
+         * sure.
+         *
+         * @param column the column in model coordinates
+         * @return true if the filter might read the column, false otherwise
+         */
+        boolean readsColumn(int column);
+    }
+
+    /**
+     * Returns a boolean indicating whether the given filter might read the given column.
+     *
+     * @param filter the filter, must not be null
+     * @param column the column in model coordinates
+     * @return false if the filter is known not to read the column, true otherwise
+     * @see ColumnAware
+     */
+    static boolean readsColumn(RowFilter<?, ?> filter, int column) {
+        return !(filter instanceof ColumnAware) || ((ColumnAware) filter).readsColumn(column);
+    }
+
     /**
      * C&amp;P from core Swing to allow subclassing.
      */
-    public abstract static class GeneralFilter extends RowFilter<Object, Object> {
+    public abstract static class GeneralFilter extends RowFilter<Object, Object> implements ColumnAware {
 
         private final int[] columns;
 
@@ -168,6 +399,22 @@ public class RowFilters {
 
         protected abstract boolean include(Entry<?, ?> value, int index);
 
+        /**
+         * {@inheritDoc} <p>
+         * <p>
+         * Implemented to return true for the columns given on creation, all if none.
+         */
+        @Override
+        public boolean readsColumn(int column) {
+            if (columns.length == 0)
+                return true;
+            for (int index : columns) {
+                if (index == column)
+                    return true;
+            }
+            return false;
+        }
+
         /**
          * Throws an IllegalArgumentException if any of the values in
          * columns are &lt; 0.
@@ -184,9 +431,9 @@ public class RowFilters {
     /**
      * C&P from core to allow richer factory methods.
      */
-    private static class RegexFilter extends GeneralFilter {
+    private static class RegexFilter extends GeneralFilter implements ThreadSafe {
 
-        private final Matcher matcher;
+        private final ThreadLocal<Matcher> matcher;
 
         RegexFilter(Pattern regex, int[] columns) {
             super(columns);
@@ -194,16 +441,289 @@ public class RowFilters {
                 // JW: Exception type changed to comply with swingx convention
                 Contract.asNotNull(regex, "Pattern must be non-null");
             }
-            matcher = regex.matcher("");
+            // a Matcher per thread: the Pattern is thread-safe, its Matchers are not
+            matcher = ThreadLocal.withInitial(() -> regex.matcher(""));
         }
 
         @Override
         protected boolean include(Entry<?, ?> value, int index) {
+            Matcher matcher = this.matcher.get();
             matcher.reset(value.getStringValue(index));
             return matcher.find();
         }
     }
 
+    /**
+     * Filter to include entries containing a text.
+     */
+    private static class ContainsFilter extends GeneralFilter implements ThreadSafe, Narrowing {
+
+        private final boolean ignoreCase;
+        private final String text;
+        private final int[] columns;
+
+        ContainsFilter(boolean ignoreCase, String text, int[] columns) {
+            super(columns);
+            this.ignoreCase = ignoreCase;
+            this.text = Contract.asNotNull(text, "text must not be null");
+            this.columns = columns.clone();
+        }
+
+        @Override
+        protected boolean include(Entry<?, ?> value, int index) {
+            String string = value.getStringValue(index);
+            return string != null && contains(string, text);
+        }
+
+        private boolean contains(String string, String part) {
+            if (!ignoreCase)
+                return string.contains(part);
+            for (int i = 0; i <= string.length() - part.length(); i++) {
+                if (string.regionMatches(true, i, part, 0, part.length()))
+                    return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean narrows(RowFilter<?, ?> filter) {
+            if (!(filter instanceof ContainsFilter))
+                return false;
+            ContainsFilter other = (ContainsFilter) filter;
+            // a value containing our text contains each part of it
+            return ignoreCase == other.ignoreCase && Arrays.equals(columns, other.columns)
+                && contains(text, other.text);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof ContainsFilter))
+                return false;
+            ContainsFilter other = (ContainsFilter) obj;
+            return ignoreCase == other.ignoreCase && text.equals(other.text)
+                && Arrays.equals(columns, other.columns);
+        }
+
+        @Override
+        public int hashCode() {
+            return text.hashCode() * 31 + Arrays.hashCode(columns);
+        }
+    }
+
+    /**
+     * Filter to include entries included by all its terms.
+     */
+    private static class AndFilter extends RowFilter<Object, Object> implements Narrowing, ColumnAware {
+
+        private final RowFilter<Object, Object>[] terms;
+
+        AndFilter(RowFilter<?, ?>[] terms) {
+            this.terms = (RowFilter<Object, Object>[]) terms;
+        }
+
+        @Override
+        public boolean include(Entry<?, ?> value) {
+            for (RowFilter<Object, Object> term : terms) {
+                if (!term.include(value))
+                    return false;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean narrows(RowFilter<?, ?> filter) {
+            RowFilter<?, ?>[] others = filter instanceof AndFilter
+                ? ((AndFilter) filter).terms : new RowFilter<?, ?>[]{filter};
+            for (RowFilter<?, ?> other : others) {
+                if (!narrowsTerm(other))
+                    return false;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean readsColumn(int column) {
+            for (RowFilter<?, ?> term : terms) {
+                if (RowFilters.readsColumn(term, column))
+                    return true;
+            }
+            return false;
+        }
+
+        /**
+         * @return true if one of the terms is or narrows the given filter
+         */
+        private boolean narrowsTerm(RowFilter<?, ?> filter) {
+            for (RowFilter<?, ?> term : terms) {
+                if (term.equals(filter) || term instanceof Narrowing && ((Narrowing) term).narrows(filter))
+                    return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof AndFilter && Arrays.equals(terms, ((AndFilter) obj).terms);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(terms);
+        }
+    }
+
+    /**
+     * AndFilter with thread-safe terms only.
+     */
+    private static class ThreadSafeAndFilter extends AndFilter implements ThreadSafe {
+
+        ThreadSafeAndFilter(RowFilter<?, ?>[] terms) {
+            super(terms);
+        }
+    }
+
+    /**
+     * Base of filters which look up the included rows in a ColumnValueIndex. The rows
+     * are looked up once per modification of the index, on the EDT. Off the EDT, the
+     * rows are used only if still current, else the key of the entry is tested.
+     */
+    private abstract static class IndexedFilter extends RowFilter<Object, Integer> implements ThreadSafe, ColumnAware {
+
+        private final ColumnValueIndex index;
+        private volatile IndexedRows indexedRows;
+
+        IndexedFilter(ColumnValueIndex index) {
+            this.index = Contract.asNotNull(index, "index must not be null");
+        }
+
+        @Override
+        public boolean include(Entry<?, ? extends Integer> entry) {
+            IndexedRows rows = getIndexedRows();
+            if (rows != null)
+                return rows.bits.get(entry.getIdentifier());
+            return includeKey(index.toKey(entry.getValue(index.getColumn())));
+        }
+
+        @Override
+        public boolean readsColumn(int column) {
+            return column == index.getColumn();
+        }
+
+        private IndexedRows getIndexedRows() {
+            IndexedRows rows = indexedRows;
+            int modCount = index.getModCount();
+            if (rows != null && rows.modCount == modCount)
+                return rows;
+            if (!SwingUtilities.isEventDispatchThread())
+                return null;
+            rows = new IndexedRows(lookup(index), modCount);
+            indexedRows = rows;
+            return rows;
+        }
+
+        /**
+         * @return the bitmap of included rows, not modified afterwards
+         */
+        protected abstract BitSet lookup(ColumnValueIndex index);
+
+        /**
+         * @return true if entries with the given key are included
+         */
+        protected abstract boolean includeKey(String key);
+
+        protected ColumnValueIndex getIndex() {
+            return index;
+        }
+    }
+
+    /**
+     * The rows looked up for a modification count of the index.
+     */
+    private static class IndexedRows {
+
+        private final BitSet bits;
+        private final int modCount;
+
+        IndexedRows(BitSet bits, int modCount) {
+            this.bits = bits;
+            this.modCount = modCount;
+        }
+    }
+
+    /**
+     * Filter to include entries with any of the given keys.
+     */
+    private static class InFilter extends IndexedFilter {
+
+        private final Set<String> keys;
+
+        InFilter(ColumnValueIndex index, Set<String> keys) {
+            super(index);
+            this.keys = keys;
+        }
+
+        @Override
+        protected BitSet lookup(ColumnValueIndex index) {
+            return index.getRows(keys);
+        }
+
+        @Override
+        protected boolean includeKey(String key) {
+            return keys.contains(key);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof InFilter && getIndex() == ((InFilter) obj).getIndex()
+                && keys.equals(((InFilter) obj).keys);
+        }
+
+        @Override
+        public int hashCode() {
+            return keys.hashCode();
+        }
+    }
+
+    /**
+     * Filter to include entries with keys starting with the given prefix.
+     */
+    private static class PrefixFilter extends IndexedFilter implements Narrowing {
+
+        private final String prefix;
+
+        PrefixFilter(ColumnValueIndex index, String prefix) {
+            super(index);
+            this.prefix = prefix;
+        }
+
+        @Override
+        protected BitSet lookup(ColumnValueIndex index) {
+            return index.getRowsWithPrefix(prefix);
+        }
+
+        @Override
+        protected boolean includeKey(String key) {
+            return key.startsWith(prefix);
+        }
+
+        @Override
+        public boolean narrows(RowFilter<?, ?> filter) {
+            return filter instanceof PrefixFilter && getIndex() == ((PrefixFilter) filter).getIndex()
+                && prefix.startsWith(((PrefixFilter) filter).prefix);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof PrefixFilter && getIndex() == ((PrefixFilter) obj).getIndex()
+                && prefix.equals(((PrefixFilter) obj).prefix);
+        }
+
+        @Override
+        public int hashCode() {
+            return prefix.hashCode();
+        }
+    }
+
     private RowFilters() {
     }
 }
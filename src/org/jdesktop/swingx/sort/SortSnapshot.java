@@ -0,0 +1,456 @@
+package org.jdesktop.swingx.sort;
+
+import org.jdesktop.swingx.renderer.StringValue;
+import org.jdesktop.swingx.renderer.StringValues;
+
+import javax.swing.RowFilter;
+import javax.swing.RowSorter.SortKey;
+import javax.swing.SortOrder;
+import java.text.Collator;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * The state needed to sort and filter the rows of a <code>DefaultSortController</code>
+ * off the EDT. It is created on the EDT and contains everything the background
+ * computation accesses: the values to compare in the sort columns, the comparators and,
+ * if filtered, the row filter with the values and strings of the columns it reads.
+ * The strings are either converted on the EDT or, if the EDT waits for the computation,
+ * converted lazily by the StringValues of the columns, synchronized on them.
+ * <p>
+ * The computation mirrors DefaultRowSorter: nulls are ordered before other values,
+ * a column sorted descending reverses the comparison, an unsorted column and ties are
+ * decided by model index. Collator comparisons are replaced by comparing CollationKeys.
+ * The values of primitive columns compared by their natural order are compared
+ * as primitives, without boxing.
+ * <p>
+ * If given a ForkJoinPool, models with at least the parallel threshold of rows are
+ * processed in chunks of rows on the pool: the filter, if thread-safe, the CollationKeys and the sort, which is stable.
+ * As ties are decided by model index, the result is the same as sequentially.
+ *
+ * @see DefaultSortController#setSortExecutor(java.util.concurrent.Executor)
+ */
+final class SortSnapshot<M> {
+
+    private static final int MIN_CHUNK_SIZE = 1024;
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    private final int rowCount;
+    private final SortKey[] sortKeys;
+    private final Object[][] sortValues;
+    private final long[][] longValues;
+    private final double[][] doubleValues;
+    private final Comparator<?>[] comparators;
+    private final RowFilter<? super M, ? super Integer> filter;
+    private final M model;
+    private final Object[][] values;
+    private final String[][] strings;
+
+    private StringValue[] converters;
+    private boolean[] included;
+    private ForkJoinPool pool;
+    private int parallelThreshold;
+    private boolean parallelFilter;
+
+    private volatile boolean cancelled;
+
+    /**
+     * @param rowCount    the number of model rows
+     * @param sortKeys    the sort keys
+     * @param sortValues  the values to compare per sort key, null for unsorted keys
+     * @param comparators the comparator per sort key
+     * @param filter      the row filter, may be null
+     * @param model       the model, passed to the filter
+     * @param values      the values per column and row, only used if filtered; null for
+     *                    the columns not read by the filter
+     * @param strings     the strings per column and row, only used if filtered; null for
+     *                    the columns not read by the filter or converted lazily
+     */
+    SortSnapshot(int rowCount, SortKey[] sortKeys, Object[][] sortValues, Comparator<?>[] comparators,
+                 RowFilter<? super M, ? super Integer> filter, M model, Object[][] values, String[][] strings) {
+        this.rowCount = rowCount;
+        this.sortKeys = sortKeys;
+        this.sortValues = sortValues;
+        this.longValues = new long[sortKeys.length][];
+        this.doubleValues = new double[sortKeys.length][];
+        this.comparators = comparators;
+        this.filter = filter;
+        this.model = model;
+        this.values = values;
+        this.strings = strings;
+    }
+
+    /**
+     * Sets the values to compare for the given sort key, of a column of type int or
+     * long compared by natural order.
+     *
+     * @param key    the index of the sort key
+     * @param values the values per row
+     */
+    void setSortValues(int key, long[] values) {
+        longValues[key] = values;
+    }
+
+    /**
+     * Sets the values to compare for the given sort key, of a column of type double
+     * compared by natural order.
+     *
+     * @param key    the index of the sort key
+     * @param values the values per row
+     */
+    void setSortValues(int key, double[] values) {
+        doubleValues[key] = values;
+    }
+
+    /**
+     * Sets the StringValues to convert the strings of the columns read by the filter
+     * lazily, off the EDT.
+     *
+     * @param converters the StringValue per column, null for the columns not read by the
+     *                   filter or converted in advance
+     */
+    void setConverters(StringValue[] converters) {
+        this.converters = converters;
+    }
+
+    /**
+     * Sets the inclusion of rows, evaluated in advance. If not null, the filter
+     * isn't evaluated.
+     *
+     * @param included the inclusion per row, may be null
+     */
+    void setIncluded(boolean[] included) {
+        this.included = included;
+    }
+
+    /**
+     * Sets the pool to process models with at least the given number of rows.
+     *
+     * @param pool              the pool to process in parallel, null for sequential
+     * @param parallelThreshold the minimal number of rows to process in parallel
+     * @param parallelFilter    true if the filter may be evaluated in parallel
+     */
+    void setParallel(ForkJoinPool pool, int parallelThreshold, boolean parallelFilter) {
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
+        this.parallelFilter = parallelFilter;
+    }
+
+    /**
+     * Cancels the computation. The computation stops as soon as possible.
+     */
+    void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * @return true if cancelled.
+     */
+    boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Computes the order of the view. This is meant to be called off the EDT.
+     *
+     * @return the order of the view or null if cancelled
+     */
+    ViewOrder compute() {
+        try {
+            if (included == null && filter != null) {
+                included = filter();
+            }
+            return new ViewOrder(rowCount, sort(included));
+        } catch (CancellationException e) {
+            return null;
+        }
+    }
+
+    private boolean[] filter() {
+        boolean[] included = new boolean[rowCount];
+        forEachChunk(parallelFilter, (from, to) -> {
+            SnapshotEntry entry = new SnapshotEntry();
+            for (int row = from; row < to; row++) {
+                checkCancelled();
+                entry.row = row;
+                included[row] = filter.include(entry);
+            }
+        });
+        return included;
+    }
+
+    /**
+     * Returns the included rows in view order: sorted if the primary sort key is sorted,
+     * else in model order.
+     */
+    private int[] sort(boolean[] included) {
+        int count = 0;
+        int[] rows = new int[rowCount];
+        for (int row = 0; row < rowCount; row++) {
+            if (included == null || included[row]) {
+                rows[count++] = row;
+            }
+        }
+        if (count < rowCount) {
+            rows = Arrays.copyOf(rows, count);
+        }
+        if (sortKeys.length == 0 || sortKeys[0].getSortOrder() == SortOrder.UNSORTED)
+            return rows;
+        createCollationKeys();
+        int[] buffer = new int[count];
+        if (isParallel(count)) {
+            int grain = Math.max(MIN_CHUNK_SIZE, count / (4 * pool.getParallelism()));
+            pool.invoke(new SortTask(rows, buffer, 0, count, grain));
+        } else {
+            sort(rows, buffer, 0, count);
+        }
+        return rows;
+    }
+
+    /**
+     * Replaces the strings compared by a Collator with their CollationKey.
+     */
+    private void createCollationKeys() {
+        for (int i = 0; i < sortKeys.length; i++) {
+            if (!(comparators[i] instanceof Collator) || sortValues[i] == null)
+                continue;
+            Collator shared = (Collator) comparators[i];
+            Object[] keys = sortValues[i];
+            forEachChunk(true, (from, to) -> {
+                // Collators synchronize internally
+                Collator collator = (Collator) shared.clone();
+                for (int row = from; row < to; row++) {
+                    checkCancelled();
+                    // same as super: a Collator compares Strings only
+                    keys[row] = keys[row] != null ? collator.getCollationKey((String) keys[row]) : null;
+                }
+            });
+            comparators[i] = DefaultSortController.COMPARABLE_COMPARATOR;
+        }
+    }
+
+    /**
+     * Sorts the given range of rows by merge sort, which is stable. The rows are
+     * model indices, so they are sorted without boxing.
+     *
+     * @param rows   the rows to sort
+     * @param buffer the buffer to merge into, at least as large as the range
+     * @param from   the first row, inclusive
+     * @param to     the last row, exclusive
+     */
+    private void sort(int[] rows, int[] buffer, int from, int to) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                int row = rows[i];
+                int j = i;
+                for (; j > from && compare(rows[j - 1], row) > 0; j--) {
+                    rows[j] = rows[j - 1];
+                }
+                rows[j] = row;
+            }
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        sort(rows, buffer, from, middle);
+        sort(rows, buffer, middle, to);
+        merge(rows, buffer, from, middle, to);
+    }
+
+    /**
+     * Merges the sorted ranges [from, middle) and [middle, to), taking the first
+     * range's row on ties.
+     */
+    private void merge(int[] rows, int[] buffer, int from, int middle, int to) {
+        if (compare(rows[middle - 1], rows[middle]) <= 0)
+            return;
+        int left = from;
+        int right = middle;
+        int index = from;
+        while (left < middle && right < to) {
+            buffer[index++] = compare(rows[left], rows[right]) <= 0 ? rows[left++] : rows[right++];
+        }
+        System.arraycopy(rows, left, buffer, index, middle - left);
+        index += middle - left;
+        System.arraycopy(buffer, from, rows, from, index - from);
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(int model1, int model2) {
+        checkCancelled();
+        for (int i = 0; i < sortKeys.length; i++) {
+            SortOrder sortOrder = sortKeys[i].getSortOrder();
+            int result;
+            if (sortOrder == SortOrder.UNSORTED) {
+                result = model1 - model2;
+            } else if (longValues[i] != null) {
+                result = Long.compare(longValues[i][model1], longValues[i][model2]);
+                if (sortOrder == SortOrder.DESCENDING) {
+                    result *= -1;
+                }
+            } else if (doubleValues[i] != null) {
+                result = Double.compare(doubleValues[i][model1], doubleValues[i][model2]);
+                if (sortOrder == SortOrder.DESCENDING) {
+                    result *= -1;
+                }
+            } else {
+                Object v1 = sortValues[i][model1];
+                Object v2 = sortValues[i][model2];
+                if (v1 == null) {
+                    result = v2 == null ? 0 : -1;
+                } else if (v2 == null) {
+                    result = 1;
+                } else {
+                    result = ((Comparator<Object>) comparators[i]).compare(v1, v2);
+                }
+                if (sortOrder == SortOrder.DESCENDING) {
+                    result *= -1;
+                }
+            }
+            if (result != 0)
+                return result;
+        }
+        return model1 - model2;
+    }
+
+    private void checkCancelled() {
+        if (cancelled)
+            throw new CancellationException();
+    }
+
+    private boolean isParallel(int count) {
+        return pool != null && count >= parallelThreshold;
+    }
+
+    /**
+     * Runs the given action over all rows, in chunks on the pool if allowed and
+     * the model is large enough.
+     *
+     * @param allowed true if the action may run in parallel
+     * @param action  the action to run for a range of rows
+     */
+    private void forEachChunk(boolean allowed, RangeAction action) {
+        if (!allowed || !isParallel(rowCount)) {
+            action.run(0, rowCount);
+            return;
+        }
+        int chunkSize = Math.max(MIN_CHUNK_SIZE, rowCount / (4 * pool.getParallelism()));
+        pool.invoke(new ChunkTask(action, 0, rowCount, chunkSize));
+    }
+
+    /**
+     * Action on a range of rows.
+     */
+    private interface RangeAction {
+
+        /**
+         * @param from the first row, inclusive
+         * @param to   the last row, exclusive
+         */
+        void run(int from, int to);
+    }
+
+    /**
+     * Splits a range of rows in halves down to the chunk size.
+     */
+    private static class ChunkTask extends RecursiveAction {
+
+        private final RangeAction action;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        ChunkTask(RangeAction action, int from, int to, int chunkSize) {
+            this.action = action;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                action.run(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ChunkTask(action, from, middle, chunkSize), new ChunkTask(action, middle, to, chunkSize));
+        }
+    }
+
+    /**
+     * Sorts a range of rows by sorting its halves in parallel and merging them.
+     */
+    private class SortTask extends RecursiveAction {
+
+        private final int[] rows;
+        private final int[] buffer;
+        private final int from;
+        private final int to;
+        private final int grain;
+
+        SortTask(int[] rows, int[] buffer, int from, int to, int grain) {
+            this.rows = rows;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                sort(rows, buffer, from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new SortTask(rows, buffer, from, middle, grain), new SortTask(rows, buffer, middle, to, grain));
+            merge(rows, buffer, from, middle, to);
+        }
+    }
+
+    /**
+     * Entry passed to the filter, backed by the snapshot values.
+     */
+    private class SnapshotEntry extends RowFilter.Entry<M, Integer> {
+
+        private int row;
+
+        @Override
+        public M getModel() {
+            return model;
+        }
+
+        @Override
+        public int getValueCount() {
+            return values.length;
+        }
+
+        @Override
+        public Object getValue(int index) {
+            return values[index] != null ? values[index][row] : null;
+        }
+
+        @Override
+        public String getStringValue(int index) {
+            if (strings[index] != null)
+                return strings[index][row];
+            StringValue converter = converters != null ? converters[index] : null;
+            if (converter == null)
+                return null;
+            if (converter == StringValues.TO_STRING)
+                return converter.getString(values[index][row]);
+            // StringValues aren't required to be thread-safe
+            synchronized (converter) {
+                return converter.getString(values[index][row]);
+            }
+        }
+
+        @Override
+        public Integer getIdentifier() {
+            return row;
+        }
+    }
+}
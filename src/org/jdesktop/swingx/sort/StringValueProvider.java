@@ -45,4 +45,20 @@ public interface StringValueProvider {
      * @return a StringValue to use for conversion, guaranteed to not null.
      */
     StringValue getStringValue(int row, int column);
+
+    /**
+     * Returns the string representation of the given value of the cell at row and column.
+     * <p>
+     * This implementation converts the value with the StringValue returned by
+     * getStringValue. Implementations may cache the result per cell, so the value must
+     * be the current content of the cell.
+     *
+     * @param row    the row of the cell in model coordinates
+     * @param column the column of the cell in model coordinates
+     * @param value  the content of the cell
+     * @return the string representation of the cell content
+     */
+    default String getString(int row, int column, Object value) {
+        return getStringValue(row, column).getString(value);
+    }
 }
@@ -34,6 +34,9 @@ import java.util.Map;
  * <p>
  * PENDING JW: for safety - better not implement but return a provider. We probably don't want
  * readers to frickle around here?.
+ * <p>
+ * The lookup per cell is resolved once after each change of the registry into an array
+ * of StringValues indexed by model column, so querying is an array access.
  *
  * @author Jeanette Winzenburg
  */
@@ -42,15 +45,45 @@ public final class StringValueRegistry implements StringValueProvider {
     private Map<Class<?>, StringValue> perClass;
     private HashMap<Integer, StringValue> perColumn;
     private HashMap<Integer, Class<?>> classPerColumn;
+    private CellStringCache stringCache;
+
+    /**
+     * the StringValues resolved per column, null if invalid.
+     */
+    private StringValue[] resolved;
+    /**
+     * the StringValue resolved for columns without per-column mapping or class.
+     */
+    private StringValue resolvedDefault;
 
     /**
      * {@inheritDoc} <p>
+     * <p>
+     * Implemented to look up the StringValue in the array resolved from
+     * the current mappings.
      */
     @Override
     public StringValue getStringValue(int row, int column) {
+        if (column < 0)
+            return resolveStringValue(column);
+        StringValue[] svs = getResolvedStringValues();
+        return column < svs.length ? svs[column] : resolvedDefault;
+    }
+
+    /**
+     * Returns the StringValue for the given column as defined by the
+     * mappings: the per-column StringValue if available, else the StringValue
+     * registered for the column class or its nearest superclass, else the
+     * StringValue registered for Object. Falls back to StringValues.TO_STRING
+     * if none found.
+     *
+     * @param column the column index in model coordinates.
+     * @return the StringValue to use for the given column, guaranteed to be not null.
+     */
+    private StringValue resolveStringValue(int column) {
         StringValue sv = getPerColumnMap().get(column);
         if (sv == null) {
-            sv = getStringValueByClass(getClass(row, column));
+            sv = getStringValueByClass(getClass(column));
         }
         if (sv == null) {
             sv = getStringValueByClass(Object.class);
@@ -58,6 +91,44 @@ public final class StringValueRegistry implements StringValueProvider {
         return sv != null ? sv : StringValues.TO_STRING;
     }
 
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Implemented to look up the string in the cache, if any, and store it after
+     * conversion if not found.
+     */
+    @Override
+    public String getString(int row, int column, Object value) {
+        if (stringCache == null || row < 0 || column < 0)
+            return getStringValue(row, column).getString(value);
+        String string = stringCache.getString(row, column);
+        if (string == null) {
+            string = getStringValue(row, column).getString(value);
+            stringCache.putString(row, column, string);
+        }
+        return string;
+    }
+
+    /**
+     * Sets the cache of cell strings. If not null, the owner of the registry is
+     * responsible to keep the cache in synch with the model. The registry
+     * takes care of removing strings converted by changed StringValues.
+     *
+     * @param cache the cache to use, may be null to not cache.
+     */
+    public void setStringCache(CellStringCache cache) {
+        this.stringCache = cache;
+    }
+
+    /**
+     * Returns the cache of cell strings.
+     *
+     * @return the cache of cell strings, may be null.
+     */
+    public CellStringCache getStringCache() {
+        return stringCache;
+    }
+
 //-------------------- manage     
 
     /**
@@ -69,14 +140,26 @@ public final class StringValueRegistry implements StringValueProvider {
      */
     public void setStringValue(StringValue sv, int column) {
         // PENDING really remove mapping if sv null
-        getPerColumnMap().put(column, sv);
+        StringValue old = getPerColumnMap().put(column, sv);
+        invalidateResolved();
+        if (stringCache != null && old != sv) {
+            stringCache.columnChanged(column);
+        }
     }
 
     /**
      * Removes all per-column mappings of StringValues.
      */
     public void clearColumnStringValues() {
+        if (stringCache != null) {
+            for (Map.Entry<Integer, StringValue> entry : getPerColumnMap().entrySet()) {
+                if (entry.getValue() != null) {
+                    stringCache.columnChanged(entry.getKey());
+                }
+            }
+        }
         getPerColumnMap().clear();
+        invalidateResolved();
     }
 
     /**
@@ -87,8 +170,23 @@ public final class StringValueRegistry implements StringValueProvider {
      * @param clazz the class
      */
     public void setStringValue(StringValue sv, Class<?> clazz) {
-        // PENDING really remove mapping if sv null
+        if (stringCache == null) {
+            // PENDING really remove mapping if sv null
+            getPerClassMap().put(clazz, sv);
+            invalidateResolved();
+            return;
+        }
+        StringValue[] old = new StringValue[stringCache.getColumnCount()];
+        for (int column = 0; column < old.length; column++) {
+            old[column] = getStringValue(-1, column);
+        }
         getPerClassMap().put(clazz, sv);
+        invalidateResolved();
+        for (int column = 0; column < old.length; column++) {
+            if (old[column] != getStringValue(-1, column)) {
+                stringCache.columnChanged(column);
+            }
+        }
     }
 
     /**
@@ -112,7 +210,11 @@ public final class StringValueRegistry implements StringValueProvider {
      * @param column index in model coordinates
      */
     public void setColumnClass(Class<?> clazz, int column) {
-        getColumnClassMap().put(column, clazz);
+        Class<?> old = getColumnClassMap().put(column, clazz);
+        invalidateResolved();
+        if (stringCache != null && old != clazz) {
+            stringCache.columnChanged(column);
+        }
     }
 
     /**
@@ -120,6 +222,44 @@ public final class StringValueRegistry implements StringValueProvider {
      */
     public void setColumnClasses(Map<Integer, Class<?>> classPerColumn) {
         this.classPerColumn = classPerColumn != null ? new HashMap<>(classPerColumn) : null;
+        invalidateResolved();
+        if (stringCache != null) {
+            stringCache.clear();
+        }
+    }
+
+    /**
+     * Returns the StringValues resolved per column, lazily resolves them
+     * if invalid.
+     *
+     * @return the StringValues indexed by column in model coordinates
+     */
+    private StringValue[] getResolvedStringValues() {
+        if (resolved == null) {
+            int columnCount = 0;
+            for (Integer column : getPerColumnMap().keySet()) {
+                columnCount = Math.max(columnCount, column + 1);
+            }
+            for (Integer column : getColumnClassMap().keySet()) {
+                columnCount = Math.max(columnCount, column + 1);
+            }
+            StringValue[] svs = new StringValue[columnCount];
+            for (int column = 0; column < columnCount; column++) {
+                svs[column] = resolveStringValue(column);
+            }
+            resolvedDefault = resolveStringValue(columnCount);
+            resolved = svs;
+        }
+        return resolved;
+    }
+
+    /**
+     * Marks the StringValues resolved per column as invalid. This must be called
+     * after each change of the mappings.
+     */
+    private void invalidateResolved() {
+        resolved = null;
+        resolvedDefault = null;
     }
 
     /**
@@ -138,11 +278,10 @@ public final class StringValueRegistry implements StringValueProvider {
     /**
      * Returns the Class of the column.
      *
-     * @param row
      * @param column
      * @return
      */
-    private Class<?> getClass(int row, int column) {
+    private Class<?> getClass(int column) {
         Class<?> clazz = getColumnClassMap().get(column);
         return clazz != null ? clazz : Object.class;
     }
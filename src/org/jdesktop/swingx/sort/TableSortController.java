@@ -21,6 +21,8 @@
  */
 package org.jdesktop.swingx.sort;
 
+import org.jdesktop.swingx.table.PrimitiveTableModel;
+
 import javax.swing.table.TableModel;
 import java.text.Collator;
 import java.util.Comparator;
@@ -59,7 +61,7 @@ public class TableSortController<M extends TableModel> extends DefaultSortContro
         tableModel = model;
         if (model != null)
             cachedModelRowCount = model.getRowCount();
-        setModelWrapper(new TableRowSorterModelWrapper());
+        setModelWrapper(createSortKeyModelWrapper(new TableRowSorterModelWrapper()));
     }
 
     /**
@@ -121,6 +123,33 @@ public class TableSortController<M extends TableModel> extends DefaultSortContro
         return true;
     }
 
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Overridden to return the type of the primitive columns of a PrimitiveTableModel.
+     */
+    @Override
+    protected Class<?> getPrimitiveType(int column) {
+        M model = getModel();
+        return model instanceof PrimitiveTableModel ? ((PrimitiveTableModel) model).getPrimitiveType(column) : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected long getLongAt(int row, int column) {
+        return ((PrimitiveTableModel) getModel()).getLongAt(row, column);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected double getDoubleAt(int row, int column) {
+        return ((PrimitiveTableModel) getModel()).getDoubleAt(row, column);
+    }
+
     /**
      * Implementation of DefaultRowSorter.ModelWrapper that delegates to a
      * TableModel.
@@ -149,7 +178,7 @@ public class TableSortController<M extends TableModel> extends DefaultSortContro
 
         @Override
         public String getStringValueAt(int row, int column) {
-            return getStringValueProvider().getStringValue(row, column).getString(getValueAt(row, column));
+            return getStringValueProvider().getString(row, column, getValueAt(row, column));
         }
 
         @Override
@@ -0,0 +1,313 @@
+package org.jdesktop.swingx.sort;
+
+import java.util.Arrays;
+
+/**
+ * The mapping of the view of a <code>DefaultSortController</code> which the controller
+ * computed itself, by an asynchronous, parallel or primitive sort, or took over from
+ * super to process model changes: the included model rows in view order and the view
+ * row per model row.
+ * <p>
+ * While installed, the controller converts indices with this mapping instead of super's
+ * and keeps it in synch with model changes. Changed rows are placed provisionally:
+ * inserted rows after all others, updated rows at their position, until they are moved
+ * by {@link #moveRows(int, int, RowComparator)} or the order is computed again.
+ * <p>
+ * The arrays are replaced on every change, never modified, so the previous mapping can
+ * be passed to listeners as is.
+ *
+ * @see DefaultSortController#setSortExecutor(java.util.concurrent.Executor)
+ */
+final class ViewOrder {
+
+    /**
+     * Compares model rows, the rows must not compare equal unless identical.
+     */
+    interface RowComparator {
+
+        int compare(int row1, int row2);
+    }
+
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    private int rowCount;
+    private int[] viewToModel;
+    private int[] modelToView;
+
+    /**
+     * @param rowCount    the number of model rows
+     * @param viewToModel the included model rows in view order, not copied
+     */
+    ViewOrder(int rowCount, int[] viewToModel) {
+        this.rowCount = rowCount;
+        setViewToModel(viewToModel);
+    }
+
+    /**
+     * @return the number of model rows.
+     */
+    int getModelRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return the number of included rows.
+     */
+    int getViewRowCount() {
+        return viewToModel.length;
+    }
+
+    /**
+     * @param viewIndex the row in view coordinates
+     * @return the row in model coordinates
+     */
+    int convertRowIndexToModel(int viewIndex) {
+        return viewToModel[viewIndex];
+    }
+
+    /**
+     * @param modelIndex the row in model coordinates
+     * @return the row in view coordinates, -1 if not included
+     */
+    int convertRowIndexToView(int modelIndex) {
+        return modelToView[modelIndex];
+    }
+
+    /**
+     * @param row the row in model coordinates
+     * @return true if the row is included.
+     */
+    boolean isIncluded(int row) {
+        return modelToView[row] >= 0;
+    }
+
+    /**
+     * Returns the included model rows in view order. The array must not be modified.
+     *
+     * @return the model rows in view order
+     */
+    int[] getViewToModel() {
+        return viewToModel;
+    }
+
+    /**
+     * Inserts the rows in the given range (inclusive), the included ones after all others.
+     *
+     * @param firstRow    the first row
+     * @param endRow      the last row
+     * @param newIncluded the inclusion of the inserted rows, null if all are included
+     */
+    void rowsInserted(int firstRow, int endRow, boolean[] newIncluded) {
+        if (firstRow < 0 || firstRow > rowCount || firstRow > endRow)
+            throw new IndexOutOfBoundsException("Invalid range: " + firstRow + " - " + endRow);
+        int count = endRow - firstRow + 1;
+        int added = 0;
+        for (int i = 0; i < count; i++) {
+            if (newIncluded == null || newIncluded[i]) {
+                added++;
+            }
+        }
+        int[] rows = new int[viewToModel.length + added];
+        for (int i = 0; i < viewToModel.length; i++) {
+            int row = viewToModel[i];
+            rows[i] = row >= firstRow ? row + count : row;
+        }
+        int index = viewToModel.length;
+        for (int row = firstRow; row <= endRow; row++) {
+            if (newIncluded == null || newIncluded[row - firstRow]) {
+                rows[index++] = row;
+            }
+        }
+        rowCount += count;
+        setViewToModel(rows);
+    }
+
+    /**
+     * Removes the rows in the given range (inclusive).
+     *
+     * @param firstRow the first row
+     * @param endRow   the last row
+     */
+    void rowsDeleted(int firstRow, int endRow) {
+        checkRange(firstRow, endRow, rowCount);
+        int count = endRow - firstRow + 1;
+        int removed = 0;
+        for (int row = firstRow; row <= endRow; row++) {
+            if (isIncluded(row)) {
+                removed++;
+            }
+        }
+        int[] rows = new int[viewToModel.length - removed];
+        int index = 0;
+        for (int row : viewToModel) {
+            if (row < firstRow) {
+                rows[index++] = row;
+            } else if (row > endRow) {
+                rows[index++] = row - count;
+            }
+        }
+        rowCount -= count;
+        setViewToModel(rows);
+    }
+
+    /**
+     * Updates the inclusion of the rows in the given range (inclusive). The rows
+     * still included keep their position, the newly included ones are placed after
+     * all others.
+     *
+     * @param firstRow        the first row
+     * @param endRow          the last row
+     * @param updatedIncluded the inclusion of the updated rows, null if all are included
+     */
+    void rowsUpdated(int firstRow, int endRow, boolean[] updatedIncluded) {
+        checkRange(firstRow, endRow, rowCount);
+        if (updatedIncluded == null && viewToModel.length == rowCount)
+            return;
+        int count = viewToModel.length;
+        for (int row = firstRow; row <= endRow; row++) {
+            boolean included = updatedIncluded == null || updatedIncluded[row - firstRow];
+            if (included != isIncluded(row)) {
+                count += included ? 1 : -1;
+            }
+        }
+        int[] rows = new int[count];
+        int index = 0;
+        for (int row : viewToModel) {
+            if (row < firstRow || row > endRow || updatedIncluded == null || updatedIncluded[row - firstRow]) {
+                rows[index++] = row;
+            }
+        }
+        for (int row = firstRow; row <= endRow; row++) {
+            if (!isIncluded(row) && (updatedIncluded == null || updatedIncluded[row - firstRow])) {
+                rows[index++] = row;
+            }
+        }
+        setViewToModel(rows);
+    }
+
+    /**
+     * Moves the included rows in the given range (inclusive) to their sorted position
+     * among the others, which must be sorted. The moved rows are sorted and merged
+     * into the others, few rows at their binary-searched position.
+     *
+     * @param firstRow   the first row
+     * @param endRow     the last row
+     * @param comparator the comparator of the rows
+     */
+    void moveRows(int firstRow, int endRow, RowComparator comparator) {
+        int movedCount = 0;
+        for (int row = Math.max(firstRow, 0); row <= endRow && row < rowCount; row++) {
+            if (isIncluded(row)) {
+                movedCount++;
+            }
+        }
+        if (movedCount == 0)
+            return;
+        int[] moved = new int[movedCount];
+        int[] others = new int[viewToModel.length - movedCount];
+        int movedIndex = 0;
+        int otherIndex = 0;
+        for (int row : viewToModel) {
+            if (row >= firstRow && row <= endRow) {
+                moved[movedIndex++] = row;
+            } else {
+                others[otherIndex++] = row;
+            }
+        }
+        sort(moved, new int[moved.length], 0, moved.length, comparator);
+        int[] rows = new int[viewToModel.length];
+        int log = 32 - Integer.numberOfLeadingZeros(others.length);
+        if ((long) movedCount * log < others.length) {
+            // moved rows go before the first of the others comparing greater
+            int from = 0;
+            int index = 0;
+            for (int row : moved) {
+                int to = insertionPoint(others, from, row, comparator);
+                System.arraycopy(others, from, rows, index, to - from);
+                index += to - from;
+                rows[index++] = row;
+                from = to;
+            }
+            System.arraycopy(others, from, rows, index, others.length - from);
+        } else {
+            merge(moved, others, rows, comparator);
+        }
+        setViewToModel(rows);
+    }
+
+    private void setViewToModel(int[] viewToModel) {
+        this.viewToModel = viewToModel;
+        modelToView = new int[rowCount];
+        Arrays.fill(modelToView, -1);
+        for (int i = 0; i < viewToModel.length; i++) {
+            modelToView[viewToModel[i]] = i;
+        }
+    }
+
+    /**
+     * Stable merge sort of the given range, skipping the merge of runs already in order.
+     */
+    private static void sort(int[] rows, int[] buffer, int from, int to, RowComparator comparator) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                int row = rows[i];
+                int j = i;
+                for (; j > from && comparator.compare(rows[j - 1], row) > 0; j--) {
+                    rows[j] = rows[j - 1];
+                }
+                rows[j] = row;
+            }
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        sort(rows, buffer, from, middle, comparator);
+        sort(rows, buffer, middle, to, comparator);
+        if (comparator.compare(rows[middle - 1], rows[middle]) <= 0)
+            return;
+        System.arraycopy(rows, from, buffer, from, middle - from);
+        int left = from;
+        int right = middle;
+        int index = from;
+        while (left < middle && right < to) {
+            rows[index++] = comparator.compare(rows[right], buffer[left]) < 0 ? rows[right++] : buffer[left++];
+        }
+        System.arraycopy(buffer, left, rows, index, middle - left);
+    }
+
+    /**
+     * Merges the given sorted rows into the target, the others first if equal.
+     */
+    private static void merge(int[] moved, int[] others, int[] rows, RowComparator comparator) {
+        int left = 0;
+        int right = 0;
+        int index = 0;
+        while (left < others.length && right < moved.length) {
+            rows[index++] = comparator.compare(moved[right], others[left]) < 0 ? moved[right++] : others[left++];
+        }
+        System.arraycopy(others, left, rows, index, others.length - left);
+        System.arraycopy(moved, right, rows, index, moved.length - right);
+    }
+
+    /**
+     * Returns the index of the first of the given sorted rows which compares greater
+     * than the given row, searching from the given index.
+     */
+    private static int insertionPoint(int[] rows, int from, int row, RowComparator comparator) {
+        int low = from;
+        int high = rows.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(rows[middle], row) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    private static void checkRange(int firstRow, int endRow, int rowCount) {
+        if (firstRow < 0 || firstRow > endRow || endRow >= rowCount)
+            throw new IndexOutOfBoundsException("Invalid range: " + firstRow + " - " + endRow);
+    }
+}
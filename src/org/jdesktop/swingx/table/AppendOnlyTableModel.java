@@ -0,0 +1,407 @@
+package org.jdesktop.swingx.table;
+
+import org.jdesktop.swingx.util.Contract;
+
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import javax.swing.table.AbstractTableModel;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Append-only <code>TableModel</code> for producers on any thread, like log or trade
+ * feeds. Producers append rows without locking, the rows become visible on the EDT
+ * in batches, about once per frame, with a single <code>fireTableRowsInserted</code>.
+ * <p>
+ * The rows are stored in chunks which are allocated as needed and never copied.
+ * Optionally, the model keeps only the most recent rows up to a capacity (ring mode):
+ * the oldest rows are evicted with a <code>fireTableRowsDeleted</code> when publishing
+ * newer rows. Evicted and cleared rows are released, with their chunks. In ring mode, producers running ahead of the EDT by more than the capacity
+ * overwrite rows not yet evicted, which read as null.
+ * <p>
+ * The values of a row are stored as given and must not be modified after appending.
+ * All methods of the TableModel interface are meant to be called on the EDT, the
+ * append methods may be called on any thread.
+ */
+public class AppendOnlyTableModel extends AbstractTableModel {
+
+    /**
+     * the default delay of publishing appended rows in milliseconds, about a frame.
+     */
+    public static final int DEFAULT_PUBLISH_DELAY = 16;
+
+    /**
+     * the maximal capacity of a bounded model.
+     */
+    public static final int MAX_RING_CAPACITY = 1 << 28;
+
+    private static final int CHUNK_BITS = 12;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int DIRECTORY_BITS = 10;
+    private static final int DIRECTORY_SIZE = 1 << DIRECTORY_BITS;
+
+    private final String[] columnNames;
+    private final Class<?>[] columnClasses;
+    private final int capacity;
+    private final Storage storage;
+
+    /**
+     * the number of rows reserved by producers.
+     */
+    private final AtomicLong appended = new AtomicLong();
+    private final AtomicBoolean publishScheduled = new AtomicBoolean();
+    private final Timer publishTimer;
+
+    /**
+     * the index of the first visible row, only accessed on the EDT.
+     */
+    private long first;
+
+    /**
+     * the index after the last visible row, only accessed on the EDT.
+     */
+    private long published;
+
+    /**
+     * Creates an unbounded model with the given columns of type Object.
+     *
+     * @param columnNames the names of the columns
+     */
+    public AppendOnlyTableModel(String... columnNames) {
+        this(columnNames, null);
+    }
+
+    /**
+     * Creates an unbounded model with the given columns.
+     *
+     * @param columnNames   the names of the columns, must not be null
+     * @param columnClasses the classes of the columns, null for Object
+     */
+    public AppendOnlyTableModel(String[] columnNames, Class<?>[] columnClasses) {
+        this(columnNames, columnClasses, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a model with the given columns which keeps the given number of
+     * most recent rows.
+     *
+     * @param columnNames   the names of the columns, must not be null
+     * @param columnClasses the classes of the columns, null for Object
+     * @param capacity      the maximal number of rows, at most {@link #MAX_RING_CAPACITY}
+     *                      or Integer.MAX_VALUE for unbounded
+     * @throws IllegalArgumentException if the column classes don't match the column
+     *                                  names or capacity is out of range
+     */
+    public AppendOnlyTableModel(String[] columnNames, Class<?>[] columnClasses, int capacity) {
+        this.columnNames = Contract.asNotNull(columnNames, "columnNames must not be null").clone();
+        if (columnClasses != null && columnClasses.length != columnNames.length)
+            throw new IllegalArgumentException("columnClasses must match columnNames");
+        this.columnClasses = columnClasses != null ? columnClasses.clone() : null;
+        if (capacity <= 0 || capacity > MAX_RING_CAPACITY && capacity != Integer.MAX_VALUE)
+            throw new IllegalArgumentException("capacity must be positive and at most "
+                + MAX_RING_CAPACITY + " but was: " + capacity);
+        this.capacity = capacity;
+        storage = capacity == Integer.MAX_VALUE ? new ChunkedStorage() : new RingStorage(capacity);
+        publishTimer = new Timer(DEFAULT_PUBLISH_DELAY, e -> publish());
+        publishTimer.setRepeats(false);
+    }
+
+    //------------------ producer api, callable from any thread
+
+    /**
+     * Appends a row. This method may be called on any thread.
+     *
+     * @param values the values of the row, must not be modified afterwards
+     * @throws IllegalArgumentException if the number of values doesn't match the column count
+     * @throws IllegalStateException    if the unbounded model is full
+     */
+    public void append(Object... values) {
+        if (values.length != columnNames.length)
+            throw new IllegalArgumentException("expected " + columnNames.length + " values but got: " + values.length);
+        long index = appended.getAndIncrement();
+        if (capacity == Integer.MAX_VALUE && index >= Integer.MAX_VALUE) {
+            appended.decrementAndGet();
+            throw new IllegalStateException("model is full");
+        }
+        storage.set(index, values);
+        if (publishScheduled.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(publishTimer::restart);
+        }
+    }
+
+    /**
+     * @return the number of rows appended so far, including those not yet visible
+     * and those evicted.
+     */
+    public long getAppendedCount() {
+        return appended.get();
+    }
+
+    //------------------ publishing on the EDT
+
+    /**
+     * Makes the rows appended so far visible, up to the first row still being written.
+     * This is called once per frame after rows were appended. It may be called directly
+     * on the EDT to publish early.
+     */
+    public void publish() {
+        // rows appended from now on schedule the next publish
+        publishScheduled.set(false);
+        long end = published;
+        long limit = appended.get();
+        while (end < limit && storage.isSet(end)) {
+            end++;
+        }
+        if (end == published)
+            return;
+        long newFirst = Math.max(first, end - capacity);
+        int evicted = (int) (Math.min(newFirst, published) - first);
+        if (evicted > 0) {
+            // evict the oldest visible rows
+            first += evicted;
+            fireTableRowsDeleted(0, evicted - 1);
+            storage.release(first - evicted, first);
+        }
+        // rows evicted before becoming visible are skipped
+        storage.release(first, newFirst);
+        first = newFirst;
+        published = Math.max(published, first);
+        int firstInserted = (int) (published - first);
+        published = end;
+        fireTableRowsInserted(firstInserted, (int) (end - first) - 1);
+    }
+
+    /**
+     * Removes all visible rows. Rows appended concurrently become visible with the
+     * next publish.
+     */
+    public void clear() {
+        int rowCount = getRowCount();
+        if (rowCount == 0)
+            return;
+        first = published;
+        fireTableRowsDeleted(0, rowCount - 1);
+        storage.release(first - rowCount, first);
+    }
+
+    /**
+     * Sets the delay of publishing after rows were appended, in milliseconds. The
+     * default value is {@link #DEFAULT_PUBLISH_DELAY}.
+     *
+     * @param delay the delay of publishing in milliseconds
+     * @throws IllegalArgumentException if delay is negative
+     */
+    public void setPublishDelay(int delay) {
+        if (delay < 0)
+            throw new IllegalArgumentException("delay must not be negative but was: " + delay);
+        publishTimer.setInitialDelay(delay);
+    }
+
+    /**
+     * @return the delay of publishing after rows were appended, in milliseconds.
+     */
+    public int getPublishDelay() {
+        return publishTimer.getInitialDelay();
+    }
+
+    /**
+     * @return the maximal number of rows, Integer.MAX_VALUE if unbounded.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    //------------------ TableModel
+
+    @Override
+    public int getRowCount() {
+        return (int) (published - first);
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return columnClasses != null ? columnClasses[column] : Object.class;
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        Object[] values = storage.get(first + row);
+        return values != null ? values[column] : null;
+    }
+
+    /**
+     * Storage of rows by their index.
+     */
+    private interface Storage {
+
+        /**
+         * Stores the row, may be called on any thread.
+         */
+        void set(long index, Object[] values);
+
+        /**
+         * @return true if the row is stored
+         */
+        boolean isSet(long index);
+
+        /**
+         * @return the stored row or null if not stored (anymore)
+         */
+        Object[] get(long index);
+
+        /**
+         * Releases the rows in the given range, which are never stored again.
+         */
+        void release(long from, long to);
+    }
+
+    /**
+     * Unbounded storage: a fixed directory of lazily created directories of lazily
+     * created chunks, so that chunks are never copied.
+     */
+    private static class ChunkedStorage implements Storage {
+
+        private final AtomicReferenceArray<AtomicReferenceArray<AtomicReferenceArray<Object[]>>> directories =
+            new AtomicReferenceArray<>(1 << 31 - CHUNK_BITS - DIRECTORY_BITS);
+
+        @Override
+        public void set(long index, Object[] values) {
+            getChunk(index, true).set((int) index & CHUNK_SIZE - 1, values);
+        }
+
+        @Override
+        public boolean isSet(long index) {
+            return get(index) != null;
+        }
+
+        @Override
+        public Object[] get(long index) {
+            AtomicReferenceArray<Object[]> chunk = getChunk(index, false);
+            return chunk != null ? chunk.get((int) index & CHUNK_SIZE - 1) : null;
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * Implemented to drop the chunks and directories ending in the range and to
+         * clear the released rows of the others.
+         */
+        @Override
+        public void release(long from, long to) {
+            for (long chunkStart = from & -CHUNK_SIZE; chunkStart < to; chunkStart += CHUNK_SIZE) {
+                int chunkIndex = (int) (chunkStart >>> CHUNK_BITS);
+                int directoryIndex = chunkIndex >>> DIRECTORY_BITS;
+                AtomicReferenceArray<AtomicReferenceArray<Object[]>> directory = directories.get(directoryIndex);
+                if (directory == null)
+                    continue;
+                int slot = chunkIndex & DIRECTORY_SIZE - 1;
+                if (chunkStart + CHUNK_SIZE <= to) {
+                    directory.set(slot, null);
+                    if (slot == DIRECTORY_SIZE - 1) {
+                        directories.set(directoryIndex, null);
+                    }
+                } else {
+                    AtomicReferenceArray<Object[]> chunk = directory.get(slot);
+                    for (long index = Math.max(from, chunkStart); chunk != null && index < to; index++) {
+                        chunk.set((int) index & CHUNK_SIZE - 1, null);
+                    }
+                }
+            }
+        }
+
+        private AtomicReferenceArray<Object[]> getChunk(long index, boolean create) {
+            int chunkIndex = (int) (index >>> CHUNK_BITS);
+            int directoryIndex = chunkIndex >>> DIRECTORY_BITS;
+            AtomicReferenceArray<AtomicReferenceArray<Object[]>> directory = directories.get(directoryIndex);
+            if (directory == null) {
+                if (!create)
+                    return null;
+                directories.compareAndSet(directoryIndex, null, new AtomicReferenceArray<>(DIRECTORY_SIZE));
+                directory = directories.get(directoryIndex);
+            }
+            int slot = chunkIndex & DIRECTORY_SIZE - 1;
+            AtomicReferenceArray<Object[]> chunk = directory.get(slot);
+            if (chunk == null && create) {
+                directory.compareAndSet(slot, null, new AtomicReferenceArray<>(CHUNK_SIZE));
+                chunk = directory.get(slot);
+            }
+            return chunk;
+        }
+    }
+
+    /**
+     * Bounded storage: a ring of entries, large enough to hold the visible rows and
+     * as many rows appended but not yet published.
+     */
+    private static class RingStorage implements Storage {
+
+        private final AtomicReferenceArray<Entry> entries;
+        private final int mask;
+
+        RingStorage(int capacity) {
+            // at least twice the capacity
+            int size = Integer.highestOneBit(Math.max(capacity, CHUNK_SIZE) - 1) << 2;
+            entries = new AtomicReferenceArray<>(size);
+            mask = size - 1;
+        }
+
+        @Override
+        public void set(long index, Object[] values) {
+            entries.set((int) index & mask, new Entry(index, values));
+        }
+
+        @Override
+        public boolean isSet(long index) {
+            Entry entry = entries.get((int) index & mask);
+            // overwritten by a later row is as good as set: publishing moves on
+            return entry != null && entry.index >= index;
+        }
+
+        @Override
+        public Object[] get(long index) {
+            Entry entry = entries.get((int) index & mask);
+            return entry != null && entry.index == index ? entry.values : null;
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * Implemented to clear the entries of the range not yet overwritten by later rows.
+         */
+        @Override
+        public void release(long from, long to) {
+            for (long index = Math.max(from, to - entries.length()); index < to; index++) {
+                int slot = (int) index & mask;
+                Entry entry = entries.get(slot);
+                if (entry != null && entry.index < to) {
+                    entries.compareAndSet(slot, entry, null);
+                }
+            }
+        }
+    }
+
+    /**
+     * A row of the ring, tagged with its index.
+     */
+    private static class Entry {
+
+        private final long index;
+        private final Object[] values;
+
+        Entry(long index, Object[] values) {
+            this.index = index;
+            this.values = values;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package org.jdesktop.swingx.table;
+
+import org.jdesktop.swingx.util.Contract;
+
+import javax.swing.RowFilter;
+import javax.swing.RowSorter.SortKey;
+import javax.swing.SortOrder;
+import javax.swing.table.AbstractTableModel;
+import javax.swing.table.TableModel;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * In-memory <code>PageSource</code> of rows given as arrays, f.i. to try a
+ * <code>PagedTableModel</code> or as a stand-in for a remote source in tests.
+ * <p>
+ * The rows are filtered by evaluating the row filter and sorted the way
+ * <code>TableSortController</code> sorts by default: Strings by a Collator, other
+ * Comparables by their natural order, anything else by the Collator on toString,
+ * nulls first. The order of the last query is kept, so paging through it is cheap.
+ * <p>
+ * Note: the rows must not be modified after creating the source.
+ */
+public class ArrayPageSource implements PageSource {
+
+    private final String[] columnNames;
+    private final Class<?>[] columnClasses;
+    private final Object[][] rows;
+    private final TableModel model = new RowsModel();
+
+    private RowFilter<? super TableModel, ? super Integer> includedFilter;
+    private int[] included;
+    private List<SortKey> orderKeys;
+    private int[] order;
+
+    /**
+     * Creates a source of the given rows.
+     *
+     * @param columnNames   the names of the columns, must not be null
+     * @param columnClasses the classes of the columns, must not be null
+     * @param rows          the values per row and column, must not be null
+     */
+    public ArrayPageSource(String[] columnNames, Class<?>[] columnClasses, Object[][] rows) {
+        this.columnNames = Contract.asNotNull(columnNames, "columnNames must not be null").clone();
+        this.columnClasses = Contract.asNotNull(columnClasses, "columnClasses must not be null").clone();
+        if (columnClasses.length != columnNames.length)
+            throw new IllegalArgumentException("columnClasses must match columnNames");
+        this.rows = Contract.asNotNull(rows, "rows must not be null");
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return columnClasses[column];
+    }
+
+    @Override
+    public synchronized int getRowCount(RowFilter<? super TableModel, ? super Integer> filter) {
+        return getIncluded(filter).length;
+    }
+
+    @Override
+    public synchronized Object[][] getRows(int firstRow, int rowCount, List<? extends SortKey> sortKeys,
+                                           RowFilter<? super TableModel, ? super Integer> filter) {
+        int[] order = getOrder(sortKeys, filter);
+        int count = Math.max(0, Math.min(rowCount, order.length - firstRow));
+        Object[][] result = new Object[count][];
+        for (int i = 0; i < count; i++) {
+            result[i] = rows[order[firstRow + i]].clone();
+        }
+        return result;
+    }
+
+    private int[] getIncluded(RowFilter<? super TableModel, ? super Integer> filter) {
+        if (included != null && Objects.equals(filter, includedFilter))
+            return included;
+        int[] result = new int[rows.length];
+        int count = 0;
+        RowEntry entry = new RowEntry();
+        for (int row = 0; row < rows.length; row++) {
+            entry.row = row;
+            if (filter == null || filter.include(entry)) {
+                result[count++] = row;
+            }
+        }
+        includedFilter = filter;
+        included = Arrays.copyOf(result, count);
+        order = null;
+        return included;
+    }
+
+    private int[] getOrder(List<? extends SortKey> sortKeys, RowFilter<? super TableModel, ? super Integer> filter) {
+        int[] included = getIncluded(filter);
+        if (order != null && sortKeys.equals(orderKeys))
+            return order;
+        List<SortKey> keys = new ArrayList<>();
+        for (SortKey key : sortKeys) {
+            if (key.getSortOrder() != SortOrder.UNSORTED) {
+                keys.add(key);
+            }
+        }
+        Comparable<Object>[][] values = createSortValues(keys, included);
+        Integer[] sorted = new Integer[included.length];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i;
+        }
+        Arrays.sort(sorted, (index1, index2) -> {
+            for (int i = 0; i < keys.size(); i++) {
+                Comparable<Object> v1 = values[i][index1];
+                Comparable<Object> v2 = values[i][index2];
+                int result;
+                if (v1 == null) {
+                    result = v2 == null ? 0 : -1;
+                } else if (v2 == null) {
+                    result = 1;
+                } else {
+                    result = v1.compareTo(v2);
+                }
+                if (keys.get(i).getSortOrder() == SortOrder.DESCENDING) {
+                    result *= -1;
+                }
+                if (result != 0)
+                    return result;
+            }
+            return index1 - index2;
+        });
+        int[] result = new int[sorted.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = included[sorted[i]];
+        }
+        orderKeys = new ArrayList<>(sortKeys);
+        order = result;
+        return order;
+    }
+
+    /**
+     * Returns the values to compare per key and included row: the CollationKeys of
+     * Strings and of values which aren't Comparable, the values otherwise. The keys
+     * are computed once per row instead of collating on every comparison.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Comparable<Object>[][] createSortValues(List<SortKey> keys, int[] included) {
+        Comparable<Object>[][] values = new Comparable[keys.size()][included.length];
+        Collator collator = Collator.getInstance();
+        for (int i = 0; i < keys.size(); i++) {
+            int column = keys.get(i).getColumn();
+            Class<?> columnClass = columnClasses[column];
+            boolean collate = columnClass == String.class || !Comparable.class.isAssignableFrom(columnClass);
+            for (int j = 0; j < included.length; j++) {
+                Object value = rows[included[j]][column];
+                if (value != null && collate) {
+                    value = collator.getCollationKey(value.toString());
+                }
+                values[i][j] = (Comparable) value;
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Entry passed to the row filter.
+     */
+    private class RowEntry extends RowFilter.Entry<TableModel, Integer> {
+
+        private int row;
+
+        @Override
+        public TableModel getModel() {
+            return model;
+        }
+
+        @Override
+        public int getValueCount() {
+            return columnNames.length;
+        }
+
+        @Override
+        public Object getValue(int index) {
+            return rows[row][index];
+        }
+
+        @Override
+        public String getStringValue(int index) {
+            Object value = rows[row][index];
+            return value != null ? value.toString() : "";
+        }
+
+        @Override
+        public Integer getIdentifier() {
+            return row;
+        }
+    }
+
+    /**
+     * Read-only view of the rows, the model of the filter entries.
+     */
+    private class RowsModel extends AbstractTableModel {
+
+        @Override
+        public int getRowCount() {
+            return rows.length;
+        }
+
+        @Override
+        public int getColumnCount() {
+            return columnNames.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return columnNames[column];
+        }
+
+        @Override
+        public Class<?> getColumnClass(int column) {
+            return columnClasses[column];
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            return rows[row][column];
+        }
+    }
+}
@@ -0,0 +1,370 @@
+package org.jdesktop.swingx.table;
+
+import org.jdesktop.swingx.util.Contract;
+
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import javax.swing.table.AbstractTableModel;
+import javax.swing.table.TableModel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <code>TableModel</code> which wraps a delegate model and coalesces the update
+ * notifications of high-frequency feeds. Producers on any thread change the data of the
+ * delegate (which must be safe to read on the EDT meanwhile) and report the changed cells
+ * or rows to this model instead of calling <code>SwingUtilities.invokeLater</code> per
+ * change:
+ *
+ * <pre><code>
+ * // on a network thread
+ * prices.set(row, price);
+ * coalescingModel.cellUpdated(row, PRICE_COLUMN);
+ * </code></pre>
+ * <p>
+ * The reports are queued lock-free and flushed once per frame on the EDT as the fewest
+ * <code>TableModelEvent</code>s possible: overlapping and adjacent reports are merged
+ * into a cell or row range event, all rows are reported as changed if more than
+ * dataChangedThreshold rows changed.
+ * <p>
+ * Events of the delegate are forwarded as they are, they must be fired on the EDT.
+ * Reports pending while the delegate inserts or deletes rows no longer denote the right
+ * rows, they are flushed as data changed.
+ * <p>
+ * The model counts reports, events and flushes for diagnostic purposes.
+ */
+public class CoalescingTableModel extends AbstractTableModel {
+
+    /**
+     * the default delay of flushes in milliseconds, about a frame.
+     */
+    public static final int DEFAULT_FLUSH_DELAY = 16;
+
+    private final TableModel delegate;
+    private final TableModelListener delegateListener = this::delegateChanged;
+
+    private final ConcurrentLinkedQueue<Update> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final Timer flushTimer;
+
+    private int dataChangedThreshold = Integer.MAX_VALUE;
+    private boolean rowsShifted;
+
+    private final AtomicLong updateCount = new AtomicLong();
+    private long eventCount;
+    private long flushCount;
+    private long statisticsStart = System.nanoTime();
+
+    /**
+     * Creates a coalescing model for the given delegate.
+     *
+     * @param delegate the model to wrap, must not be null
+     */
+    public CoalescingTableModel(TableModel delegate) {
+        this.delegate = Contract.asNotNull(delegate, "delegate must not be null");
+        delegate.addTableModelListener(delegateListener);
+        flushTimer = new Timer(DEFAULT_FLUSH_DELAY, e -> flush());
+        flushTimer.setRepeats(false);
+    }
+
+    /**
+     * @return the wrapped model
+     */
+    public TableModel getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Stops listening to the delegate and discards pending reports.
+     */
+    public void dispose() {
+        delegate.removeTableModelListener(delegateListener);
+        flushTimer.stop();
+        queue.clear();
+        queueDepth.set(0);
+    }
+
+    //------------------ producer api, callable from any thread
+
+    /**
+     * Reports a changed cell. This method may be called on any thread.
+     *
+     * @param row    the row of the cell
+     * @param column the column of the cell
+     */
+    public void cellUpdated(int row, int column) {
+        enqueue(new Update(row, row, column));
+    }
+
+    /**
+     * Reports changed rows. This method may be called on any thread.
+     *
+     * @param firstRow the first changed row
+     * @param lastRow  the last changed row
+     */
+    public void rowsUpdated(int firstRow, int lastRow) {
+        enqueue(new Update(firstRow, lastRow, TableModelEvent.ALL_COLUMNS));
+    }
+
+    /**
+     * Reports that all rows may have changed. This method may be called on any thread.
+     */
+    public void dataChanged() {
+        enqueue(new Update(0, Integer.MAX_VALUE, TableModelEvent.ALL_COLUMNS));
+    }
+
+    private void enqueue(Update update) {
+        queue.offer(update);
+        queueDepth.incrementAndGet();
+        updateCount.incrementAndGet();
+        if (flushScheduled.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(flushTimer::restart);
+        }
+    }
+
+    //------------------ flushing on the EDT
+
+    /**
+     * Fires the pending reports as TableModelEvents. This is called once per frame
+     * after reports were queued. It may be called directly on the EDT to flush early.
+     */
+    public void flush() {
+        // reports queued from now on schedule the next flush
+        flushScheduled.set(false);
+        List<Update> updates = new ArrayList<>();
+        for (Update update; (update = queue.poll()) != null; ) {
+            updates.add(update);
+        }
+        queueDepth.addAndGet(-updates.size());
+        boolean shifted = rowsShifted;
+        rowsShifted = false;
+        if (updates.isEmpty())
+            return;
+        flushCount++;
+        int rowCount = getRowCount();
+        List<Update> merged = shifted ? null : merge(updates, rowCount);
+        if (merged == null || countRows(merged) > dataChangedThreshold) {
+            eventCount++;
+            fireTableDataChanged();
+            return;
+        }
+        for (Update update : merged) {
+            eventCount++;
+            fireTableChanged(new TableModelEvent(this, update.firstRow, update.lastRow, update.column));
+        }
+    }
+
+    /**
+     * Merges the overlapping or adjacent updates, clipped to the given row count.
+     *
+     * @return the merged updates ordered by row, or null if all rows changed
+     */
+    private static List<Update> merge(List<Update> updates, int rowCount) {
+        for (Update update : updates) {
+            if (update.lastRow == Integer.MAX_VALUE)
+                return null;
+        }
+        updates.sort((u1, u2) -> Integer.compare(u1.firstRow, u2.firstRow));
+        List<Update> merged = new ArrayList<>();
+        Update current = null;
+        for (Update update : updates) {
+            int firstRow = Math.max(0, update.firstRow);
+            int lastRow = Math.min(rowCount - 1, update.lastRow);
+            if (firstRow > lastRow)
+                continue;
+            if (current != null && firstRow <= current.lastRow + 1) {
+                int column = current.column == update.column ? current.column : TableModelEvent.ALL_COLUMNS;
+                current = new Update(current.firstRow, Math.max(current.lastRow, lastRow), column);
+            } else {
+                if (current != null) {
+                    merged.add(current);
+                }
+                current = new Update(firstRow, lastRow, update.column);
+            }
+        }
+        if (current != null) {
+            merged.add(current);
+        }
+        return merged;
+    }
+
+    private static int countRows(List<Update> updates) {
+        int count = 0;
+        for (Update update : updates) {
+            count += update.lastRow - update.firstRow + 1;
+        }
+        return count;
+    }
+
+    /**
+     * Forwards the delegate's events with this model as source.
+     */
+    private void delegateChanged(TableModelEvent e) {
+        if (e.getType() != TableModelEvent.UPDATE || e.getFirstRow() == TableModelEvent.HEADER_ROW) {
+            rowsShifted |= queueDepth.get() > 0;
+        }
+        fireTableChanged(new TableModelEvent(this, e.getFirstRow(), e.getLastRow(), e.getColumn(), e.getType()));
+    }
+
+    //------------------ properties
+
+    /**
+     * Sets the delay of flushes after reports were queued, in milliseconds. The
+     * default value is {@link #DEFAULT_FLUSH_DELAY}.
+     *
+     * @param delay the delay of flushes in milliseconds
+     * @throws IllegalArgumentException if delay is negative
+     */
+    public void setFlushDelay(int delay) {
+        if (delay < 0)
+            throw new IllegalArgumentException("delay must not be negative but was: " + delay);
+        flushTimer.setInitialDelay(delay);
+    }
+
+    /**
+     * @return the delay of flushes after reports were queued, in milliseconds.
+     */
+    public int getFlushDelay() {
+        return flushTimer.getInitialDelay();
+    }
+
+    /**
+     * Sets the number of changed rows above which a flush fires data changed instead
+     * of cell or row range events. The default value is Integer.MAX_VALUE, that is
+     * data changed is fired only if reported.
+     *
+     * @param threshold the number of changed rows to fire data changed
+     * @throws IllegalArgumentException if threshold is negative
+     */
+    public void setDataChangedThreshold(int threshold) {
+        if (threshold < 0)
+            throw new IllegalArgumentException("threshold must not be negative but was: " + threshold);
+        this.dataChangedThreshold = threshold;
+    }
+
+    /**
+     * @return the number of changed rows above which a flush fires data changed.
+     */
+    public int getDataChangedThreshold() {
+        return dataChangedThreshold;
+    }
+
+    //------------------ statistics
+
+    /**
+     * @return the number of reports not yet flushed.
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * @return the number of reports since the last reset.
+     */
+    public long getUpdateCount() {
+        return updateCount.get();
+    }
+
+    /**
+     * @return the number of events fired by flushes since the last reset.
+     */
+    public long getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * @return the number of flushes since the last reset.
+     */
+    public long getFlushCount() {
+        return flushCount;
+    }
+
+    /**
+     * Returns the number of flushes per second since the last reset.
+     *
+     * @return the flush rate
+     */
+    public double getFlushesPerSecond() {
+        long elapsed = System.nanoTime() - statisticsStart;
+        return elapsed > 0 ? flushCount * 1e9 / elapsed : 0;
+    }
+
+    /**
+     * Returns the number of reports per fired event since the last reset.
+     *
+     * @return the coalescing ratio, 0 if no event was fired
+     */
+    public double getCoalescingRatio() {
+        return eventCount > 0 ? (double) (updateCount.get() - queueDepth.get()) / eventCount : 0;
+    }
+
+    /**
+     * Resets the counts of reports, events and flushes.
+     */
+    public void resetStatistics() {
+        updateCount.set(queueDepth.get());
+        eventCount = 0;
+        flushCount = 0;
+        statisticsStart = System.nanoTime();
+    }
+
+    //------------------ TableModel, delegating
+
+    @Override
+    public int getRowCount() {
+        return delegate.getRowCount();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return delegate.getColumnCount();
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return delegate.getColumnName(column);
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return delegate.getColumnClass(column);
+    }
+
+    @Override
+    public boolean isCellEditable(int row, int column) {
+        return delegate.isCellEditable(row, column);
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        return delegate.getValueAt(row, column);
+    }
+
+    @Override
+    public void setValueAt(Object value, int row, int column) {
+        delegate.setValueAt(value, row, column);
+    }
+
+    /**
+     * A reported change of a range of rows in a column, or all columns.
+     */
+    private static class Update {
+
+        private final int firstRow;
+        private final int lastRow;
+        private final int column;
+
+        Update(int firstRow, int lastRow, int column) {
+            this.firstRow = firstRow;
+            this.lastRow = lastRow;
+            this.column = column;
+        }
+    }
+}
@@ -89,6 +89,14 @@ public class ColumnFactory {
      * the default margin to use in pack.
      */
     private int packMargin = 4;
+    /**
+     * the strategy to select the rows measured in pack.
+     */
+    private PackStrategy packStrategy = PackStrategies.EXACT;
+    /**
+     * the maximal time in milliseconds to spend in packing a column, -1 for no limit.
+     */
+    private long packTimeBudget = -1;
 
     /**
      * Returns the shared default factory.
@@ -345,8 +353,10 @@ public class ColumnFactory {
      * width to the "widest" cell content of a column.
      * <p>
      * <p>
-     * This implementation loops through all rows of the given column and
-     * measures the renderers pref width (it's a potential performance sink).
+     * This implementation loops through the rows of the given column selected by
+     * the <code>PackStrategy</code> and measures the renderers pref width (it's a
+     * potential performance sink with the default strategy, which measures all rows).
+     * The loop stops early if the pack time budget is exceeded.
      * Subclasses can override to implement a different strategy.
      * <p>
      * <p>
@@ -366,6 +376,8 @@ public class ColumnFactory {
      *                  limit
      * @throws IllegalStateException if column is not visible
      * @see #setDefaultPackMargin(int)
+     * @see #setPackStrategy(PackStrategy)
+     * @see #setPackTimeBudget(long)
      * @see JXTable#packTable(int)
      * @see JXTable#packColumn(int, int)
      */
@@ -384,12 +396,15 @@ public class ColumnFactory {
         // returns a (guessed) renderer for invisible columns which must not
         // be used in the loop. For now that's okay, as we back out early anyway
         TableCellRenderer renderer = getCellRenderer(table, columnExt);
-        for (int r = 0; r < getRowCount(table); r++) {
-            // JW: fix for #1215-swing as suggested by the reporter adrienclerc
-            Component comp = table.prepareRenderer(renderer, r, column);
-//            Component comp = renderer.getTableCellRendererComponent(table, table
-//                    .getValueAt(r, column), false, false, r, column);
-            width = Math.max(width, comp.getPreferredSize().width);
+        int rowCount = getRowCount(table);
+        long deadline = getPackDeadline();
+        int[] rows = getPackStrategy().getRowsToMeasure(table, column, rowCount, deadline);
+        int count = rows != null ? rows.length : rowCount;
+        for (int i = 0; i < count; i++) {
+            int r = rows != null ? rows[i] : i;
+            width = Math.max(width, calcCellWidth(table, renderer, r, column));
+            if ((i & 0x3F) == 0x3F && isPackDeadlineReached(deadline))
+                break;
         }
         if (margin < 0) {
             margin = getDefaultPackMargin();
@@ -408,7 +423,8 @@ public class ColumnFactory {
      * config. All row-related access is bounded by the value returned from this
      * method.
      * <p>
-     * Here: delegates to table.getRowCount().
+     * Here: delegates to table.getRowCount(), bounded to the first page of a
+     * PagedTableModel to not fetch all pages.
      * <p>
      * <p>
      * Subclasses can override to reduce the number (for performance) or support
@@ -420,9 +436,83 @@ public class ColumnFactory {
      * @return valid rowCount
      */
     protected int getRowCount(JXTable table) {
+        if (table.getModel() instanceof PagedTableModel)
+            return Math.min(table.getRowCount(), ((PagedTableModel) table.getModel()).getPageSize());
         return table.getRowCount();
     }
 
+    /**
+     * Measures and returns the preferred width of the rendering component
+     * prepared for the given cell.
+     *
+     * @param table    the table containing the cell
+     * @param renderer the renderer to use for measuring
+     * @param row      the row of the cell in view coordinates
+     * @param column   the column of the cell in view coordinates
+     * @return the preferred width of the cell's rendering component
+     */
+    protected int calcCellWidth(JXTable table, TableCellRenderer renderer, int row, int column) {
+        // JW: fix for #1215-swing as suggested by the reporter adrienclerc
+        Component comp = table.prepareRenderer(renderer, row, column);
+        return comp.getPreferredSize().width;
+    }
+
+    /**
+     * Measures and returns the preferred width of the rendering component
+     * configured for the given cell in model coordinates. Rows and columns not
+     * contained in the view are measured with the undecorated renderer.
+     *
+     * @param table     the table containing the cell
+     * @param columnExt the column of the cell
+     * @param modelRow  the row of the cell in model coordinates
+     * @return the preferred width of the cell's rendering component
+     * @see ColumnWidthTracker
+     */
+    protected int calcCellWidth(JXTable table, TableColumnExt columnExt, int modelRow) {
+        TableCellRenderer renderer = getCellRenderer(table, columnExt);
+        int column = table.convertColumnIndexToView(columnExt.getModelIndex());
+        int row = table.convertRowIndexToView(modelRow);
+        if (row >= 0 && column >= 0) {
+            return calcCellWidth(table, renderer, row, column);
+        }
+        Object value = table.getModel().getValueAt(modelRow, columnExt.getModelIndex());
+        Component comp = renderer.getTableCellRendererComponent(table, value, false, false, row, column);
+        return comp.getPreferredSize().width;
+    }
+
+    /**
+     * Creates and returns the tracker which keeps the preferred width of the
+     * given column fitted to its content. <code>JXTable</code> uses a tracker
+     * for each column with the autoPack property enabled.
+     * <p>
+     * The factory's tracker creation is passed through this method, so
+     * subclasses can override to return a custom tracker.
+     *
+     * @param table     the context the column lives in
+     * @param columnExt the column to keep fitted
+     * @return the tracker for the column
+     * @see TableColumnExt#setAutoPack(boolean)
+     */
+    public ColumnWidthTracker createColumnWidthTracker(JXTable table, TableColumnExt columnExt) {
+        return new ColumnWidthTracker(this, table, columnExt);
+    }
+
+    /**
+     * Returns the value of <code>System.nanoTime()</code> at which a pack started
+     * now has to stop, based on the pack time budget.
+     *
+     * @return the deadline for a pack started now, <code>Long.MAX_VALUE</code> if unlimited
+     */
+    private long getPackDeadline() {
+        if (packTimeBudget < 0)
+            return Long.MAX_VALUE;
+        return System.nanoTime() + packTimeBudget * 1000000L;
+    }
+
+    private static boolean isPackDeadlineReached(long deadline) {
+        return deadline != Long.MAX_VALUE && System.nanoTime() - deadline > 0;
+    }
+
 // ------------------------ default state
 
     /**
@@ -449,4 +539,54 @@ public class ColumnFactory {
     public void setDefaultPackMargin(int margin) {
         this.packMargin = margin;
     }
+
+    /**
+     * Returns the strategy to select the rows measured in packColumn.
+     *
+     * @return the strategy used in packColumn, guaranteed to be not null.
+     * @see #setPackStrategy(PackStrategy)
+     */
+    public PackStrategy getPackStrategy() {
+        return packStrategy;
+    }
+
+    /**
+     * Sets the strategy to select the rows measured in packColumn. If null,
+     * all rows are measured.<p>
+     * <p>
+     * The default value is {@link PackStrategies#EXACT}.
+     *
+     * @param strategy the strategy to use in packColumn.
+     * @see #getPackStrategy()
+     * @see PackStrategies#sampling(int, int)
+     * @see #packColumn(JXTable, TableColumnExt, int, int)
+     */
+    public void setPackStrategy(PackStrategy strategy) {
+        this.packStrategy = strategy != null ? strategy : PackStrategies.EXACT;
+    }
+
+    /**
+     * Returns the maximal time in milliseconds spent in packing a single column.
+     *
+     * @return the time budget of packColumn, -1 if unlimited.
+     * @see #setPackTimeBudget(long)
+     */
+    public long getPackTimeBudget() {
+        return packTimeBudget;
+    }
+
+    /**
+     * Sets the maximal time in milliseconds spent in packing a single column.
+     * If the budget is exceeded, packColumn stops measuring and uses the widest
+     * cell found so far. A negative value is interpreted as unlimited.<p>
+     * <p>
+     * The default value is -1.
+     *
+     * @param millis the time budget of packColumn, -1 if unlimited.
+     * @see #getPackTimeBudget()
+     * @see #packColumn(JXTable, TableColumnExt, int, int)
+     */
+    public void setPackTimeBudget(long millis) {
+        this.packTimeBudget = millis < 0 ? -1 : millis;
+    }
 }
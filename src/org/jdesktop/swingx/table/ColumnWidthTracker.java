@@ -0,0 +1,252 @@
+package org.jdesktop.swingx.table;
+
+import org.jdesktop.swingx.JXTable;
+
+import javax.swing.event.TableModelEvent;
+import java.util.Arrays;
+
+/**
+ * Keeps the preferred width of a column fitted to its content while the
+ * <code>TableModel</code> changes. Typically, this is created by the
+ * <code>ColumnFactory</code> and managed by the <code>JXTable</code> for each
+ * column with the <code>autoPack</code> property enabled.
+ * <p>
+ * The tracker stores the measured width of every row in model coordinates in a
+ * max-structure. On receiving a <code>TableModelEvent</code> it measures only
+ * the inserted or updated rows, so that the preferred width follows the live
+ * data in O(changed rows * log(rowCount)). Inserting or deleting rows in the
+ * middle of the model additionally shifts the stored widths, which doesn't
+ * measure any cell. Only dataChanged and structureChanged require a full rescan.
+ * <p>
+ * Note: filtered rows are measured as well, the preferred width fits all rows
+ * of the model.
+ *
+ * @see TableColumnExt#setAutoPack(boolean)
+ * @see ColumnFactory#createColumnWidthTracker(JXTable, TableColumnExt)
+ */
+public class ColumnWidthTracker {
+
+    private final ColumnFactory factory;
+    private final JXTable table;
+    private final TableColumnExt columnExt;
+    private final MaxTree widths = new MaxTree();
+    private int headerWidth;
+    private boolean valid;
+
+    /**
+     * Instantiates a tracker for the given column.
+     *
+     * @param factory   the factory to use for measuring
+     * @param table     the table containing the column
+     * @param columnExt the column to keep fitted
+     */
+    public ColumnWidthTracker(ColumnFactory factory, JXTable table, TableColumnExt columnExt) {
+        this.factory = factory;
+        this.table = table;
+        this.columnExt = columnExt;
+    }
+
+    /**
+     * Returns the column this tracker keeps fitted.
+     *
+     * @return the tracked column
+     */
+    public TableColumnExt getColumn() {
+        return columnExt;
+    }
+
+    /**
+     * Returns a boolean indicating whether the stored widths are up to date.
+     *
+     * @return true if the all rows are measured, false otherwise
+     */
+    public boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * Marks the stored widths as outdated. The next update will re-measure all rows.
+     */
+    public void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Measures all rows and updates the column's preferred width.
+     */
+    public void measureAll() {
+        headerWidth = factory.calcHeaderWidth(table, columnExt);
+        int rowCount = table.getModel().getRowCount();
+        widths.reset(rowCount);
+        for (int row = 0; row < rowCount; row++) {
+            widths.set(row, measure(row));
+        }
+        valid = true;
+        updatePreferredWidth();
+    }
+
+    /**
+     * Updates the stored widths from the given event and adjusts the column's
+     * preferred width if needed. Must be called after the table (and its
+     * RowSorter) processed the event.
+     *
+     * @param e the event received from the model
+     */
+    public void tableChanged(TableModelEvent e) {
+        if (!valid || e == null || e.getFirstRow() == TableModelEvent.HEADER_ROW || e.getLastRow() == Integer.MAX_VALUE) {
+            measureAll();
+            return;
+        }
+        int firstRow = e.getFirstRow();
+        int lastRow = e.getLastRow();
+        if (!isInRange(e.getType(), firstRow, lastRow)) {
+            // out of synch, f.i. because of an event missed
+            measureAll();
+            return;
+        }
+        switch (e.getType()) {
+        case TableModelEvent.INSERT:
+            widths.insert(firstRow, lastRow - firstRow + 1);
+            measure(firstRow, lastRow);
+            break;
+        case TableModelEvent.DELETE:
+            widths.remove(firstRow, lastRow - firstRow + 1);
+            break;
+        default:
+            if (e.getColumn() != TableModelEvent.ALL_COLUMNS && e.getColumn() != columnExt.getModelIndex())
+                return;
+            measure(firstRow, lastRow);
+        }
+        if (widths.size() != table.getModel().getRowCount()) {
+            // out of synch, f.i. because of an event missed
+            measureAll();
+            return;
+        }
+        updatePreferredWidth();
+    }
+
+    /**
+     * Returns the largest width of all cells, as measured.
+     *
+     * @return the largest cell width
+     */
+    public int getMaxCellWidth() {
+        return widths.max();
+    }
+
+    /**
+     * Sets the column's preferred width to the largest of the header and cell
+     * widths, plus the factory's default pack margin.
+     */
+    protected void updatePreferredWidth() {
+        int width = Math.max(headerWidth, getMaxCellWidth()) + 2 * factory.getDefaultPackMargin();
+        if (width != columnExt.getPreferredWidth()) {
+            columnExt.setPreferredWidth(width);
+        }
+    }
+
+    /**
+     * Returns a boolean indicating whether the event's row range is valid
+     * relative to the stored widths.
+     */
+    private boolean isInRange(int type, int firstRow, int lastRow) {
+        if (firstRow < 0 || firstRow > lastRow)
+            return false;
+        if (type == TableModelEvent.INSERT)
+            return firstRow <= widths.size();
+        return lastRow < widths.size();
+    }
+
+    private void measure(int firstRow, int lastRow) {
+        for (int row = firstRow; row <= lastRow; row++) {
+            widths.set(row, measure(row));
+        }
+    }
+
+    private int measure(int modelRow) {
+        return factory.calcCellWidth(table, columnExt, modelRow);
+    }
+
+    /**
+     * A max segment tree over a growable sequence of non-negative ints. The leaves
+     * are stored in the upper half of the array, the max of nodes 2i and 2i+1 in i.
+     */
+    static final class MaxTree {
+
+        private int capacity = 16;
+        private int[] tree = new int[2 * capacity];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        int max() {
+            return tree[1];
+        }
+
+        void reset(int newSize) {
+            int c = 16;
+            while (c < newSize) {
+                c <<= 1;
+            }
+            capacity = c;
+            tree = new int[2 * c];
+            size = newSize;
+        }
+
+        void set(int index, int value) {
+            int i = index + capacity;
+            tree[i] = value;
+            for (i >>= 1; i > 0; i >>= 1) {
+                tree[i] = Math.max(tree[2 * i], tree[2 * i + 1]);
+            }
+        }
+
+        void insert(int index, int count) {
+            ensureCapacity(size + count);
+            System.arraycopy(tree, capacity + index, tree, capacity + index + count, size - index);
+            Arrays.fill(tree, capacity + index, capacity + index + count, 0);
+            size += count;
+            updateParents(index, size);
+        }
+
+        void remove(int index, int count) {
+            System.arraycopy(tree, capacity + index + count, tree, capacity + index, size - index - count);
+            Arrays.fill(tree, capacity + size - count, capacity + size, 0);
+            size -= count;
+            updateParents(index, size + count);
+        }
+
+        /**
+         * Recomputes the inner nodes above the leaves from (inclusive) to to (exclusive).
+         */
+        private void updateParents(int from, int to) {
+            if (from >= to)
+                return;
+            int lo = (capacity + from) >> 1;
+            int hi = (capacity + to - 1) >> 1;
+            while (lo > 0) {
+                for (int i = lo; i <= hi; i++) {
+                    tree[i] = Math.max(tree[2 * i], tree[2 * i + 1]);
+                }
+                lo >>= 1;
+                hi >>= 1;
+            }
+        }
+
+        private void ensureCapacity(int minCapacity) {
+            if (minCapacity <= capacity)
+                return;
+            int c = capacity;
+            while (c < minCapacity) {
+                c <<= 1;
+            }
+            int[] grown = new int[2 * c];
+            System.arraycopy(tree, capacity, grown, c, size);
+            capacity = c;
+            tree = grown;
+            updateParents(0, size);
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package org.jdesktop.swingx.table;
+
+import org.jdesktop.swingx.util.Contract;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.Arrays;
+
+/**
+ * Column-oriented <code>TableModel</code> which stores the columns of type
+ * <code>int</code>, <code>long</code> and <code>double</code> in primitive arrays.
+ * Numeric grids take the memory of the raw values only, f.i. 160 MB for
+ * 1,000,000 rows of 20 double columns instead of about three times as much for
+ * the boxed values.
+ * <p>
+ * The primitive columns are read and written by the typed accessors, like
+ * {@link #getDoubleAt(int, int)} and {@link #setDoubleAt(double, int, int)}.
+ * <code>getValueAt</code> boxes as every TableModel must, the renderers, sorters and
+ * highlighters of SwingX use the typed accessors instead.
+ * <p>
+ * Columns of other types are stored as objects.
+ *
+ * <pre><code>
+ * ColumnarTableModel model = new ColumnarTableModel(
+ *         new String[] {"Symbol", "Volume", "Price"},
+ *         new Class&lt;?&gt;[] {String.class, long.class, double.class}, 1000);
+ * model.setValueAt("ACME", 0, 0);
+ * model.setLongAt(12000, 0, 1);
+ * model.setDoubleAt(42.5, 0, 2);
+ * </code></pre>
+ */
+public class ColumnarTableModel extends AbstractTableModel implements PrimitiveTableModel {
+
+    private final String[] columnNames;
+    private final Class<?>[] columnTypes;
+
+    /**
+     * the storage per column: int[], long[], double[] or Object[].
+     */
+    private final Object[] columns;
+    private int rowCount;
+    private int capacity;
+
+    /**
+     * Creates an empty model with the given columns.
+     *
+     * @param columnNames the names of the columns, must not be null
+     * @param columnTypes the types of the columns: int.class, long.class, double.class
+     *                    for primitive columns or the class of the objects otherwise
+     */
+    public ColumnarTableModel(String[] columnNames, Class<?>[] columnTypes) {
+        this(columnNames, columnTypes, 0);
+    }
+
+    /**
+     * Creates a model with the given columns and number of rows. The rows are
+     * initialized to 0 or null.
+     *
+     * @param columnNames the names of the columns, must not be null
+     * @param columnTypes the types of the columns: int.class, long.class, double.class
+     *                    for primitive columns or the class of the objects otherwise
+     * @param rowCount    the number of rows
+     * @throws IllegalArgumentException if the column types don't match the column names,
+     *                                  a column type is another primitive or rowCount is negative
+     */
+    public ColumnarTableModel(String[] columnNames, Class<?>[] columnTypes, int rowCount) {
+        this.columnNames = Contract.asNotNull(columnNames, "columnNames must not be null").clone();
+        this.columnTypes = Contract.asNotNull(columnTypes, "columnTypes must not be null").clone();
+        if (columnTypes.length != columnNames.length)
+            throw new IllegalArgumentException("columnTypes must match columnNames");
+        if (rowCount < 0)
+            throw new IllegalArgumentException("rowCount must not be negative but was: " + rowCount);
+        columns = new Object[columnTypes.length];
+        for (int column = 0; column < columnTypes.length; column++) {
+            Class<?> type = Contract.asNotNull(columnTypes[column], "columnTypes must not contain null");
+            if (type.isPrimitive() && type != int.class && type != long.class && type != double.class)
+                throw new IllegalArgumentException("primitive columns must be int, long or double but was: " + type);
+            columns[column] = createColumn(type, rowCount);
+        }
+        this.rowCount = rowCount;
+        this.capacity = rowCount;
+    }
+
+    private static Object createColumn(Class<?> type, int capacity) {
+        if (type == int.class)
+            return new int[capacity];
+        if (type == long.class)
+            return new long[capacity];
+        if (type == double.class)
+            return new double[capacity];
+        return new Object[capacity];
+    }
+
+    //------------------ rows
+
+    /**
+     * Sets the number of rows. Added rows are initialized to 0 or null, removed rows
+     * are dropped from the end.
+     *
+     * @param rowCount the number of rows
+     * @throws IllegalArgumentException if rowCount is negative
+     */
+    public void setRowCount(int rowCount) {
+        if (rowCount < 0)
+            throw new IllegalArgumentException("rowCount must not be negative but was: " + rowCount);
+        int old = this.rowCount;
+        if (rowCount == old)
+            return;
+        if (rowCount > capacity) {
+            ensureCapacity(Math.max(rowCount, capacity + (capacity >> 1)));
+        }
+        if (rowCount < old) {
+            clearRows(rowCount, old);
+            this.rowCount = rowCount;
+            fireTableRowsDeleted(rowCount, old - 1);
+        } else {
+            this.rowCount = rowCount;
+            fireTableRowsInserted(old, rowCount - 1);
+        }
+    }
+
+    /**
+     * Adds a row at the end, initialized to 0 or null.
+     *
+     * @return the index of the added row
+     */
+    public int addRow() {
+        setRowCount(rowCount + 1);
+        return rowCount - 1;
+    }
+
+    private void ensureCapacity(int capacity) {
+        for (int column = 0; column < columns.length; column++) {
+            Object values = columns[column];
+            if (values instanceof int[]) {
+                columns[column] = Arrays.copyOf((int[]) values, capacity);
+            } else if (values instanceof long[]) {
+                columns[column] = Arrays.copyOf((long[]) values, capacity);
+            } else if (values instanceof double[]) {
+                columns[column] = Arrays.copyOf((double[]) values, capacity);
+            } else {
+                columns[column] = Arrays.copyOf((Object[]) values, capacity);
+            }
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Resets the given rows, so that rows added later start at 0 or null.
+     */
+    private void clearRows(int from, int to) {
+        for (Object values : columns) {
+            if (values instanceof int[]) {
+                Arrays.fill((int[]) values, from, to, 0);
+            } else if (values instanceof long[]) {
+                Arrays.fill((long[]) values, from, to, 0L);
+            } else if (values instanceof double[]) {
+                Arrays.fill((double[]) values, from, to, 0.0);
+            } else {
+                Arrays.fill((Object[]) values, from, to, null);
+            }
+        }
+    }
+
+    //------------------ typed accessors
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Class<?> getPrimitiveType(int column) {
+        Class<?> type = columnTypes[column];
+        return type.isPrimitive() ? type : null;
+    }
+
+    /**
+     * Returns the value of a cell in a column of type int.
+     *
+     * @param row    the row
+     * @param column the column
+     * @return the value of the cell
+     * @throws IllegalArgumentException if the column isn't of type int
+     */
+    public int getIntAt(int row, int column) {
+        checkRow(row);
+        return getInts(column)[row];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getLongAt(int row, int column) {
+        checkRow(row);
+        Object values = columns[column];
+        if (values instanceof int[])
+            return ((int[]) values)[row];
+        if (values instanceof long[])
+            return ((long[]) values)[row];
+        throw new IllegalArgumentException("column " + column + " is not of type int or long");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getDoubleAt(int row, int column) {
+        checkRow(row);
+        Object values = columns[column];
+        if (values instanceof double[])
+            return ((double[]) values)[row];
+        if (values instanceof int[])
+            return ((int[]) values)[row];
+        if (values instanceof long[])
+            return ((long[]) values)[row];
+        throw new IllegalArgumentException("column " + column + " is not primitive");
+    }
+
+    /**
+     * Sets the value of a cell in a column of type int and notifies the listeners.
+     *
+     * @param value  the value
+     * @param row    the row
+     * @param column the column
+     * @throws IllegalArgumentException if the column isn't of type int
+     */
+    public void setIntAt(int value, int row, int column) {
+        checkRow(row);
+        getInts(column)[row] = value;
+        fireTableCellUpdated(row, column);
+    }
+
+    /**
+     * Sets the value of a cell in a column of type long and notifies the listeners.
+     *
+     * @param value  the value
+     * @param row    the row
+     * @param column the column
+     * @throws IllegalArgumentException if the column isn't of type long
+     */
+    public void setLongAt(long value, int row, int column) {
+        checkRow(row);
+        Object values = columns[column];
+        if (!(values instanceof long[]))
+            throw new IllegalArgumentException("column " + column + " is not of type long");
+        ((long[]) values)[row] = value;
+        fireTableCellUpdated(row, column);
+    }
+
+    /**
+     * Sets the value of a cell in a column of type double and notifies the listeners.
+     *
+     * @param value  the value
+     * @param row    the row
+     * @param column the column
+     * @throws IllegalArgumentException if the column isn't of type double
+     */
+    public void setDoubleAt(double value, int row, int column) {
+        checkRow(row);
+        Object values = columns[column];
+        if (!(values instanceof double[]))
+            throw new IllegalArgumentException("column " + column + " is not of type double");
+        ((double[]) values)[row] = value;
+        fireTableCellUpdated(row, column);
+    }
+
+    private int[] getInts(int column) {
+        Object values = columns[column];
+        if (!(values instanceof int[]))
+            throw new IllegalArgumentException("column " + column + " is not of type int");
+        return (int[]) values;
+    }
+
+    /**
+     * The arrays may be larger than the row count.
+     */
+    private void checkRow(int row) {
+        if (row < 0 || row >= rowCount)
+            throw new IndexOutOfBoundsException("row must be >= 0 and < " + rowCount + " but was: " + row);
+    }
+
+    //------------------ TableModel
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Implemented to return the wrapper class of primitive columns.
+     */
+    @Override
+    public Class<?> getColumnClass(int column) {
+        Class<?> type = columnTypes[column];
+        if (type == int.class)
+            return Integer.class;
+        if (type == long.class)
+            return Long.class;
+        if (type == double.class)
+            return Double.class;
+        return type;
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Implemented to box the values of primitive columns.
+     */
+    @Override
+    public Object getValueAt(int row, int column) {
+        checkRow(row);
+        Object values = columns[column];
+        if (values instanceof int[])
+            return ((int[]) values)[row];
+        if (values instanceof long[])
+            return ((long[]) values)[row];
+        if (values instanceof double[])
+            return ((double[]) values)[row];
+        return ((Object[]) values)[row];
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Implemented to unbox the values of primitive columns, null is stored as 0.
+     *
+     * @throws ClassCastException if the value of a primitive column isn't a Number
+     */
+    @Override
+    public void setValueAt(Object value, int row, int column) {
+        checkRow(row);
+        Object values = columns[column];
+        if (values instanceof int[]) {
+            ((int[]) values)[row] = value != null ? ((Number) value).intValue() : 0;
+        } else if (values instanceof long[]) {
+            ((long[]) values)[row] = value != null ? ((Number) value).longValue() : 0L;
+        } else if (values instanceof double[]) {
+            ((double[]) values)[row] = value != null ? ((Number) value).doubleValue() : 0.0;
+        } else {
+            ((Object[]) values)[row] = columnTypes[column].cast(value);
+        }
+        fireTableCellUpdated(row, column);
+    }
+}
@@ -24,6 +24,7 @@ package org.jdesktop.swingx.table;
 import org.jdesktop.swingx.event.TableColumnModelExtListener;
 
 import javax.swing.event.EventListenerList;
+import javax.swing.event.TableColumnModelEvent;
 import javax.swing.event.TableColumnModelListener;
 import javax.swing.table.DefaultTableColumnModel;
 import javax.swing.table.TableColumn;
@@ -31,13 +32,21 @@ import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * A default implementation of <code>TableColumnModelExt</code>.
  * <p>
  * <p>
+ * The columns are indexed by identifier and the visible columns by their x
+ * position, so that looking up a column by identifier is O(1) and the column at
+ * an x position is found in O(log n). The indices are updated on width changes and
+ * moves and rebuilt lazily after adding, removing, hiding and showing columns.
+ * <p>
+ * <p>
  * TODO: explain sub-optimal notification on showing/hiding columns.
  * (hot fixed issues #156, #157. To really do it
  * need enhanced TableColumnModelEvent and -Listeners that are
@@ -71,6 +80,26 @@ public class DefaultTableColumnModelExt extends DefaultTableColumnModel implemen
      */
     private final VisibilityListener visibilityListener = new VisibilityListener();
 
+    /**
+     * the first of all columns with a given identifier, null if stale.
+     */
+    private transient Map<Object, TableColumn> identifierIndex;
+
+    /**
+     * flag to indicate that columns share an identifier, the index can't be used then.
+     */
+    private transient boolean duplicateIdentifiers;
+
+    /**
+     * the widths of the visible columns, null if stale.
+     */
+    private transient RowHeightIndex columnWidths;
+
+    /**
+     * the positions of the visible columns, null if stale.
+     */
+    private transient Map<TableColumn, Integer> columnPositions;
+
     /**
      * Creates a an empty DefaultTableColumnModelExt.
      */
@@ -87,7 +116,7 @@ public class DefaultTableColumnModelExt extends DefaultTableColumnModel implemen
         if (includeHidden) {
             return new ArrayList<>(initialColumns);
         }
-        return Collections.list(getColumns());
+        return new ArrayList<>(tableColumns);
     }
 
     /**
@@ -106,6 +135,11 @@ public class DefaultTableColumnModelExt extends DefaultTableColumnModel implemen
      */
     @Override
     public TableColumnExt getColumnExt(Object identifier) {
+        Map<Object, TableColumn> index = getIdentifierIndex();
+        if (!duplicateIdentifiers) {
+            TableColumn column = index.get(identifier);
+            return column instanceof TableColumnExt ? (TableColumnExt) column : null;
+        }
         for (TableColumn column : initialColumns) {
             if (column instanceof TableColumnExt && identifier.equals(column.getIdentifier())) {
                 return (TableColumnExt) column;
@@ -154,6 +188,39 @@ public class DefaultTableColumnModelExt extends DefaultTableColumnModel implemen
 
 //------------------------ TableColumnModel
 
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Overridden to look up the column in the identifier index, if identifiers are
+     * unique.
+     */
+    @Override
+    public int getColumnIndex(Object identifier) {
+        if (identifier != null && !getIdentifierIndex().isEmpty() && !duplicateIdentifiers) {
+            TableColumn column = identifierIndex.get(identifier);
+            Integer position = column != null ? getColumnPositions().get(column) : null;
+            if (position == null)
+                throw new IllegalArgumentException("Identifier not found");
+            return position;
+        }
+        return super.getColumnIndex(identifier);
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Overridden to binary search the widths of the visible columns.
+     */
+    @Override
+    public int getColumnIndexAtX(int x) {
+        if (x < 0)
+            return -1;
+        getColumnPositions();
+        if (x >= columnWidths.getTotalSize())
+            return -1;
+        return columnWidths.getIndex(x);
+    }
+
     /**
      * {@inheritDoc} <p>
      * <p>
@@ -218,6 +285,115 @@ public class DefaultTableColumnModelExt extends DefaultTableColumnModel implemen
         super.moveColumn(columnIndex, newIndex);
     }
 
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Overridden to update the identifier index and to drop the position index.
+     */
+    @Override
+    protected void fireColumnAdded(TableColumnModelEvent e) {
+        if (identifierIndex != null && !isVisibilityChange) {
+            TableColumn column = getColumn(e.getToIndex());
+            if (identifierIndex.putIfAbsent(column.getIdentifier(), column) != null) {
+                duplicateIdentifiers = true;
+            }
+        }
+        columnWidths = null;
+        columnPositions = null;
+        super.fireColumnAdded(e);
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Overridden to drop the identifier and position indices.
+     */
+    @Override
+    protected void fireColumnRemoved(TableColumnModelEvent e) {
+        if (!isVisibilityChange) {
+            identifierIndex = null;
+        }
+        columnWidths = null;
+        columnPositions = null;
+        super.fireColumnRemoved(e);
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Overridden to update the positions of the moved columns.
+     */
+    @Override
+    protected void fireColumnMoved(TableColumnModelEvent e) {
+        if (columnPositions != null && e.getFromIndex() != e.getToIndex()) {
+            int first = Math.min(e.getFromIndex(), e.getToIndex());
+            int last = Math.max(e.getFromIndex(), e.getToIndex());
+            for (int i = first; i <= last; i++) {
+                TableColumn column = getColumn(i);
+                columnWidths.setSize(i, column.getWidth());
+                columnPositions.put(column, i);
+            }
+        }
+        super.fireColumnMoved(e);
+    }
+
+    /**
+     * Returns the index of all columns by identifier, rebuilding it if stale. Sets
+     * the duplicateIdentifiers flag.
+     *
+     * @return the first of all columns with a given identifier
+     */
+    private Map<Object, TableColumn> getIdentifierIndex() {
+        if (identifierIndex == null) {
+            duplicateIdentifiers = false;
+            identifierIndex = new HashMap<>();
+            for (TableColumn column : initialColumns) {
+                if (identifierIndex.putIfAbsent(column.getIdentifier(), column) != null) {
+                    duplicateIdentifiers = true;
+                }
+            }
+        }
+        return identifierIndex;
+    }
+
+    /**
+     * Returns the positions of the visible columns, rebuilding them and the widths
+     * if stale.
+     *
+     * @return the positions of the visible columns
+     */
+    private Map<TableColumn, Integer> getColumnPositions() {
+        if (columnPositions == null) {
+            int[] widths = new int[tableColumns.size()];
+            Map<TableColumn, Integer> positions = new IdentityHashMap<>(widths.length);
+            for (int i = 0; i < widths.length; i++) {
+                TableColumn column = tableColumns.get(i);
+                widths[i] = column.getWidth();
+                positions.put(column, i);
+            }
+            columnWidths = new RowHeightIndex(widths);
+            columnPositions = positions;
+        }
+        return columnPositions;
+    }
+
+    /**
+     * Updates the indices after a property change of the given column.
+     *
+     * @param evt the property change of a column
+     */
+    private void updateIndices(PropertyChangeEvent evt) {
+        String property = evt.getPropertyName();
+        if ("width".equals(property)) {
+            Integer position = columnPositions != null ? columnPositions.get(evt.getSource()) : null;
+            if (position != null) {
+                columnWidths.setSize(position, ((TableColumn) evt.getSource()).getWidth());
+            }
+        } else if ("identifier".equals(property) || "headerValue".equals(property)) {
+            identifierIndex = null;
+        }
+    }
+
     /**
      * Adjusts the current column sequence when a visible column is moved.
      *
@@ -292,6 +468,7 @@ public class DefaultTableColumnModelExt extends DefaultTableColumnModel implemen
                     moveToInvisible(columnExt);
                 }
             } else if (!((TableColumnExt) evt.getSource()).isVisible()) {
+                updateIndices(evt);
                 fireColumnPropertyChange(evt);
             }
         }
@@ -313,6 +490,7 @@ public class DefaultTableColumnModelExt extends DefaultTableColumnModel implemen
      */
     @Override
     public void propertyChange(PropertyChangeEvent evt) {
+        updateIndices(evt);
         super.propertyChange(evt);
         fireColumnPropertyChange(evt);
     }
@@ -0,0 +1,474 @@
+package org.jdesktop.swingx.table;
+
+import org.jdesktop.swingx.util.Contract;
+
+import javax.swing.SwingUtilities;
+import javax.swing.table.AbstractTableModel;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Read-only <code>TableModel</code> of a delimited or fixed-width text file, f.i. a
+ * multi-GB CSV or log file. The file is memory-mapped in segments instead of read
+ * into the heap, the heap holds the offsets of the lines and a small cache of parsed
+ * rows only.
+ * <p>
+ * The offsets of the lines are indexed on a background thread, the rows are inserted
+ * progressively as they are found. The cells of a row are parsed from the mapped
+ * bytes when first asked for, the parsed rows are kept in a least-recently-used cache
+ * of {@link #getRowCacheSize()} rows. All cells are Strings, so the table's search,
+ * string values and row filters work on the mapped rows without conversion, one
+ * row parse per row.
+ * <p>
+ * Each line is a row, a trailing CR is dropped. Delimited fields may be quoted with
+ * double quotes, a quote is escaped by doubling it, quoted fields can't span lines.
+ * The number of columns is that of the first line, missing fields are null. The
+ * charset must encode ASCII as single bytes, like UTF-8 or ISO-8859-1.
+ *
+ * <pre><code>
+ * MappedFileTableModel model = new MappedFileTableModel(path, StandardCharsets.UTF_8, ',', true);
+ * JXTable table = new JXTable(model);
+ * ...
+ * model.close();
+ * </code></pre>
+ * <p>
+ * Note: the file must not be modified while mapped. The model is not thread-safe,
+ * all methods except close are meant to be called on the EDT.
+ */
+public class MappedFileTableModel extends AbstractTableModel implements Closeable {
+
+    private static final Logger LOG = Logger.getLogger(MappedFileTableModel.class.getName());
+
+    /**
+     * the default number of parsed rows cached.
+     */
+    public static final int DEFAULT_ROW_CACHE_SIZE = 1024;
+
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+    private static final int CHUNK_SHIFT = 16;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+    /**
+     * the number of lines indexed between progressive inserts.
+     */
+    private static final int PUBLISH_LINES = 1 << 16;
+
+    private static final byte QUOTE = '"';
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] segments;
+    private final long size;
+    private final Charset charset;
+
+    /**
+     * the delimiter of delimited files, -1 for fixed-width files.
+     */
+    private final int delimiter;
+
+    /**
+     * the widths in bytes of the columns of fixed-width files, null for delimited files.
+     */
+    private final int[] columnWidths;
+
+    private final String[] columnNames;
+    private final int columnCount;
+
+    /**
+     * the start offsets of the indexed lines in chunks, written by the indexer. The
+     * end of line i is the start of line i + 1 minus the line feed.
+     */
+    private long[][] lineOffsets;
+    private int rowCount;
+    private boolean indexed;
+    private volatile boolean closed;
+
+    private int rowCacheSize = DEFAULT_ROW_CACHE_SIZE;
+    private final LinkedHashMap<Integer, String[]> rowCache = new LinkedHashMap<Integer, String[]>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, String[]> eldest) {
+            return size() > rowCacheSize;
+        }
+    };
+
+    /**
+     * Creates a model of the given delimited file and starts indexing its lines.
+     *
+     * @param file      the file to map, must not be null
+     * @param charset   the charset of the file, must not be null
+     * @param delimiter the delimiter of the fields, an ASCII character
+     * @param header    true if the first line holds the names of the columns
+     * @throws IOException              if the file can't be opened or mapped
+     * @throws IllegalArgumentException if the delimiter isn't ASCII or the charset doesn't
+     *                                  encode ASCII as single bytes
+     */
+    public MappedFileTableModel(Path file, Charset charset, char delimiter, boolean header) throws IOException {
+        this(file, charset, delimiter, null, header);
+    }
+
+    /**
+     * Creates a model of the given fixed-width file and starts indexing its lines.
+     * The fields are trimmed.
+     *
+     * @param file         the file to map, must not be null
+     * @param charset      the charset of the file, must not be null
+     * @param columnWidths the widths of the columns in bytes, must not be null
+     * @param header       true if the first line holds the names of the columns
+     * @throws IOException              if the file can't be opened or mapped
+     * @throws IllegalArgumentException if a width isn't positive or the charset doesn't
+     *                                  encode ASCII as single bytes
+     */
+    public MappedFileTableModel(Path file, Charset charset, int[] columnWidths, boolean header) throws IOException {
+        this(file, charset, -1, Contract.asNotNull(columnWidths, "columnWidths must not be null").clone(), header);
+    }
+
+    private MappedFileTableModel(Path file, Charset charset, int delimiter, int[] columnWidths,
+                                 boolean header) throws IOException {
+        Contract.asNotNull(file, "file must not be null");
+        this.charset = Contract.asNotNull(charset, "charset must not be null");
+        if (!Arrays.equals("\n\",;|\t ".getBytes(charset), "\n\",;|\t ".getBytes(StandardCharsets.US_ASCII)))
+            throw new IllegalArgumentException("charset must encode ASCII as single bytes but was: " + charset);
+        if (columnWidths == null && (delimiter >= 0x80 || delimiter == '\n' || delimiter == '\r' || delimiter == QUOTE))
+            throw new IllegalArgumentException("delimiter must be an ASCII character but was: " + (char) delimiter);
+        if (columnWidths != null) {
+            for (int width : columnWidths) {
+                if (width <= 0)
+                    throw new IllegalArgumentException("columnWidths must be positive but was: " + width);
+            }
+        }
+        this.delimiter = delimiter;
+        this.columnWidths = columnWidths;
+        channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            size = channel.size();
+            segments = new MappedByteBuffer[(int) ((size + SEGMENT_MASK) >>> SEGMENT_SHIFT)];
+            for (int i = 0; i < segments.length; i++) {
+                long position = (long) i << SEGMENT_SHIFT;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(size - position, 1L << SEGMENT_SHIFT));
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        long firstEnd = findLineEnd(0);
+        String[] first = parseLine(0, firstEnd);
+        columnCount = columnWidths != null ? columnWidths.length : first.length;
+        columnNames = header ? first : null;
+        long start = header ? Math.min(size, firstEnd + 1) : 0;
+        lineOffsets = new long[1][];
+        lineOffsets[0] = new long[CHUNK_SIZE];
+        lineOffsets[0][0] = start;
+        Thread indexer = new Thread(() -> index(start), "MappedFileTableModel");
+        indexer.setDaemon(true);
+        indexer.start();
+    }
+
+    //------------------ index
+
+    /**
+     * Indexes the lines from the given offset, publishing them in batches on the EDT.
+     */
+    private void index(long start) {
+        long[][] offsets = lineOffsets;
+        int count = 0;
+        int published = 0;
+        byte[] buffer = new byte[1 << 16];
+        long position = start;
+        try {
+            while (position < size && !closed) {
+                int length = (int) Math.min(buffer.length, size - position);
+                readBytes(position, buffer, length);
+                for (int i = 0; i < length; i++) {
+                    if (buffer[i] == '\n') {
+                        offsets = setOffset(offsets, ++count, position + i + 1);
+                    }
+                }
+                position += length;
+                if (count - published >= PUBLISH_LINES) {
+                    publish(offsets, count, false);
+                    published = count;
+                }
+            }
+            // an unterminated last line, its end is the end of the file
+            if (!closed && getOffset(offsets, count) < size) {
+                offsets = setOffset(offsets, ++count, size + 1);
+            }
+        } catch (RuntimeException | Error e) {
+            LOG.log(Level.WARNING, "indexing lines failed", e);
+        }
+        publish(offsets, count, true);
+    }
+
+    private static long[][] setOffset(long[][] offsets, int line, long offset) {
+        int chunk = line >>> CHUNK_SHIFT;
+        if (chunk == offsets.length) {
+            offsets = Arrays.copyOf(offsets, chunk + 1);
+        }
+        if (offsets[chunk] == null) {
+            offsets[chunk] = new long[CHUNK_SIZE];
+        }
+        offsets[chunk][line & (CHUNK_SIZE - 1)] = offset;
+        return offsets;
+    }
+
+    private static long getOffset(long[][] offsets, int line) {
+        return offsets[line >>> CHUNK_SHIFT][line & (CHUNK_SIZE - 1)];
+    }
+
+    /**
+     * Hands the offsets to the EDT. The indexer only writes offsets beyond count
+     * afterwards, so the published ones are safe to read.
+     */
+    private void publish(long[][] offsets, int count, boolean done) {
+        SwingUtilities.invokeLater(() -> {
+            if (closed)
+                return;
+            int old = rowCount;
+            lineOffsets = offsets;
+            rowCount = count;
+            indexed = done;
+            if (count > old) {
+                fireTableRowsInserted(old, count - 1);
+            }
+        });
+    }
+
+    /**
+     * Returns a boolean indicating whether all lines are indexed.
+     *
+     * @return true if all lines are indexed and inserted
+     */
+    public boolean isIndexed() {
+        return indexed;
+    }
+
+    //------------------ mapped bytes
+
+    private void readBytes(long position, byte[] bytes, int length) {
+        int done = 0;
+        while (done < length) {
+            long current = position + done;
+            ByteBuffer segment = segments[(int) (current >>> SEGMENT_SHIFT)].duplicate();
+            segment.position((int) (current & SEGMENT_MASK));
+            int count = Math.min(length - done, segment.remaining());
+            segment.get(bytes, done, count);
+            done += count;
+        }
+    }
+
+    /**
+     * Returns the offset of the line feed ending the line at the given offset, or
+     * the size of the file if unterminated.
+     */
+    private long findLineEnd(long position) {
+        byte[] buffer = new byte[8192];
+        while (position < size) {
+            int length = (int) Math.min(buffer.length, size - position);
+            readBytes(position, buffer, length);
+            for (int i = 0; i < length; i++) {
+                if (buffer[i] == '\n')
+                    return position + i;
+            }
+            position += length;
+        }
+        return size;
+    }
+
+    //------------------ parsing
+
+    private String[] getRow(int row) {
+        String[] values = rowCache.get(row);
+        if (values == null) {
+            long start = getOffset(lineOffsets, row);
+            long end = getOffset(lineOffsets, row + 1) - 1;
+            values = parseLine(start, end);
+            if (rowCacheSize > 0) {
+                rowCache.put(row, values);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Parses the fields of the line between the given offsets, the end excluding.
+     */
+    private String[] parseLine(long start, long end) {
+        byte[] line = new byte[(int) (end - start)];
+        readBytes(start, line, line.length);
+        int length = line.length;
+        if (length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+        return columnWidths != null ? parseFixedWidth(line, length) : parseDelimited(line, length);
+    }
+
+    private String[] parseFixedWidth(byte[] line, int length) {
+        String[] values = new String[columnWidths.length];
+        int position = 0;
+        for (int column = 0; column < values.length && position < length; column++) {
+            int from = position;
+            int to = Math.min(length, position + columnWidths[column]);
+            position = to;
+            while (from < to && line[from] == ' ') {
+                from++;
+            }
+            while (to > from && line[to - 1] == ' ') {
+                to--;
+            }
+            values[column] = new String(line, from, to - from, charset);
+        }
+        return values;
+    }
+
+    /**
+     * Parses the fields separated by the delimiter, the first line's fields are
+     * all taken to determine the column count.
+     */
+    private String[] parseDelimited(byte[] line, int length) {
+        String[] values = new String[columnCount > 0 ? columnCount : countFields(line, length)];
+        int position = 0;
+        for (int column = 0; column < values.length && position <= length; column++) {
+            if (position < length && line[position] == QUOTE) {
+                // unescape in place, the quoted value never gets longer
+                int to = ++position;
+                int from = to;
+                while (position < length) {
+                    byte b = line[position++];
+                    if (b == QUOTE) {
+                        if (position < length && line[position] == QUOTE) {
+                            position++;
+                        } else {
+                            break;
+                        }
+                    }
+                    line[to++] = b;
+                }
+                while (position < length && line[position] != delimiter) {
+                    position++;
+                }
+                values[column] = new String(line, from, to - from, charset);
+            } else {
+                int from = position;
+                while (position < length && line[position] != delimiter) {
+                    position++;
+                }
+                values[column] = new String(line, from, position - from, charset);
+            }
+            // skip the delimiter
+            position++;
+        }
+        return values;
+    }
+
+    private int countFields(byte[] line, int length) {
+        int count = 1;
+        boolean quoted = false;
+        for (int i = 0; i < length; i++) {
+            if (line[i] == QUOTE) {
+                quoted = !quoted;
+            } else if (line[i] == delimiter && !quoted) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    //------------------ properties
+
+    /**
+     * Sets the number of parsed rows cached. The default value is
+     * {@link #DEFAULT_ROW_CACHE_SIZE}.
+     *
+     * @param rowCacheSize the number of parsed rows cached, 0 to parse on every access
+     * @throws IllegalArgumentException if rowCacheSize is negative
+     */
+    public void setRowCacheSize(int rowCacheSize) {
+        if (rowCacheSize < 0)
+            throw new IllegalArgumentException("rowCacheSize must not be negative but was: " + rowCacheSize);
+        this.rowCacheSize = rowCacheSize;
+        if (rowCache.size() > rowCacheSize) {
+            rowCache.clear();
+        }
+    }
+
+    /**
+     * @return the number of parsed rows cached.
+     */
+    public int getRowCacheSize() {
+        return rowCacheSize;
+    }
+
+    /**
+     * @return the size of the file in bytes.
+     */
+    public long getFileSize() {
+        return size;
+    }
+
+    /**
+     * Stops indexing and closes the file. The rows indexed so far stay accessible
+     * until the mapping is garbage collected, no more rows are inserted.
+     *
+     * @throws IOException if closing the file fails
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        channel.close();
+    }
+
+    //------------------ TableModel
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnCount;
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Implemented to return the field of the header line, if any.
+     */
+    @Override
+    public String getColumnName(int column) {
+        if (columnNames != null && column < columnNames.length && columnNames[column] != null)
+            return columnNames[column];
+        return super.getColumnName(column);
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return String.class;
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Implemented to return the field parsed from the mapped line, null if the line
+     * has fewer fields.
+     */
+    @Override
+    public Object getValueAt(int row, int column) {
+        if (row < 0 || row >= rowCount)
+            throw new IndexOutOfBoundsException("row must be >= 0 and < " + rowCount + " but was: " + row);
+        return getRow(row)[column];
+    }
+}
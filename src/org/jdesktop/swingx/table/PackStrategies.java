@@ -0,0 +1,135 @@
+package org.jdesktop.swingx.table;
+
+import org.jdesktop.swingx.JXTable;
+
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.util.Arrays;
+
+/**
+ * A collection of common {@link PackStrategy} implementations.
+ *
+ * @see ColumnFactory#setPackStrategy(PackStrategy)
+ */
+public final class PackStrategies {
+
+    /**
+     * Strategy to measure each and every row.
+     */
+    public static final PackStrategy EXACT = (table, column, rowCount, deadline) -> null;
+
+    /**
+     * Returns a strategy which measures a bounded sample of rows: the first and
+     * last <code>edgeRows</code>, the rows currently visible and the
+     * <code>longestRows</code> rows with the longest string representation
+     * (as returned by <code>JXTable.getStringAt</code>). Tables with not more
+     * rows than the sample size are measured exactly.
+     * <p>
+     * Note: finding the rows with the longest text still accesses all rows,
+     * but it is much cheaper than measuring them.
+     *
+     * @param edgeRows    the number of rows to measure at the start and end of the table
+     * @param longestRows the number of rows with the longest text to measure
+     * @return a sampling strategy
+     * @throws IllegalArgumentException if any of the parameters is negative
+     */
+    public static PackStrategy sampling(int edgeRows, int longestRows) {
+        return new SamplingPackStrategy(edgeRows, longestRows);
+    }
+
+    private static class SamplingPackStrategy implements PackStrategy {
+
+        private final int edgeRows;
+        private final int longestRows;
+
+        SamplingPackStrategy(int edgeRows, int longestRows) {
+            if (edgeRows < 0 || longestRows < 0)
+                throw new IllegalArgumentException("sample sizes must be >= 0");
+            this.edgeRows = edgeRows;
+            this.longestRows = longestRows;
+        }
+
+        @Override
+        public int[] getRowsToMeasure(JXTable table, int column, int rowCount, long deadline) {
+            int firstVisible = 0;
+            int lastVisible = -1;
+            Rectangle visible = table.getVisibleRect();
+            if (!visible.isEmpty()) {
+                firstVisible = Math.max(table.rowAtPoint(visible.getLocation()), 0);
+                lastVisible = table.rowAtPoint(new Point(visible.x, visible.y + visible.height - 1));
+                if (lastVisible < 0) {
+                    lastVisible = rowCount - 1;
+                }
+                lastVisible = Math.min(lastVisible, rowCount - 1);
+            }
+            int visibleCount = Math.max(lastVisible - firstVisible + 1, 0);
+            int sampleSize = 2 * edgeRows + visibleCount + longestRows;
+            if (rowCount <= sampleSize)
+                return null;
+            int[] rows = new int[sampleSize];
+            int size = 0;
+            for (int r = 0; r < edgeRows; r++) {
+                rows[size++] = r;
+                rows[size++] = rowCount - 1 - r;
+            }
+            for (int r = firstVisible; r <= lastVisible; r++) {
+                rows[size++] = r;
+            }
+            size = addLongestRows(table, column, rowCount, deadline, rows, size);
+            rows = Arrays.copyOf(rows, size);
+            Arrays.sort(rows);
+            return distinct(rows);
+        }
+
+        /**
+         * Adds the rows with the longest text to the given rows, starting at size.
+         * Returns the new size.
+         */
+        private int addLongestRows(JXTable table, int column, int rowCount, long deadline, int[] rows, int size) {
+            if (longestRows == 0)
+                return size;
+            int[] longest = new int[longestRows];
+            int[] lengths = new int[longestRows];
+            Arrays.fill(lengths, -1);
+            // index of the shortest of the longest found so far
+            int min = 0;
+            for (int r = 0; r < rowCount; r++) {
+                if ((r & 0x3FF) == 0 && deadline != Long.MAX_VALUE && System.nanoTime() - deadline > 0)
+                    break;
+                String text = table.getStringAt(r, column);
+                int length = text != null ? text.length() : 0;
+                if (length > lengths[min]) {
+                    lengths[min] = length;
+                    longest[min] = r;
+                    for (int i = 0; i < lengths.length; i++) {
+                        if (lengths[i] < lengths[min]) {
+                            min = i;
+                        }
+                    }
+                }
+            }
+            for (int i = 0; i < lengths.length; i++) {
+                if (lengths[i] >= 0) {
+                    rows[size++] = longest[i];
+                }
+            }
+            return size;
+        }
+
+        /**
+         * Returns the given sorted array without duplicates.
+         */
+        private static int[] distinct(int[] sorted) {
+            int size = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (size == 0 || sorted[size - 1] != sorted[i]) {
+                    sorted[size++] = sorted[i];
+                }
+            }
+            return Arrays.copyOf(sorted, size);
+        }
+    }
+
+    private PackStrategies() {
+    }
+}
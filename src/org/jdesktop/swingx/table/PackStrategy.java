@@ -0,0 +1,33 @@
+package org.jdesktop.swingx.table;
+
+import org.jdesktop.swingx.JXTable;
+
+/**
+ * Strategy to select the rows a <code>ColumnFactory</code> measures when packing
+ * a column. Measuring a cell requires to prepare and lay out its rendering
+ * component, so tables with many rows may want to measure a representative
+ * sample only.
+ *
+ * @see PackStrategies
+ * @see ColumnFactory#setPackStrategy(PackStrategy)
+ */
+public interface PackStrategy {
+
+    /**
+     * Returns the rows to measure for packing the given column, in ascending order.
+     * A return value of null indicates that all rows should be measured.
+     * <p>
+     * Implementations which need to loop through the rows to make their choice
+     * should stop looping when the deadline is reached and return the selection
+     * found so far.
+     *
+     * @param table    the table containing the column
+     * @param column   the column to pack in view coordinates
+     * @param rowCount the number of rows accessible, as returned by the ColumnFactory
+     * @param deadline the value of <code>System.nanoTime()</code> after which
+     *                 selecting the rows should stop, <code>Long.MAX_VALUE</code>
+     *                 if unlimited
+     * @return the view indices of the rows to measure, or null for all rows
+     */
+    int[] getRowsToMeasure(JXTable table, int column, int rowCount, long deadline);
+}
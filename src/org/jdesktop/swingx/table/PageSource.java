@@ -0,0 +1,64 @@
+package org.jdesktop.swingx.table;
+
+import javax.swing.RowFilter;
+import javax.swing.RowSorter.SortKey;
+import javax.swing.table.TableModel;
+import java.util.List;
+
+/**
+ * Source of the rows of a <code>PagedTableModel</code>, like a database query or a
+ * large file. The rows are fetched in pages on a background thread, sorted and
+ * filtered by the source.
+ * <p>
+ * The sort keys and the row filter are those of the table's sorter. Sources may
+ * evaluate the filter on their rows, see {@link ArrayPageSource}, or translate the
+ * filters they know to their query language.
+ * <p>
+ * Note: the row methods are called on background threads, possibly concurrently.
+ * The column methods are called on the EDT and must return constant values.
+ *
+ * @see PagedTableModel
+ */
+public interface PageSource {
+
+    /**
+     * @return the number of columns
+     */
+    int getColumnCount();
+
+    /**
+     * @param column the column
+     * @return the name of the column
+     */
+    String getColumnName(int column);
+
+    /**
+     * @param column the column
+     * @return the class of the values of the column
+     */
+    Class<?> getColumnClass(int column);
+
+    /**
+     * Returns the number of rows included by the given filter. Called on a
+     * background thread.
+     *
+     * @param filter the row filter, null for all rows
+     * @return the number of rows
+     * @throws Exception if the rows can't be counted
+     */
+    int getRowCount(RowFilter<? super TableModel, ? super Integer> filter) throws Exception;
+
+    /**
+     * Returns the given range of rows included by the filter, in the order of the
+     * sort keys. Called on a background thread.
+     *
+     * @param firstRow the first row to return
+     * @param rowCount the number of rows to return
+     * @param sortKeys the sort keys to order the rows by, in model columns, may be empty
+     * @param filter   the row filter, null for all rows
+     * @return the values per row and column, fewer rows if the end is reached
+     * @throws Exception if the rows can't be fetched
+     */
+    Object[][] getRows(int firstRow, int rowCount, List<? extends SortKey> sortKeys,
+                       RowFilter<? super TableModel, ? super Integer> filter) throws Exception;
+}
@@ -0,0 +1,466 @@
+package org.jdesktop.swingx.table;
+
+import org.jdesktop.swingx.util.Contract;
+
+import javax.swing.RowFilter;
+import javax.swing.RowSorter.SortKey;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import javax.swing.table.AbstractTableModel;
+import javax.swing.table.TableModel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <code>TableModel</code> for tables too large to keep in memory. The rows are fetched
+ * in pages of fixed size from a {@link PageSource} on a background executor, when first
+ * asked for. Until a page arrives, its cells show a placeholder, then the rows are
+ * updated. The pages are kept in a least-recently-used cache up to a budget of
+ * (estimated) bytes, except for the pages of the visible rows. A page whose fetch
+ * failed is fetched again when asked for after a delay, doubling with every failure.
+ * <p>
+ * Sorting and filtering are delegated to the source: a JXTable showing this model
+ * installs a {@link org.jdesktop.swingx.sort.PagedSortController}, which passes its
+ * sort keys and row filter to {@link #setQuery(List, RowFilter)}. The model re-counts its
+ * rows and fetches the pages of the new query, the view maps rows one to one.
+ *
+ * <pre><code>
+ * PagedTableModel model = new PagedTableModel(new ArrayPageSource(names, classes, rows));
+ * JXTable table = new JXTable(model);
+ * </code></pre>
+ * <p>
+ * Note: the model is not thread-safe, all methods are meant to be called on the EDT.
+ *
+ * @see ColumnFactory#getRowCount(org.jdesktop.swingx.JXTable)
+ */
+public class PagedTableModel extends AbstractTableModel {
+
+    private static final Logger LOG = Logger.getLogger(PagedTableModel.class.getName());
+
+    /**
+     * the default number of rows per page.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 500;
+
+    /**
+     * the default budget of the page cache in bytes.
+     */
+    public static final long DEFAULT_CACHE_BUDGET = 64L * 1024 * 1024;
+
+    /**
+     * the default placeholder of the cells of pages not yet fetched.
+     */
+    public static final Object LOADING = new Object() {
+        @Override
+        public String toString() {
+            return "...";
+        }
+    };
+
+    private static final int FIRST_RETRY_DELAY = 500;
+
+    private static final int MAX_RETRY_DELAY = 30000;
+
+    private static ExecutorService defaultExecutor;
+
+    private final PageSource source;
+    private final Executor executor;
+    private final int pageSize;
+
+    /**
+     * the cached pages by index, in access order.
+     */
+    private final LinkedHashMap<Integer, Page> pages = new LinkedHashMap<>(16, 0.75f, true);
+    private final Set<Integer> pendingPages = new HashSet<>();
+
+    /**
+     * the count of failed fetches by page index, reset when fetched.
+     */
+    private final Map<Integer, Integer> failedPages = new HashMap<>();
+    private long cacheBudget = DEFAULT_CACHE_BUDGET;
+    private long cachedBytes;
+
+    private Object placeholder = LOADING;
+    private List<SortKey> sortKeys = Collections.emptyList();
+    private RowFilter<? super TableModel, ? super Integer> rowFilter;
+    private int rowCount;
+    private int firstVisibleRow;
+    private int lastVisibleRow = -1;
+
+    /**
+     * incremented on every query, results of former queries are dropped.
+     */
+    private int generation;
+
+    /**
+     * Creates a model of the given source with the default page size, fetching on
+     * a shared pool of daemon threads.
+     *
+     * @param source the source of the rows, must not be null
+     */
+    public PagedTableModel(PageSource source) {
+        this(source, getDefaultExecutor(), DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Creates a model of the given source.
+     *
+     * @param source   the source of the rows, must not be null
+     * @param executor the executor to fetch on, must not be null
+     * @param pageSize the number of rows per page
+     * @throws IllegalArgumentException if pageSize is not positive
+     */
+    public PagedTableModel(PageSource source, Executor executor, int pageSize) {
+        this.source = Contract.asNotNull(source, "source must not be null");
+        this.executor = Contract.asNotNull(executor, "executor must not be null");
+        if (pageSize <= 0)
+            throw new IllegalArgumentException("pageSize must be positive but was: " + pageSize);
+        this.pageSize = pageSize;
+        query();
+    }
+
+    private static synchronized Executor getDefaultExecutor() {
+        if (defaultExecutor == null) {
+            defaultExecutor = Executors.newFixedThreadPool(2, runnable -> {
+                Thread thread = new Thread(runnable, "PagedTableModel");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return defaultExecutor;
+    }
+
+    /**
+     * @return the source of the rows
+     */
+    public PageSource getSource() {
+        return source;
+    }
+
+    /**
+     * @return the number of rows per page
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    //------------------ query
+
+    /**
+     * Sets the order and filter of the rows, to be applied by the source. Does
+     * nothing if both are unchanged, otherwise the rows are re-counted and re-fetched.
+     *
+     * @param sortKeys the sort keys in model columns, null for unsorted
+     * @param filter   the row filter, null for all rows
+     */
+    public void setQuery(List<? extends SortKey> sortKeys, RowFilter<? super TableModel, ? super Integer> filter) {
+        List<SortKey> keys = sortKeys != null ? Collections.unmodifiableList(new ArrayList<>(sortKeys))
+                                              : Collections.emptyList();
+        if (keys.equals(this.sortKeys) && Objects.equals(filter, rowFilter))
+            return;
+        this.sortKeys = keys;
+        this.rowFilter = filter;
+        query();
+    }
+
+    /**
+     * @return the sort keys of the query, unmodifiable
+     */
+    public List<SortKey> getSortKeys() {
+        return sortKeys;
+    }
+
+    /**
+     * @return the row filter of the query, may be null
+     */
+    public RowFilter<? super TableModel, ? super Integer> getRowFilter() {
+        return rowFilter;
+    }
+
+    /**
+     * Discards all pages and re-counts the rows, f.i. after the data of the source
+     * changed or fetching failed. The rows are updated when the count arrives.
+     */
+    public void refresh() {
+        query();
+    }
+
+    /**
+     * Starts a new query: discards all pages and re-counts the rows.
+     */
+    private void query() {
+        int current = ++generation;
+        clearPages();
+        RowFilter<? super TableModel, ? super Integer> filter = rowFilter;
+        executor.execute(() -> {
+            int count;
+            try {
+                count = source.getRowCount(filter);
+            } catch (Exception e) {
+                LOG.log(Level.WARNING, "counting rows failed", e);
+                return;
+            }
+            SwingUtilities.invokeLater(() -> countFetched(current, count));
+        });
+        fireTableDataChanged();
+    }
+
+    private void countFetched(int current, int count) {
+        if (current != generation)
+            return;
+        rowCount = count;
+        fireTableDataChanged();
+    }
+
+    //------------------ pages
+
+    /**
+     * Returns a boolean indicating whether the given row is fetched.
+     *
+     * @param row the row
+     * @return true if the row's page is cached
+     */
+    public boolean isLoaded(int row) {
+        return pages.containsKey(row / pageSize);
+    }
+
+    private Object[] getRow(int row) {
+        int index = row / pageSize;
+        Page page = pages.get(index);
+        if (page == null) {
+            fetchPage(index);
+            return null;
+        }
+        int offset = row - index * pageSize;
+        return offset < page.rows.length ? page.rows[offset] : null;
+    }
+
+    private void fetchPage(int index) {
+        if (!pendingPages.add(index))
+            return;
+        int current = generation;
+        List<SortKey> keys = sortKeys;
+        RowFilter<? super TableModel, ? super Integer> filter = rowFilter;
+        executor.execute(() -> {
+            Object[][] rows;
+            try {
+                rows = source.getRows(index * pageSize, pageSize, keys, filter);
+            } catch (Exception e) {
+                LOG.log(Level.WARNING, "fetching page " + index + " failed", e);
+                SwingUtilities.invokeLater(() -> pageFailed(current, index));
+                return;
+            }
+            SwingUtilities.invokeLater(() -> pageFetched(current, index, rows));
+        });
+    }
+
+    /**
+     * Keeps the failed page pending for the delay of the retry, then updates its
+     * rows to fetch it again if still asked for.
+     */
+    private void pageFailed(int current, int index) {
+        if (current != generation)
+            return;
+        int failures = failedPages.merge(index, 1, Integer::sum);
+        int delay = (int) Math.min(MAX_RETRY_DELAY, (long) FIRST_RETRY_DELAY << Math.min(failures - 1, 16));
+        Timer timer = new Timer(delay, e -> {
+            if (current != generation)
+                return;
+            pendingPages.remove(index);
+            firePageUpdated(index);
+        });
+        timer.setRepeats(false);
+        timer.start();
+    }
+
+    private void pageFetched(int current, int index, Object[][] rows) {
+        if (current != generation)
+            return;
+        pendingPages.remove(index);
+        failedPages.remove(index);
+        Page page = new Page(rows, estimateBytes(rows));
+        pages.put(index, page);
+        cachedBytes += page.bytes;
+        evictPages();
+        firePageUpdated(index);
+    }
+
+    /**
+     * Notifies the listeners that the rows of the given page were updated.
+     */
+    private void firePageUpdated(int index) {
+        int firstRow = index * pageSize;
+        int lastRow = Math.min(rowCount, firstRow + pageSize) - 1;
+        if (firstRow <= lastRow) {
+            fireTableRowsUpdated(firstRow, lastRow);
+        }
+    }
+
+    /**
+     * Removes the least recently used pages while over budget, but neither the most
+     * recent one nor those of the visible rows.
+     */
+    private void evictPages() {
+        Iterator<Map.Entry<Integer, Page>> iterator = pages.entrySet().iterator();
+        while (cachedBytes > cacheBudget && iterator.hasNext()) {
+            Map.Entry<Integer, Page> entry = iterator.next();
+            if (iterator.hasNext() && !isVisible(entry.getKey())) {
+                cachedBytes -= entry.getValue().bytes;
+                iterator.remove();
+            }
+        }
+    }
+
+    private boolean isVisible(int index) {
+        return (long) index * pageSize <= lastVisibleRow && (long) (index + 1) * pageSize > firstVisibleRow;
+    }
+
+    private void clearPages() {
+        pages.clear();
+        pendingPages.clear();
+        failedPages.clear();
+        cachedBytes = 0;
+    }
+
+    /**
+     * Sets the rows shown by the view. Their pages are kept in the cache even if
+     * above the budget, so that they aren't fetched again on every repaint. JXTable
+     * sets the rows it paints.
+     *
+     * @param firstRow the first visible row
+     * @param lastRow  the last visible row, less than firstRow if none
+     */
+    public void setVisibleRows(int firstRow, int lastRow) {
+        firstVisibleRow = firstRow;
+        lastVisibleRow = lastRow;
+    }
+
+    /**
+     * Returns the estimated memory of the given page. This implementation assumes
+     * 24 bytes per value and the overhead of the arrays. Subclasses may override
+     * to estimate more precisely.
+     *
+     * @param rows the rows of the page
+     * @return the estimated memory of the page in bytes
+     */
+    protected long estimateBytes(Object[][] rows) {
+        long bytes = 16 + 8L * rows.length;
+        for (Object[] row : rows) {
+            bytes += 16 + (8 + 24L) * row.length;
+        }
+        return bytes;
+    }
+
+    /**
+     * Sets the budget of the page cache. The least recently used pages are evicted
+     * while above it. The default value is {@link #DEFAULT_CACHE_BUDGET}.
+     *
+     * @param bytes the budget of the page cache in bytes
+     * @throws IllegalArgumentException if bytes is negative
+     */
+    public void setCacheBudget(long bytes) {
+        if (bytes < 0)
+            throw new IllegalArgumentException("bytes must not be negative but was: " + bytes);
+        cacheBudget = bytes;
+        evictPages();
+    }
+
+    /**
+     * @return the budget of the page cache in bytes.
+     */
+    public long getCacheBudget() {
+        return cacheBudget;
+    }
+
+    /**
+     * @return the estimated memory of the cached pages in bytes.
+     */
+    public long getCachedBytes() {
+        return cachedBytes;
+    }
+
+    /**
+     * @return the number of cached pages.
+     */
+    public int getCachedPageCount() {
+        return pages.size();
+    }
+
+    /**
+     * Sets the value shown in the cells of pages not yet fetched. The default value
+     * is {@link #LOADING}.
+     *
+     * @param placeholder the value of cells not yet fetched, may be null
+     */
+    public void setPlaceholder(Object placeholder) {
+        this.placeholder = placeholder;
+    }
+
+    /**
+     * @return the value shown in the cells of pages not yet fetched.
+     */
+    public Object getPlaceholder() {
+        return placeholder;
+    }
+
+    //------------------ TableModel
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return source.getColumnCount();
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return source.getColumnName(column);
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return source.getColumnClass(column);
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     * <p>
+     * Implemented to return the placeholder and to fetch the row's page if it
+     * isn't cached.
+     */
+    @Override
+    public Object getValueAt(int row, int column) {
+        Object[] values = getRow(row);
+        return values != null ? values[column] : placeholder;
+    }
+
+    /**
+     * A fetched page.
+     */
+    private static class Page {
+
+        private final Object[][] rows;
+        private final long bytes;
+
+        Page(Object[][] rows, long bytes) {
+            this.rows = rows;
+            this.bytes = bytes;
+        }
+    }
+}
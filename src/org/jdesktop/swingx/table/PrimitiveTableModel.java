@@ -0,0 +1,48 @@
+package org.jdesktop.swingx.table;
+
+import javax.swing.table.TableModel;
+
+/**
+ * <code>TableModel</code> which provides the values of some of its columns as
+ * primitives, without boxing. The columns of type <code>int</code> and <code>long</code>
+ * are accessed by {@link #getLongAt(int, int)}, all primitive columns by
+ * {@link #getDoubleAt(int, int)}.
+ * <p>
+ * <code>getValueAt</code> returns the boxed values and <code>getColumnClass</code> the
+ * wrapper classes as usual. Renderers, sorters and highlighters of SwingX access the
+ * primitive columns by the typed accessors where possible.
+ *
+ * @see ColumnarTableModel
+ */
+public interface PrimitiveTableModel extends TableModel {
+
+    /**
+     * Returns the primitive type of the given column: <code>int.class</code>,
+     * <code>long.class</code>, <code>double.class</code>, or null if the column
+     * isn't primitive.
+     *
+     * @param column the column in model coordinates
+     * @return the primitive type of the column or null
+     */
+    Class<?> getPrimitiveType(int column);
+
+    /**
+     * Returns the value of a cell in a column of type int or long.
+     *
+     * @param row    the row in model coordinates
+     * @param column the column in model coordinates
+     * @return the value of the cell
+     * @throws IllegalArgumentException if the column isn't of type int or long
+     */
+    long getLongAt(int row, int column);
+
+    /**
+     * Returns the value of a cell in a primitive column.
+     *
+     * @param row    the row in model coordinates
+     * @param column the column in model coordinates
+     * @return the value of the cell
+     * @throws IllegalArgumentException if the column isn't primitive
+     */
+    double getDoubleAt(int row, int column);
+}
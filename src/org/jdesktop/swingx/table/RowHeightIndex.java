@@ -0,0 +1,164 @@
+package org.jdesktop.swingx.table;
+
+import org.jdesktop.swingx.util.Contract;
+
+import java.util.Arrays;
+
+/**
+ * Sequence of row heights with the positions of the rows indexed in a Fenwick tree.
+ * Like <code>javax.swing.SizeSequence</code>, but changing a height and querying the
+ * position of a row or the row at a position are O(log n), and setting all heights
+ * is O(n). JXTable uses it for tables with variable row heights, and
+ * DefaultTableColumnModelExt for the widths of the visible columns.
+ * <p>
+ * Inserting and removing entries isn't supported, the sequence is rebuilt instead.
+ *
+ * @see org.jdesktop.swingx.JXTable#setRowHeight(int, int)
+ */
+public class RowHeightIndex {
+
+    private int[] sizes;
+
+    /**
+     * the Fenwick tree, 1-based: tree[i] is the sum of the sizes in (i - lowbit(i), i].
+     */
+    private int[] tree;
+
+    /**
+     * Creates an empty sequence.
+     */
+    public RowHeightIndex() {
+        this(new int[0]);
+    }
+
+    /**
+     * Creates a sequence of the given sizes.
+     *
+     * @param sizes the sizes of the entries, must not be null
+     */
+    public RowHeightIndex(int[] sizes) {
+        setSizes(sizes);
+    }
+
+    /**
+     * Replaces all entries by the given sizes, in O(n).
+     *
+     * @param sizes the sizes of the entries, must not be null
+     */
+    public void setSizes(int[] sizes) {
+        Contract.asNotNull(sizes, "sizes must not be null");
+        this.sizes = sizes.clone();
+        int n = sizes.length;
+        tree = new int[n + 1];
+        System.arraycopy(sizes, 0, tree, 1, n);
+        for (int i = 1; i <= n; i++) {
+            int parent = i + (i & -i);
+            if (parent <= n) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+
+    /**
+     * Sets the size of the given range of entries. Updates the entries one by one
+     * for short ranges and rebuilds the tree for long ones.
+     *
+     * @param start  the first entry
+     * @param length the number of entries
+     * @param size   the size of the entries
+     * @throws IndexOutOfBoundsException if the range isn't within the entries
+     */
+    public void setSizes(int start, int length, int size) {
+        if (start < 0 || length < 0 || start + length > sizes.length)
+            throw new IndexOutOfBoundsException("range must be within 0 and " + sizes.length
+                + " but was: " + start + " + " + length);
+        if ((long) length * (32 - Integer.numberOfLeadingZeros(sizes.length)) < sizes.length) {
+            for (int i = start; i < start + length; i++) {
+                setSize(i, size);
+            }
+        } else {
+            int[] all = sizes;
+            Arrays.fill(all, start, start + length, size);
+            setSizes(all);
+        }
+    }
+
+    /**
+     * @return the number of entries.
+     */
+    public int getEntryCount() {
+        return sizes.length;
+    }
+
+    /**
+     * Returns the size of the given entry, 0 if out of range.
+     *
+     * @param index the entry
+     * @return the size of the entry
+     */
+    public int getSize(int index) {
+        return index >= 0 && index < sizes.length ? sizes[index] : 0;
+    }
+
+    /**
+     * Sets the size of the given entry, in O(log n). Does nothing if out of range.
+     *
+     * @param index the entry
+     * @param size  the size of the entry
+     */
+    public void setSize(int index, int size) {
+        if (index < 0 || index >= sizes.length)
+            return;
+        int delta = size - sizes[index];
+        if (delta == 0)
+            return;
+        sizes[index] = size;
+        for (int i = index + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Returns the start position of the given entry, that is the sum of the sizes of
+     * the entries before it, in O(log n).
+     *
+     * @param index the entry, clipped to the entries
+     * @return the start position of the entry
+     */
+    public int getPosition(int index) {
+        int position = 0;
+        for (int i = Math.min(Math.max(index, 0), sizes.length); i > 0; i -= i & -i) {
+            position += tree[i];
+        }
+        return position;
+    }
+
+    /**
+     * Returns the entry at the given position, in O(log n).
+     *
+     * @param position the position
+     * @return the entry containing the position, 0 for negative positions and the
+     * number of entries for positions beyond the last entry
+     */
+    public int getIndex(int position) {
+        if (position < 0)
+            return 0;
+        int index = 0;
+        int remaining = position;
+        for (int step = Integer.highestOneBit(sizes.length); step != 0; step >>= 1) {
+            int next = index + step;
+            if (next < tree.length && tree[next] <= remaining) {
+                index = next;
+                remaining -= tree[next];
+            }
+        }
+        return index;
+    }
+
+    /**
+     * @return the sum of the sizes of all entries.
+     */
+    public int getTotalSize() {
+        return getPosition(sizes.length);
+    }
+}
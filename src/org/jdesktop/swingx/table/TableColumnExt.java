@@ -21,6 +21,7 @@
 
 package org.jdesktop.swingx.table;
 
+import org.jdesktop.swingx.decorator.ComponentAdapter;
 import org.jdesktop.swingx.decorator.CompoundHighlighter;
 import org.jdesktop.swingx.decorator.Highlighter;
 import org.jdesktop.swingx.plaf.UIDependent;
@@ -132,6 +133,10 @@ public class TableColumnExt extends TableColumn implements UIDependent {
      * per-column editable property. Initialized to <code>true</code>.
      */
     protected boolean editable = true;
+    /**
+     * per-column autoPack property. Initialized to <code>false</code>.
+     */
+    protected boolean autoPack;
     /**
      * per-column tool tip text.
      */
@@ -240,6 +245,30 @@ public class TableColumnExt extends TableColumn implements UIDependent {
         return getCompoundHighlighter().getHighlighters();
     }
 
+    /**
+     * Applies the column's <code>Highlighter</code>s to the given rendering component,
+     * without copying them as getHighlighters does. Called by JXTable for every cell.
+     *
+     * @param renderer the rendering component to highlight
+     * @param adapter  the adapter of the cell to render
+     * @return the highlighted rendering component
+     */
+    public Component highlight(Component renderer, ComponentAdapter adapter) {
+        return compoundHighlighter != null ? compoundHighlighter.highlight(renderer, adapter) : renderer;
+    }
+
+    /**
+     * Drops the column's <code>Highlighter</code>s in scope per column. Called by
+     * JXTable after a change of the columns the scopes depend on.
+     *
+     * @see CompoundHighlighter#invalidateColumnScopes()
+     */
+    public void invalidateHighlighterColumnScopes() {
+        if (compoundHighlighter != null) {
+            compoundHighlighter.invalidateColumnScopes();
+        }
+    }
+
     /**
      * Appends a <code>Highlighter</code> to the end of the list of used
      * <code>Highlighter</code>s. The argument must not be null.
@@ -448,6 +477,34 @@ public class TableColumnExt extends TableColumn implements UIDependent {
         return sortable;
     }
 
+    /**
+     * Sets the autoPack property. If true, <code>JXTable</code> keeps the
+     * preferred width of this column fitted to its content while the model
+     * changes, measuring only the changed rows.
+     *
+     * @param autoPack boolean indicating whether or not the preferred width
+     *                 of this column follows its content
+     * @see #isAutoPack
+     * @see ColumnWidthTracker
+     */
+    public void setAutoPack(boolean autoPack) {
+        boolean old = isAutoPack();
+        this.autoPack = autoPack;
+        firePropertyChange("autoPack", old, isAutoPack());
+    }
+
+    /**
+     * Returns the autoPack property.
+     * The default value is <code>false</code>.
+     *
+     * @return boolean indicating whether the preferred width of this column
+     * follows its content
+     * @see #setAutoPack
+     */
+    public boolean isAutoPack() {
+        return autoPack;
+    }
+
     /**
      * Registers the text to display in the column's tool tip.
      * Typically, this is used by <code>JXTableHeader</code> to
@@ -636,6 +693,7 @@ public class TableColumnExt extends TableColumn implements UIDependent {
         setVisible(original.isVisible());
         setSortable(original.isSortable());
         setComparator(original.getComparator());
+        setAutoPack(original.isAutoPack());
         copyClientPropertiesFrom(original);
 
         if (original.compoundHighlighter != null) {
@@ -26,17 +26,28 @@ import javax.swing.SwingUtilities;
 import javax.swing.event.TableModelEvent;
 import javax.swing.event.TableModelListener;
 import javax.swing.table.TableModel;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.ComponentListener;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
+import java.util.BitSet;
 
 import static org.jdesktop.swingx.table.TableUtilities.isDataChanged;
-import static org.jdesktop.swingx.table.TableUtilities.isInsert;
 import static org.jdesktop.swingx.table.TableUtilities.isStructureChanged;
 import static org.jdesktop.swingx.table.TableUtilities.isUpdate;
 import static org.jdesktop.swingx.table.TableUtilities.setPreferredRowHeight;
 
 /**
  * A controller to adjust JTable rowHeight based on sizing requirements of its renderers.
+ * <p>
+ * Only the rows which become visible are measured, the other rows keep the table's
+ * rowHeight as an estimate until scrolled into view. Rows are measured once until
+ * changed, so that installing on a large table and scrolling through it cost
+ * about the same as rendering. A JXTable keeps the heights in a RowHeightIndex,
+ * which makes setting them and mapping positions to rows O(log n).
  *
  * @author Jeanette Winzenburg, Berlin
  */
@@ -45,6 +56,12 @@ public class TableRowHeightController {
     private JTable table;
     private TableModelListener tableModelListener;
     private PropertyChangeListener tablePropertyListener;
+    private ComponentListener tableComponentListener;
+
+    /**
+     * the measured rows in model coordinates.
+     */
+    private final BitSet measuredRows = new BitSet();
 
     /**
      * Instantiates an unbound TableRowHeightController.
@@ -85,32 +102,55 @@ public class TableRowHeightController {
         if (table == null)
             return;
         uninstallListeners();
+        measuredRows.clear();
         table = null;
     }
 
     /**
-     * Sets the row heights of the rows in the range of first- to lastRow, inclusive.
-     * The coordinates are model indices.
+     * Marks the rows in the range of first- to lastRow, inclusive, as changed and sets
+     * the row heights of the visible rows. The coordinates are model indices.
      *
      * @param firstRow the first row in model coordinates
      * @param lastRow  the last row in model coordinates
      */
     protected void updatePreferredRowHeights(int firstRow, int lastRow) {
-        for (int row = firstRow; row <= lastRow; row++) {
-            int viewRow = table.convertRowIndexToView(row);
-            if (viewRow >= 0) {
-                setPreferredRowHeight(table, viewRow);
-            }
-        }
+        measuredRows.clear(firstRow, lastRow + 1);
+        updateVisibleRowHeights();
     }
 
     /**
-     * Sets the row heights of all rows.
+     * Marks all rows as changed and sets the row heights of the visible rows.
      */
     protected void updatePreferredRowHeights() {
-        if (table.getRowCount() == 0)
+        measuredRows.clear();
+        updateVisibleRowHeights();
+    }
+
+    /**
+     * Sets the row heights of the visible rows not measured since changed. The
+     * heights set are taken into account while walking down the visible rect, so
+     * all rows which end up visible are measured.
+     */
+    protected void updateVisibleRowHeights() {
+        if (table == null || table.getRowCount() == 0)
+            return;
+        Rectangle visible = table.getVisibleRect();
+        if (visible.height <= 0)
             return;
-        updatePreferredRowHeights(0, table.getModel().getRowCount() - 1);
+        int row = table.rowAtPoint(new Point(visible.x, visible.y));
+        if (row < 0)
+            return;
+        int y = table.getCellRect(row, 0, true).y;
+        int bottom = visible.y + visible.height;
+        while (row < table.getRowCount() && y < bottom) {
+            int modelRow = table.convertRowIndexToModel(row);
+            if (!measuredRows.get(modelRow)) {
+                measuredRows.set(modelRow);
+                setPreferredRowHeight(table, row);
+            }
+            y += table.getRowHeight(row);
+            row++;
+        }
     }
 
     /**
@@ -139,6 +179,9 @@ public class TableRowHeightController {
                 SwingUtilities.invokeLater(() -> {
                     if ("model".equals(evt.getPropertyName())) {
                         updateModel((TableModel) evt.getOldValue());
+                    } else if ("rowHeight".equals(evt.getPropertyName())) {
+                        // the table dropped the heights of all rows
+                        updatePreferredRowHeights();
                     }
                 });
             }
@@ -156,10 +199,12 @@ public class TableRowHeightController {
             private void invokedTableChanged(TableModelEvent e) {
                 if (isStructureChanged(e) || isDataChanged(e)) {
                     updatePreferredRowHeights();
-                } else if (isUpdate(e) || isInsert(e)) {
+                } else if (isUpdate(e)) {
                     updatePreferredRowHeights(e.getFirstRow(), e.getLastRow());
+                } else {
+                    // the following rows moved
+                    updatePreferredRowHeights(e.getFirstRow(), Math.max(e.getLastRow(), measuredRows.length()));
                 }
-                // do nothing on delete
             }
         };
     }
@@ -169,12 +214,14 @@ public class TableRowHeightController {
      */
     private void uninstallListeners() {
         table.removePropertyChangeListener(getPropertyChangeListener());
+        table.removeComponentListener(getComponentListener());
         table.getModel().removeTableModelListener(getTableModelListener());
         // whatever else turns out to be needed
     }
 
     private void installListeners() {
         table.addPropertyChangeListener(getPropertyChangeListener());
+        table.addComponentListener(getComponentListener());
         table.getModel().addTableModelListener(getTableModelListener());
         // whatever else turns out to be needed
     }
@@ -186,6 +233,39 @@ public class TableRowHeightController {
         return tableModelListener;
     }
 
+    /**
+     * Creates the listener to measure the rows which become visible: the table is
+     * moved when scrolled in its viewport and resized on model changes.
+     *
+     * @return the listener to the table's bounds
+     */
+    protected ComponentListener createComponentListener() {
+        return new ComponentAdapter() {
+
+            @Override
+            public void componentMoved(ComponentEvent e) {
+                updateVisibleRowHeights();
+            }
+
+            @Override
+            public void componentResized(ComponentEvent e) {
+                updateVisibleRowHeights();
+            }
+
+            @Override
+            public void componentShown(ComponentEvent e) {
+                updateVisibleRowHeights();
+            }
+        };
+    }
+
+    protected ComponentListener getComponentListener() {
+        if (tableComponentListener == null) {
+            tableComponentListener = createComponentListener();
+        }
+        return tableComponentListener;
+    }
+
     protected PropertyChangeListener getPropertyChangeListener() {
         if (tablePropertyListener == null) {
             tablePropertyListener = createTablePropertyListener();
@@ -0,0 +1,286 @@
+package org.jdesktop.swingx.table;
+
+import org.jdesktop.swingx.util.Contract;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A cache of the rendered regions of a table as square image tiles, within a
+ * memory budget. The tiles form a grid in the table's coordinates, the tile at
+ * grid column <code>x</code> and row <code>y</code> covers the table's region
+ * starting at <code>(x * tileSize, y * tileSize)</code>, clipped to the table's
+ * bounds. When the budget is exceeded, the least recently used tiles are evicted.
+ * <p>
+ * The table invalidates the tiles intersecting every region it repaints, so all
+ * changes of the table's state which repaint the table, like changes of the model,
+ * the column model, the selection or the highlighters, invalidate exactly the tiles
+ * of the affected cells.
+ * <p>
+ * The hit and miss counts are kept for tuning the memory budget against the
+ * typical scrolling range.
+ *
+ * @see org.jdesktop.swingx.JXTable#setTileCacheEnabled(boolean)
+ */
+public class TableTileCache {
+
+    /**
+     * The default edge length of the tiles, in pixels.
+     */
+    public static final int DEFAULT_TILE_SIZE = 256;
+
+    /**
+     * The default memory budget, in bytes.
+     */
+    public static final long DEFAULT_MEMORY_BUDGET = 32L * 1024 * 1024;
+
+    private final int tileSize;
+    private long memoryBudget;
+    private long memoryUsed;
+
+    /**
+     * the tiles keyed by their grid position, in least recently used order.
+     */
+    private final Map<Long, BufferedImage> tiles = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * the size of the table the tiles were rendered for.
+     */
+    private int width;
+    private int height;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private long invalidationCount;
+
+    /**
+     * Instantiates a cache with the default tile size and memory budget.
+     */
+    public TableTileCache() {
+        this(DEFAULT_TILE_SIZE, DEFAULT_MEMORY_BUDGET);
+    }
+
+    /**
+     * Instantiates a cache with the given tile size and memory budget.
+     *
+     * @param tileSize     the edge length of the tiles in pixels, must be positive
+     * @param memoryBudget the maximal memory used by the tiles in bytes, must not be
+     *                     negative
+     * @throws IllegalArgumentException if the tile size isn't positive or the memory
+     *                                  budget is negative
+     */
+    public TableTileCache(int tileSize, long memoryBudget) {
+        if (tileSize <= 0)
+            throw new IllegalArgumentException("tileSize must be positive but was: " + tileSize);
+        this.tileSize = tileSize;
+        setMemoryBudget(memoryBudget);
+    }
+
+    /**
+     * @return the edge length of the tiles, in pixels.
+     */
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    /**
+     * Sets the maximal memory used by the tiles, evicting the least recently used
+     * tiles if it is exceeded. A budget of 0 disables caching.
+     *
+     * @param memoryBudget the maximal memory used by the tiles in bytes, must not be
+     *                     negative
+     * @throws IllegalArgumentException if the memory budget is negative
+     */
+    public void setMemoryBudget(long memoryBudget) {
+        if (memoryBudget < 0)
+            throw new IllegalArgumentException("memoryBudget must not be negative but was: " + memoryBudget);
+        this.memoryBudget = memoryBudget;
+        evict();
+    }
+
+    /**
+     * @return the maximal memory used by the tiles, in bytes.
+     */
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    /**
+     * @return the memory used by the cached tiles, in bytes.
+     */
+    public long getMemoryUsed() {
+        return memoryUsed;
+    }
+
+    /**
+     * @return the number of cached tiles.
+     */
+    public int getTileCount() {
+        return tiles.size();
+    }
+
+    /**
+     * Sets the size of the table the tiles are rendered for. If it differs from the
+     * previous size, invalidates the tiles at the edges which were clipped to the
+     * smaller of both sizes.
+     *
+     * @param width  the table's width
+     * @param height the table's height
+     */
+    public void setTableSize(int width, int height) {
+        if (width != this.width) {
+            invalidate(Math.min(width, this.width), 0, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        }
+        if (height != this.height) {
+            invalidate(0, Math.min(height, this.height), Integer.MAX_VALUE, Integer.MAX_VALUE);
+        }
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Returns the tile at the given grid position, counting a hit or a miss.
+     *
+     * @param column the tile's column in the grid
+     * @param row    the tile's row in the grid
+     * @return the cached tile or null if not cached
+     */
+    public BufferedImage getTile(int column, int row) {
+        BufferedImage tile = tiles.get(key(column, row));
+        if (tile != null) {
+            hitCount++;
+        } else {
+            missCount++;
+        }
+        return tile;
+    }
+
+    /**
+     * Caches the tile at the given grid position, evicting the least recently used
+     * tiles if the memory budget is exceeded.
+     *
+     * @param column the tile's column in the grid
+     * @param row    the tile's row in the grid
+     * @param tile   the rendered tile, must not be null
+     */
+    public void putTile(int column, int row, BufferedImage tile) {
+        Contract.asNotNull(tile, "tile must not be null");
+        BufferedImage old = tiles.put(key(column, row), tile);
+        if (old != null) {
+            memoryUsed -= sizeOf(old);
+        }
+        memoryUsed += sizeOf(tile);
+        evict();
+    }
+
+    /**
+     * Removes the tiles intersecting the given region of the table.
+     *
+     * @param x      the x coordinate of the region
+     * @param y      the y coordinate of the region
+     * @param width  the width of the region
+     * @param height the height of the region
+     */
+    public void invalidate(int x, int y, int width, int height) {
+        invalidationCount++;
+        if (tiles.isEmpty() || width <= 0 || height <= 0)
+            return;
+        long right = (long) x + width;
+        long bottom = (long) y + height;
+        for (Iterator<Map.Entry<Long, BufferedImage>> it = tiles.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Long, BufferedImage> entry = it.next();
+            long tileX = (long) column(entry.getKey()) * tileSize;
+            long tileY = (long) row(entry.getKey()) * tileSize;
+            if (tileX < right && x < tileX + tileSize && tileY < bottom && y < tileY + tileSize) {
+                memoryUsed -= sizeOf(entry.getValue());
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Removes all tiles.
+     */
+    public void invalidateAll() {
+        invalidationCount++;
+        tiles.clear();
+        memoryUsed = 0;
+    }
+
+    /**
+     * Returns the number of invalidations so far. A tile rendered while this changed
+     * might be out of date already.
+     *
+     * @return the number of invalidations
+     */
+    public long getInvalidationCount() {
+        return invalidationCount;
+    }
+
+    /**
+     * @return the number of tiles found in the cache.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return the number of tiles not found in the cache, which had to be rendered.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return the number of tiles evicted to keep within the memory budget.
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * @return the ratio of hits to all lookups, or 0 if there were none.
+     */
+    public double getHitRate() {
+        long lookups = hitCount + missCount;
+        return lookups == 0 ? 0 : (double) hitCount / lookups;
+    }
+
+    /**
+     * Resets the hit, miss and eviction counts.
+     */
+    public void resetStatistics() {
+        hitCount = 0;
+        missCount = 0;
+        evictionCount = 0;
+    }
+
+    private void evict() {
+        for (Iterator<BufferedImage> it = tiles.values().iterator(); memoryUsed > memoryBudget && it.hasNext(); ) {
+            memoryUsed -= sizeOf(it.next());
+            it.remove();
+            evictionCount++;
+        }
+    }
+
+    private static long sizeOf(BufferedImage tile) {
+        DataBuffer buffer = tile.getRaster().getDataBuffer();
+        return (long) buffer.getSize() * buffer.getNumBanks() * DataBuffer.getDataTypeSize(buffer.getDataType()) / 8;
+    }
+
+    private static Long key(int column, int row) {
+        return ((long) row << 32) | (column & 0xFFFFFFFFL);
+    }
+
+    private static int column(long key) {
+        return (int) key;
+    }
+
+    private static int row(long key) {
+        return (int) (key >>> 32);
+    }
+}
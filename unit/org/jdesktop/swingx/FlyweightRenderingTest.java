@@ -0,0 +1,166 @@
+package org.jdesktop.swingx;
+
+import org.jdesktop.swingx.decorator.BorderHighlighter;
+import org.jdesktop.swingx.decorator.ColorHighlighter;
+import org.jdesktop.swingx.decorator.FontHighlighter;
+import org.jdesktop.swingx.decorator.HighlighterFactory;
+import org.jdesktop.swingx.decorator.PatternPredicate;
+import org.jdesktop.swingx.renderer.DefaultTableRenderer;
+import org.jdesktop.swingx.renderer.FlyweightAware;
+import org.jdesktop.swingx.renderer.LabelProvider;
+import org.junit.Test;
+
+import javax.swing.BorderFactory;
+import javax.swing.JComponent;
+import javax.swing.SwingConstants;
+import javax.swing.table.DefaultTableModel;
+import javax.swing.table.TableCellRenderer;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.ComponentOrientation;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that flyweight rendering paints the same pixels as the regular rendering.
+ */
+public class FlyweightRenderingTest {
+
+    private static final int ROWS = 30;
+
+    @Test
+    public void testPlainCells() {
+        assertSamePixels(createTable(false), createTable(true));
+    }
+
+    @Test
+    public void testSelectedCells() {
+        JXTable table = createTable(false);
+        JXTable flyweight = createTable(true);
+        table.setRowSelectionInterval(2, 6);
+        flyweight.setRowSelectionInterval(2, 6);
+        assertSamePixels(table, flyweight);
+    }
+
+    @Test
+    public void testFocusedCell() {
+        JXTable table = createTable(false);
+        JXTable flyweight = createTable(true);
+        // the table can't be focused headless, the renderer is asked for the focused cell directly
+        for (boolean selected : new boolean[] {false, true}) {
+            assertSamePixels(paintFocusedCell(table, selected), paintFocusedCell(flyweight, selected));
+        }
+    }
+
+    @Test
+    public void testRightToLeft() {
+        JXTable table = createTable(false);
+        JXTable flyweight = createTable(true);
+        table.applyComponentOrientation(ComponentOrientation.RIGHT_TO_LEFT);
+        flyweight.applyComponentOrientation(ComponentOrientation.RIGHT_TO_LEFT);
+        table.setRowSelectionInterval(2, 6);
+        flyweight.setRowSelectionInterval(2, 6);
+        assertSamePixels(table, flyweight);
+    }
+
+    @Test
+    public void testHighlightedCells() {
+        JXTable table = createTable(false);
+        JXTable flyweight = createTable(true);
+        for (JXTable t : new JXTable[] {table, flyweight}) {
+            t.setHighlighters(HighlighterFactory.createSimpleStriping(),
+                new ColorHighlighter(new PatternPredicate("5"), Color.ORANGE, Color.BLUE),
+                new FontHighlighter(new PatternPredicate("7"), t.getFont().deriveFont(Font.BOLD)),
+                new BorderHighlighter(new PatternPredicate("9"), BorderFactory.createLineBorder(Color.RED)));
+            t.setRowSelectionInterval(4, 8);
+        }
+        assertSamePixels(table, flyweight);
+    }
+
+    @Test
+    public void testList() {
+        String[] items = new String[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            items[i] = "item " + i;
+        }
+        JXList<String> list = new JXList<>(items);
+        JXList<String> flyweight = new JXList<>(items);
+        flyweight.setFlyweightRendering(true);
+        for (JXList<?> l : Arrays.asList(list, flyweight)) {
+            l.setRolloverEnabled(false);
+            l.setHighlighters(HighlighterFactory.createSimpleStriping());
+            l.setSelectedIndex(3);
+            l.setSize(200, ROWS * 20);
+            l.doLayout();
+        }
+        assertSamePixels(list, flyweight);
+    }
+
+    private static JXTable createTable(boolean flyweight) {
+        DefaultTableModel model = new DefaultTableModel(new Object[] {"text", "number", "centered"}, ROWS) {
+            @Override
+            public Class<?> getColumnClass(int column) {
+                return column == 1 ? Integer.class : String.class;
+            }
+        };
+        for (int row = 0; row < ROWS; row++) {
+            model.setValueAt("row " + row + (row % 7 == 0 ? " with a text too long for the column" : ""), row, 0);
+            model.setValueAt(row * 137, row, 1);
+            model.setValueAt(row % 2 == 0 ? "Wide" : "aW", row, 2);
+        }
+        JXTable table = new JXTable(model);
+        table.setRolloverEnabled(false);
+        table.setFlyweightRendering(flyweight);
+        table.getColumnExt(2).setCellRenderer(new DefaultTableRenderer(new LabelProvider(SwingConstants.CENTER)));
+        table.setSize(450, ROWS * table.getRowHeight());
+        table.doLayout();
+        return table;
+    }
+
+    private static BufferedImage paintFocusedCell(JXTable table, boolean selected) {
+        int row = 3;
+        int column = 0;
+        Rectangle cell = table.getCellRect(row, column, false);
+        TableCellRenderer renderer = table.getCellRenderer(row, column);
+        Component stamp = renderer.getTableCellRendererComponent(table, table.getValueAt(row, column),
+            selected, true, row, column);
+        assertTrue(stamp instanceof FlyweightAware);
+        ((FlyweightAware) stamp).setFlyweightPainting(table.isFlyweightRendering());
+        stamp.setBounds(0, 0, cell.width, cell.height);
+        return paint(stamp, cell.width, cell.height);
+    }
+
+    private static void assertSamePixels(JComponent expected, JComponent actual) {
+        assertSamePixels(paint(expected, expected.getWidth(), expected.getHeight()),
+            paint(actual, actual.getWidth(), actual.getHeight()));
+    }
+
+    private static void assertSamePixels(BufferedImage expected, BufferedImage actual) {
+        assertEquals(expected.getWidth(), actual.getWidth());
+        assertEquals(expected.getHeight(), actual.getHeight());
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                if (expected.getRGB(x, y) != actual.getRGB(x, y)) {
+                    assertEquals("pixel at " + x + ", " + y, expected.getRGB(x, y), actual.getRGB(x, y));
+                }
+            }
+        }
+    }
+
+    private static BufferedImage paint(Component component, int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            component.paint(g);
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+}
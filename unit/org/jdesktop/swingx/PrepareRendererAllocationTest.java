@@ -0,0 +1,94 @@
+package org.jdesktop.swingx;
+
+import org.jdesktop.swingx.decorator.ColorHighlighter;
+import org.jdesktop.swingx.decorator.HighlightPredicate;
+import org.jdesktop.swingx.decorator.HighlighterFactory;
+import org.jdesktop.swingx.decorator.PatternPredicate;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.swing.table.DefaultTableModel;
+import javax.swing.table.TableCellRenderer;
+import java.awt.Color;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that <code>JXTable.prepareRenderer</code> doesn't allocate in steady state
+ * for text and boolean cells, with table and column highlighters. Number and date
+ * cells allocate the formatted string and are not covered.
+ */
+public class PrepareRendererAllocationTest {
+
+    private static final int ROWS = 1000;
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int MEASURED_ROUNDS = 10;
+
+    private com.sun.management.ThreadMXBean threadBean;
+    private JXTable table;
+
+    @Before
+    public void setUp() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        threadBean = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        DefaultTableModel model = new DefaultTableModel(new Object[] {"text", "flag"}, ROWS) {
+            @Override
+            public Class<?> getColumnClass(int column) {
+                return column == 0 ? String.class : Boolean.class;
+            }
+        };
+        for (int row = 0; row < ROWS; row++) {
+            model.setValueAt("row " + row, row, 0);
+            model.setValueAt(row % 3 == 0, row, 1);
+        }
+        table = new JXTable(model);
+        table.setRolloverEnabled(false);
+        table.setSize(400, ROWS * table.getRowHeight());
+        table.setRowSelectionInterval(3, 5);
+    }
+
+    @Test
+    public void testPlainCells() {
+        assertNoAllocation();
+    }
+
+    @Test
+    public void testHighlightedCells() {
+        table.setHighlighters(HighlighterFactory.createSimpleStriping(),
+            new ColorHighlighter(new PatternPredicate("7"), Color.ORANGE, Color.BLUE));
+        table.getColumnExt(0).addHighlighter(new ColorHighlighter(HighlightPredicate.EVEN, Color.LIGHT_GRAY, null));
+        assertNoAllocation();
+    }
+
+    private void assertNoAllocation() {
+        for (int column = 0; column < table.getColumnCount(); column++) {
+            TableCellRenderer renderer = table.getCellRenderer(0, column);
+            for (int round = 0; round < WARMUP_ROUNDS; round++) {
+                prepareColumn(renderer, column);
+            }
+            // the least of some rounds, robust against the odd allocation by the runtime
+            long allocated = Long.MAX_VALUE;
+            for (int round = 0; round < MEASURED_ROUNDS; round++) {
+                long before = threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+                prepareColumn(renderer, column);
+                long after = threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+                allocated = Math.min(allocated, after - before);
+            }
+            assertTrue("column " + column + " allocated " + allocated + " bytes for " + ROWS + " cells",
+                allocated < ROWS);
+        }
+    }
+
+    private void prepareColumn(TableCellRenderer renderer, int column) {
+        for (int row = 0; row < ROWS; row++) {
+            table.prepareRenderer(renderer, row, column);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package org.jdesktop.swingx;
+
+import org.jdesktop.swingx.decorator.ColorHighlighter;
+import org.jdesktop.swingx.decorator.HighlightPredicate;
+import org.jdesktop.swingx.decorator.HighlighterFactory;
+import org.jdesktop.swingx.decorator.PatternPredicate;
+import org.jdesktop.swingx.decorator.ShadingColorHighlighter;
+import org.junit.Test;
+
+import javax.swing.table.DefaultTableModel;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that the cells of a table painted with row bands look the same as the
+ * cells highlighted one by one, with highlighters following the striping which
+ * derive from the renderer's background.
+ */
+public class RowBandsTest {
+
+    private static final int ROWS = 12;
+
+    @Test
+    public void testShading() {
+        // the example of JXTable's class documentation
+        JXTable table = createTable();
+        table.setHighlighters(HighlighterFactory.createSimpleStriping(),
+            new ColorHighlighter(new PatternPredicate("^M", 1), null, Color.MAGENTA, null, Color.MAGENTA),
+            new ShadingColorHighlighter(new HighlightPredicate.ColumnHighlightPredicate(1)));
+        assertSameAsCells(table);
+    }
+
+    @Test
+    public void testTranslucentBackground() {
+        JXTable table = createTable();
+        table.setHighlighters(HighlighterFactory.createSimpleStriping(),
+            new ColorHighlighter(new PatternPredicate("1"), new Color(255, 0, 0, 80), null));
+        assertSameAsCells(table);
+    }
+
+    @Test
+    public void testColumnHighlighter() {
+        JXTable table = createTable();
+        table.setHighlighters(HighlighterFactory.createSimpleStriping());
+        table.getColumnExt(0).addHighlighter(new ColorHighlighter(HighlightPredicate.ALWAYS, new Color(0, 0, 255, 60), null));
+        assertSameAsCells(table);
+    }
+
+    private static JXTable createTable() {
+        DefaultTableModel model = new DefaultTableModel(new Object[] {"name", "other"}, ROWS);
+        for (int row = 0; row < ROWS; row++) {
+            model.setValueAt((row % 3 == 0 ? "M" : "N") + row, row, 0);
+            model.setValueAt((row % 4 == 0 ? "M" : "x") + row, row, 1);
+        }
+        JXTable table = new JXTable(model);
+        table.setRolloverEnabled(false);
+        table.setRowSelectionInterval(2, 3);
+        table.setSize(300, ROWS * table.getRowHeight());
+        table.doLayout();
+        return table;
+    }
+
+    /**
+     * Compares the painted table, with bands, with each cell's renderer prepared
+     * outside painting, without bands.
+     */
+    private static void assertSameAsCells(JXTable table) {
+        BufferedImage image = paint(table, table.getWidth(), table.getHeight());
+        for (int row = 0; row < table.getRowCount(); row++) {
+            for (int column = 0; column < table.getColumnCount(); column++) {
+                Rectangle cell = table.getCellRect(row, column, false);
+                Component stamp = table.prepareRenderer(table.getCellRenderer(row, column), row, column);
+                stamp.setBounds(0, 0, cell.width, cell.height);
+                BufferedImage expected = paint(stamp, cell.width, cell.height);
+                for (int y = 0; y < cell.height; y++) {
+                    for (int x = 0; x < cell.width; x++) {
+                        int actual = image.getRGB(cell.x + x, cell.y + y);
+                        if (expected.getRGB(x, y) != actual) {
+                            assertEquals("row " + row + ", column " + column + " at " + x + ", " + y,
+                                expected.getRGB(x, y), actual);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static BufferedImage paint(Component component, int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            component.paint(g);
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+}
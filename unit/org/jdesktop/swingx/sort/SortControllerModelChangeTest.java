@@ -0,0 +1,166 @@
+package org.jdesktop.swingx.sort;
+
+import org.junit.After;
+import org.junit.Test;
+
+import javax.swing.DefaultRowSorter;
+import javax.swing.RowFilter;
+import javax.swing.RowSorter;
+import javax.swing.SortOrder;
+import javax.swing.table.DefaultTableModel;
+import javax.swing.table.TableRowSorter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Vector;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the view order of <code>TableSortController</code> after model changes,
+ * against the sorted and filtered model or the core <code>TableRowSorter</code>.
+ */
+public class SortControllerModelChangeTest {
+
+    private ForkJoinPool pool;
+
+    @After
+    public void tearDown() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testStructureChangeGrowsModelWithPool() {
+        DefaultTableModel model = createModel(100);
+        TableSortController<DefaultTableModel> controller = new TableSortController<>(model);
+        pool = new ForkJoinPool(2);
+        controller.setSortPool(pool);
+        controller.setParallelSortThreshold(0);
+        controller.setRowFilter(RowFilter.numberFilter(RowFilter.ComparisonType.AFTER, 2, 1));
+        controller.setSortKeys(Collections.singletonList(new RowSorter.SortKey(0, SortOrder.DESCENDING)));
+        assertSortedAndFiltered(controller, model);
+
+        // a JXTable creates a new controller on structure changes, notified directly here
+        model.setDataVector(createModel(300).getDataVector(), columnNames());
+        controller.modelStructureChanged();
+        controller.setSortKeys(Collections.singletonList(new RowSorter.SortKey(0, SortOrder.DESCENDING)));
+        assertSortedAndFiltered(controller, model);
+    }
+
+    @Test
+    public void testUpdatesWithoutSortingAsTableRowSorter() {
+        assertSameAsTableRowSorter(false);
+    }
+
+    @Test
+    public void testUpdatesWithoutSortingAsTableRowSorterWithPool() {
+        assertSameAsTableRowSorter(true);
+    }
+
+    /**
+     * Applies random changes, small and large, with sortsOnUpdates false and compares
+     * the mapping with TableRowSorter's after each.
+     */
+    private void assertSameAsTableRowSorter(boolean withPool) {
+        DefaultTableModel model = createModel(200);
+        TableRowSorter<DefaultTableModel> expected = new TableRowSorter<>(model);
+        TableSortController<DefaultTableModel> actual = new TableSortController<>(model);
+        if (withPool) {
+            // all changes processed with the view order of the controller
+            pool = new ForkJoinPool(2);
+            actual.setSortPool(pool);
+            actual.setParallelSortThreshold(0);
+        }
+        List<RowSorter.SortKey> keys = Collections.singletonList(new RowSorter.SortKey(0, SortOrder.ASCENDING));
+        RowFilter<Object, Object> filter = RowFilter.numberFilter(RowFilter.ComparisonType.AFTER, 0, 1);
+        for (DefaultRowSorter<DefaultTableModel, Integer> sorter : Arrays.asList(expected, actual)) {
+            sorter.setSortsOnUpdates(false);
+            sorter.setSortKeys(keys);
+            sorter.setRowFilter(filter);
+        }
+        Random random = new Random(42);
+        for (int change = 0; change < 2000; change++) {
+            int rowCount = model.getRowCount();
+            int firstRow = rowCount == 0 ? 0 : random.nextInt(rowCount);
+            int endRow = firstRow + (random.nextInt(10) == 0 ? random.nextInt(rowCount / 5 + 1) : 0);
+            int type = rowCount < 50 ? 0 : random.nextInt(3);
+            if (type == 0) {
+                for (int row = firstRow; row <= endRow; row++) {
+                    model.insertRow(firstRow, new Object[] {random.nextInt(100), random.nextInt(3)});
+                }
+                notify(expected, actual, s -> s.rowsInserted(firstRow, endRow));
+            } else if (type == 1) {
+                int last = Math.min(endRow, rowCount - 1);
+                for (int row = last; row >= firstRow; row--) {
+                    model.removeRow(row);
+                }
+                notify(expected, actual, s -> s.rowsDeleted(firstRow, last));
+            } else {
+                int last = Math.min(endRow, rowCount - 1);
+                for (int row = firstRow; row <= last; row++) {
+                    model.setValueAt(random.nextInt(100), row, 0);
+                    model.setValueAt(random.nextInt(3), row, 1);
+                }
+                notify(expected, actual, s -> s.rowsUpdated(firstRow, last));
+            }
+            assertEquals(expected.getViewRowCount(), actual.getViewRowCount());
+            for (int view = 0; view < expected.getViewRowCount(); view++) {
+                assertEquals("change " + change + ", view row " + view,
+                    expected.convertRowIndexToModel(view), actual.convertRowIndexToModel(view));
+            }
+        }
+    }
+
+    /**
+     * Notifies both sorters of a change to the model, which doesn't notify them itself.
+     */
+    private static void notify(RowSorter<?> expected, RowSorter<?> actual, Consumer<RowSorter<?>> notification) {
+        notification.accept(expected);
+        notification.accept(actual);
+    }
+
+    private static void assertSortedAndFiltered(RowSorter<?> controller, DefaultTableModel model) {
+        int expected = 0;
+        for (int row = 0; row < model.getRowCount(); row++) {
+            if ((Integer) model.getValueAt(row, 1) > 2) {
+                expected++;
+            }
+        }
+        assertEquals(expected, controller.getViewRowCount());
+        int previous = Integer.MAX_VALUE;
+        for (int view = 0; view < controller.getViewRowCount(); view++) {
+            int row = controller.convertRowIndexToModel(view);
+            assertTrue((Integer) model.getValueAt(row, 1) > 2);
+            int value = (Integer) model.getValueAt(row, 0);
+            assertTrue("view row " + view, value <= previous);
+            previous = value;
+        }
+    }
+
+    private static DefaultTableModel createModel(int rows) {
+        DefaultTableModel model = new DefaultTableModel(columnNames().toArray(), rows) {
+            @Override
+            public Class<?> getColumnClass(int column) {
+                return Integer.class;
+            }
+        };
+        for (int row = 0; row < rows; row++) {
+            model.setValueAt((row * 7919) % 1000, row, 0);
+            model.setValueAt(row % 5, row, 1);
+        }
+        return model;
+    }
+
+    private static Vector<String> columnNames() {
+        Vector<String> names = new java.util.Vector<>();
+        names.add("value");
+        names.add("group");
+        return names;
+    }
+}
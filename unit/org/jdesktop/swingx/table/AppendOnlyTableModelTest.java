@@ -0,0 +1,78 @@
+package org.jdesktop.swingx.table;
+
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that <code>AppendOnlyTableModel</code> releases the rows it doesn't show anymore.
+ */
+public class AppendOnlyTableModelTest {
+
+    @Test
+    public void testClearReleasesRows() {
+        AppendOnlyTableModel model = createModel(new AppendOnlyTableModel("value"));
+        // some full chunks and a partial one
+        List<WeakReference<Object>> values = append(model, 10000);
+        model.publish();
+        assertEquals(10000, model.getRowCount());
+        model.clear();
+        assertEquals(0, model.getRowCount());
+        assertCollected(values);
+
+        // rows appended after clearing are kept
+        List<WeakReference<Object>> next = append(model, 100);
+        model.publish();
+        assertEquals(100, model.getRowCount());
+        assertTrue(model.getValueAt(0, 0) == next.get(0).get());
+    }
+
+    @Test
+    public void testEvictionReleasesRows() {
+        AppendOnlyTableModel model = createModel(new AppendOnlyTableModel(new String[] {"value"}, null, 100));
+        List<WeakReference<Object>> values = append(model, 1000);
+        model.publish();
+        append(model, 5000);
+        model.publish();
+        assertEquals(100, model.getRowCount());
+        assertCollected(values);
+    }
+
+    /**
+     * Returns the given model, published by the test only.
+     */
+    private static AppendOnlyTableModel createModel(AppendOnlyTableModel model) {
+        model.setPublishDelay(Integer.MAX_VALUE);
+        return model;
+    }
+
+    private static List<WeakReference<Object>> append(AppendOnlyTableModel model, int count) {
+        List<WeakReference<Object>> values = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Object value = new Object();
+            values.add(new WeakReference<>(value));
+            model.append(value);
+        }
+        return values;
+    }
+
+    private static void assertCollected(List<WeakReference<Object>> values) {
+        for (int i = 0; i < 10 && !isCollected(values); i++) {
+            System.gc();
+        }
+        assertTrue("rows not released", isCollected(values));
+    }
+
+    private static boolean isCollected(List<WeakReference<Object>> values) {
+        for (WeakReference<Object> value : values) {
+            if (value.get() != null)
+                return false;
+        }
+        return true;
+    }
+}